@@ -0,0 +1,46 @@
+package com.bincms.benchmark;
+
+import java.lang.reflect.Field;
+
+/**
+ * 벤치마크 픽스처 공통 유틸
+ * - 엔티티 ID는 DB(IDENTITY)에서 채워지므로 리플렉션으로 설정
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static <T> T setField(T target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return target;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("필드를 찾을 수 없습니다: " + name);
+    }
+
+    public static <T> T withId(T entity, Long id) {
+        return setField(entity, "id", id);
+    }
+
+    /**
+     * 길이가 length인 본문 (한글/영문/HTML 혼합)
+     */
+    public static String content(int length) {
+        String unit = "<p>인테리어 시공 후기 Interior review 본문입니다.</p>";
+        StringBuilder sb = new StringBuilder(length + unit.length());
+        while (sb.length() < length) {
+            sb.append(unit);
+        }
+        return sb.substring(0, length);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bincms.common.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 벤치마크
+ * - JwtAuthenticationFilter는 요청마다 검증 + 클레임 추출을 수행하므로 parse 비용이 곧 인증 오버헤드
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider("benchmark-secret-key-must-be-at-least-256-bits-long", 3_600_000L);
+        token = jwtTokenProvider.generateToken("admin", "SYSTEM_ADMIN");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtTokenProvider.generateToken("admin", "SYSTEM_ADMIN");
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String parseSubject() {
+        return jwtTokenProvider.getEmailFromToken(token);
+    }
+
+    /**
+     * JwtAuthenticationFilter와 같은 순서 (검증 + 로그인 ID + 권한)
+     */
+    @Benchmark
+    public String filterPath() {
+        if (!jwtTokenProvider.validateToken(token)) {
+            return null;
+        }
+        return jwtTokenProvider.getEmailFromToken(token) + jwtTokenProvider.getRoleFromToken(token);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bincms.domain.comment.service;
+
+import com.bincms.benchmark.BenchmarkFixtures;
+import com.bincms.domain.board.entity.Board;
+import com.bincms.domain.comment.dto.CommentResponse;
+import com.bincms.domain.comment.entity.Comment;
+import com.bincms.domain.post.entity.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 트리(루트 + 대댓글) 응답 조립 벤치마크
+ * - 대댓글 조회는 Map으로 대체해 DB 없이 DTO 변환 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentTreeBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int rootCount;
+
+    @Param({"0", "5"})
+    private int repliesPerRoot;
+
+    private List<Comment> roots;
+    private Map<Long, List<Comment>> repliesByParentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Board board = BenchmarkFixtures.withId(Board.builder()
+                .boardCode("FREE").boardName("자유게시판").sortOrder(1).build(), 1L);
+        Post post = BenchmarkFixtures.withId(Post.builder()
+                .board(board).title("벤치마크 게시글").content(BenchmarkFixtures.content(500)).noticeYn("N").build(), 1L);
+        LocalDateTime now = LocalDateTime.now();
+        long id = 1;
+        roots = new ArrayList<>(rootCount);
+        repliesByParentId = new HashMap<>();
+        for (int i = 0; i < rootCount; i++) {
+            Comment root = comment(post, null, id++, now);
+            roots.add(root);
+            List<Comment> replies = new ArrayList<>(repliesPerRoot);
+            for (int j = 0; j < repliesPerRoot; j++) {
+                replies.add(comment(post, root, id++, now));
+            }
+            repliesByParentId.put(root.getId(), replies);
+        }
+    }
+
+    @Benchmark
+    public List<CommentResponse> toTree() {
+        return CommentService.toTree(roots, repliesByParentId::get);
+    }
+
+    private static Comment comment(Post post, Comment parent, long id, LocalDateTime regDt) {
+        Comment comment = Comment.builder()
+                .post(post)
+                .parent(parent)
+                .authorName("작성자" + id)
+                .password("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench")
+                .content(BenchmarkFixtures.content(200))
+                .build();
+        BenchmarkFixtures.setField(comment, "regDt", regDt);
+        return BenchmarkFixtures.withId(comment, id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.bincms.domain.file.service;
+
+import com.bincms.benchmark.BenchmarkFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 썸네일 생성 벤치마크 (원본 해상도별, 디코딩 + 축소 + JPG 인코딩 포함)
+ * - 원본은 그라데이션 + 무작위 도형으로 만든 JPG (단색 이미지는 압축이 지나치게 빨라 실제와 다름)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThumbnailBenchmark {
+
+    private static final String DATE_PATH = "bench";
+
+    @Param({"800x600", "1920x1080", "4000x3000"})
+    private String resolution;
+
+    private Path uploadDir;
+    private Path original;
+    private String storedName;
+    private FileService fileService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("bincms-thumbnail-bench");
+        Files.createDirectories(uploadDir.resolve(DATE_PATH));
+        String[] size = resolution.split("x");
+        storedName = "original_" + resolution + ".jpg";
+        original = uploadDir.resolve(DATE_PATH).resolve(storedName);
+        ImageIO.write(sampleImage(Integer.parseInt(size[0]), Integer.parseInt(size[1])), "jpg", original.toFile());
+
+        fileService = new FileService(null, new SimpleMeterRegistry(), null);
+        BenchmarkFixtures.setField(fileService, "uploadDir", uploadDir.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String generateThumbnail() {
+        return fileService.generateThumbnail(original, DATE_PATH, storedName, "jpg");
+    }
+
+    private static BufferedImage sampleImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, new Color(232, 220, 200), width, height, new Color(70, 90, 120)));
+        g2d.fillRect(0, 0, width, height);
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            g2d.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), 160));
+            g2d.fillOval(random.nextInt(width), random.nextInt(height), 20 + random.nextInt(width / 4), 20 + random.nextInt(height / 4));
+        }
+        g2d.dispose();
+        return image;
+    }
+}
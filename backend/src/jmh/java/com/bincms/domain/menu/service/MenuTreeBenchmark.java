@@ -0,0 +1,94 @@
+package com.bincms.domain.menu.service;
+
+import com.bincms.benchmark.BenchmarkFixtures;
+import com.bincms.domain.menu.dto.MenuResponse;
+import com.bincms.domain.menu.entity.Menu;
+import com.bincms.domain.menu.entity.MenuType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 트리 생성/정렬 벤치마크
+ * - 입력은 Repository 조회 결과와 같이 sortOrder, id 순으로 정렬된 목록 (루트 10%, 최대 3단계)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MenuTreeBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int menuCount;
+
+    private List<Menu> menus;
+    private List<MenuResponse> tree;
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Menu> created = new ArrayList<>(menuCount);
+        int rootCount = Math.max(1, menuCount / 10);
+        int[] depths = new int[menuCount + 1];
+        for (int i = 1; i <= menuCount; i++) {
+            Long parentId = null;
+            int depth = 1;
+            if (i > rootCount) {
+                int parent;
+                do {
+                    parent = 1 + random.nextInt(i - 1);
+                } while (depths[parent] >= 3);
+                parentId = (long) parent;
+                depth = depths[parent] + 1;
+            }
+            depths[i] = depth;
+            Menu menu = Menu.builder()
+                    .menuType(MenuType.USER)
+                    .menuName("메뉴 " + i)
+                    .menuUrl("/menu/" + i)
+                    .parentId(parentId)
+                    .depth(depth)
+                    .sortOrder(random.nextInt(100))
+                    .build();
+            created.add(BenchmarkFixtures.withId(menu, (long) i));
+        }
+        created.sort(Comparator.comparing(Menu::getSortOrder).thenComparing(Menu::getId));
+        menus = created;
+    }
+
+    /**
+     * 정렬 벤치마크 입력: 매 호출 전 자식 목록 순서를 섞음
+     */
+    @Setup(Level.Invocation)
+    public void shuffleTree() {
+        if (tree == null) {
+            tree = MenuService.buildMenuTree(menus);
+        }
+        shuffle(tree);
+    }
+
+    @Benchmark
+    public List<MenuResponse> buildMenuTree() {
+        return MenuService.buildMenuTree(menus);
+    }
+
+    @Benchmark
+    public List<MenuResponse> sortMenuTree() {
+        MenuService.sortMenuTree(tree);
+        return tree;
+    }
+
+    private void shuffle(List<MenuResponse> nodes) {
+        Collections.shuffle(nodes, random);
+        for (MenuResponse node : nodes) {
+            shuffle(node.getChildren());
+        }
+    }
+}
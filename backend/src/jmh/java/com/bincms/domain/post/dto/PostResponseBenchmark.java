@@ -0,0 +1,45 @@
+package com.bincms.domain.post.dto;
+
+import com.bincms.benchmark.BenchmarkFixtures;
+import com.bincms.domain.board.entity.Board;
+import com.bincms.domain.post.entity.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Post 엔티티 → PostResponse 변환 벤치마크 (본문 길이별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostResponseBenchmark {
+
+    @Param({"200", "5000", "50000"})
+    private int contentLength;
+
+    private Post post;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Board board = BenchmarkFixtures.withId(Board.builder()
+                .boardCode("NOTICE").boardName("공지사항").sortOrder(1).build(), 1L);
+        post = BenchmarkFixtures.withId(Post.builder()
+                .board(board)
+                .title("벤치마크 게시글 제목")
+                .content(BenchmarkFixtures.content(contentLength))
+                .noticeYn("N")
+                .build(), 1L);
+        BenchmarkFixtures.setField(post, "regDt", LocalDateTime.now());
+        BenchmarkFixtures.setField(post, "modDt", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public PostResponse from() {
+        return PostResponse.from(post);
+    }
+}
@@ -0,0 +1,374 @@
+package com.bincms.loadtest;
+
+import com.bincms.CmsApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * API 부하 테스트 (실제 HTTP 경로 전체: 필터 → 컨트롤러 → 서비스 → JPA → DB)
+ * - 내장 H2(MySQL 호환 모드)로 애플리케이션을 띄우고 LoadTestDataSeeder로 규모를 조절할 수 있는 데이터를 생성
+ * - 시나리오별로 고정 동시성(가상 스레드 worker)으로 일정 시간 요청을 보내고 처리량과 지연 백분위를 측정
+ * - 마지막 mixed 단계는 실제 트래픽 비율(목록/상세 위주, 로그인/업로드 소수)을 섞어 측정
+ * - 결과는 표로 출력하고 JSON(build/reports/load-test/results.json)으로 저장해 변경 전후 비교에 사용
+ *
+ * 실행: ./gradlew apiLoadTest -Pbench.concurrency=32 -Pbench.durationSeconds=20 -Pbench.postsPerBoard=2000
+ */
+public class ApiLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 32);
+    private static final int DURATION_SECONDS = Integer.getInteger("bench.durationSeconds", 20);
+    private static final int WARMUP_SECONDS = Integer.getInteger("bench.warmupSeconds", 10);
+    private static final String SCENARIOS = System.getProperty("bench.scenarios", "browse,detail,comments,search,login,upload,mixed");
+    private static final String OUTPUT = System.getProperty("bench.output", "build/reports/load-test/results.json");
+
+    /** 목록 조회 시 앞쪽 페이지에 몰리도록 하는 최대 페이지 */
+    private static final int MAX_BROWSE_PAGE = 20;
+
+    private static final String[] SEARCH_KEYWORDS = {"거실", "주방", "욕실", "리모델링", "타일", "수납", "아파트", "원룸"};
+
+    public static void main(String[] args) throws Exception {
+        Path uploadDir = Files.createTempDirectory("bincms-load-test");
+        ConfigurableApplicationContext context = SpringApplication.run(CmsApplication.class,
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--file.upload-dir=" + uploadDir.toAbsolutePath());
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadTestDataSeeder.Scale scale = LoadTestDataSeeder.Scale.fromSystemProperties();
+            long seedStart = System.nanoTime();
+            LoadTestDataSeeder.SeededData data = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class),
+                    context.getBean(PasswordEncoder.class), scale).seed();
+            System.out.printf("데이터 생성 %.1fs: %s, 게시글 %d건%n",
+                    (System.nanoTime() - seedStart) / 1_000_000_000.0, scale, data.postIds().size());
+
+            ApiLoadTest loadTest = new ApiLoadTest(baseUrl, data);
+            System.out.printf("부하 테스트: 동시성 %d, 단계별 %ds (워밍업 %ds)%n", CONCURRENCY, DURATION_SECONDS, WARMUP_SECONDS);
+            loadTest.run("warm-up", List.of(Scenario.values()), WARMUP_SECONDS);
+
+            Map<String, Map<Scenario, Result>> phases = new LinkedHashMap<>();
+            for (String name : SCENARIOS.split(",")) {
+                String phase = name.trim();
+                List<Scenario> scenarios = "mixed".equals(phase)
+                        ? List.of(Scenario.values())
+                        : List.of(Scenario.valueOf(phase.toUpperCase()));
+                phases.put(phase, loadTest.run(phase, scenarios, DURATION_SECONDS));
+            }
+
+            print(phases);
+            write(scale, phases);
+        } finally {
+            context.close();
+            deleteRecursively(uploadDir);
+        }
+    }
+
+    private final String baseUrl;
+    private final LoadTestDataSeeder.SeededData data;
+    private final HttpClient httpClient;
+    private final byte[] uploadImage;
+
+    private ApiLoadTest(String baseUrl, LoadTestDataSeeder.SeededData data) throws IOException {
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.uploadImage = sampleImage(1280, 960);
+    }
+
+    /**
+     * 한 단계 실행: CONCURRENCY개 worker가 durationSeconds 동안 시나리오를 가중치 비율로 반복
+     */
+    private Map<Scenario, Result> run(String phase, List<Scenario> scenarios, int durationSeconds) throws Exception {
+        int totalWeight = scenarios.stream().mapToInt(scenario -> scenario.weight).sum();
+        long start = System.nanoTime();
+        long deadline = start + durationSeconds * 1_000_000_000L;
+        List<Future<Map<Scenario, Recorder>>> workers = new ArrayList<>(CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.add(executor.submit(() -> work(scenarios, totalWeight, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<Scenario, Recorder> merged = new EnumMap<>(Scenario.class);
+        for (Future<Map<Scenario, Recorder>> worker : workers) {
+            worker.get().forEach((scenario, recorder) ->
+                    merged.computeIfAbsent(scenario, key -> new Recorder()).addAll(recorder));
+        }
+        Map<Scenario, Result> results = new EnumMap<>(Scenario.class);
+        merged.forEach((scenario, recorder) -> results.put(scenario, recorder.result(elapsedSeconds)));
+        long requests = results.values().stream().mapToLong(Result::requests).sum();
+        System.out.printf("[%s] 완료 %.1fs, %d건 (%.1f req/s)%n", phase, elapsedSeconds, requests, requests / elapsedSeconds);
+        return results;
+    }
+
+    private Map<Scenario, Recorder> work(List<Scenario> scenarios, int totalWeight, long deadline) {
+        Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = pick(scenarios, totalWeight, random);
+            HttpRequest request = scenario.request(this, random);
+            Recorder recorder = recorders.computeIfAbsent(scenario, key -> new Recorder());
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                int status = response.statusCode();
+                recorder.record(System.nanoTime() - started, (status >= 200 && status < 300) || status == 304);
+            } catch (IOException e) {
+                recorder.record(System.nanoTime() - started, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorders;
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int totalWeight, ThreadLocalRandom random) {
+        if (scenarios.size() == 1) {
+            return scenarios.get(0);
+        }
+        int value = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            value -= scenario.weight;
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    // ==================== 요청 생성 ====================
+
+    private HttpRequest browse(ThreadLocalRandom random) {
+        String boardCode = data.boardCodes().get(random.nextInt(data.boardCodes().size()));
+        int page = (int) Math.min(MAX_BROWSE_PAGE, Math.abs(random.nextGaussian()) * 3);
+        return get("/api/v1/public/posts/board/" + boardCode + "?page=" + page + "&size=10");
+    }
+
+    private HttpRequest detail(ThreadLocalRandom random) {
+        return get("/api/v1/public/posts/" + hotPostId(random));
+    }
+
+    private HttpRequest comments(ThreadLocalRandom random) {
+        return get("/api/v1/public/comments/post/" + hotPostId(random));
+    }
+
+    private HttpRequest search(ThreadLocalRandom random) {
+        Long boardId = data.boardIds().get(random.nextInt(data.boardIds().size()));
+        String keyword = SEARCH_KEYWORDS[random.nextInt(SEARCH_KEYWORDS.length)];
+        return get("/api/v1/posts/search?boardId=" + boardId + "&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+    }
+
+    private HttpRequest login(ThreadLocalRandom random) {
+        String loginId = data.loginIds().get(random.nextInt(data.loginIds().size()));
+        String body = "{\"loginId\":\"" + loginId + "\",\"password\":\"" + LoadTestDataSeeder.MEMBER_PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest upload(ThreadLocalRandom random) {
+        String boundary = "----bincms-load-" + random.nextLong();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(uploadImage.length + 512);
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"refType\"\r\n\r\nPOST\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load-test.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n";
+        body.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(uploadImage);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/files/upload"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+    }
+
+    /**
+     * 최신 글에 조회가 몰리도록 치우친 게시글 ID (상위 약 20%가 조회의 절반 이상)
+     */
+    private Long hotPostId(ThreadLocalRandom random) {
+        List<Long> postIds = data.postIds();
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return postIds.get(postIds.size() - 1 - (int) (skewed * (postIds.size() - 1)));
+    }
+
+    // ==================== 결과 ====================
+
+    private static void print(Map<String, Map<Scenario, Result>> phases) {
+        System.out.println();
+        System.out.printf("%-10s %-10s %10s %8s %10s %10s %10s %10s %10s%n",
+                "phase", "scenario", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        phases.forEach((phase, results) -> results.forEach((scenario, r) ->
+                System.out.printf("%-10s %-10s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                        phase, scenario.name().toLowerCase(), r.requests(), r.errors(), r.throughput(),
+                        r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs())));
+    }
+
+    private static void write(LoadTestDataSeeder.Scale scale, Map<String, Map<Scenario, Result>> phases) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("concurrency", CONCURRENCY);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("scale", scale);
+        Map<String, Object> phaseReport = new LinkedHashMap<>();
+        phases.forEach((phase, results) -> {
+            Map<String, Result> byScenario = new LinkedHashMap<>();
+            results.forEach((scenario, result) -> byScenario.put(scenario.name().toLowerCase(), result));
+            phaseReport.put(phase, byScenario);
+        });
+        report.put("phases", phaseReport);
+
+        Path output = Paths.get(OUTPUT);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    private static byte[] sampleImage(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, new Color(232, 220, 200), width, height, new Color(70, 90, 120)));
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * 시나리오 (weight: mixed 단계에서의 요청 비율)
+     */
+    private enum Scenario {
+        BROWSE(35),
+        DETAIL(30),
+        COMMENTS(20),
+        SEARCH(8),
+        LOGIN(4),
+        UPLOAD(3);
+
+        final int weight;
+
+        Scenario(int weight) {
+            this.weight = weight;
+        }
+
+        HttpRequest request(ApiLoadTest test, ThreadLocalRandom random) {
+            return switch (this) {
+                case BROWSE -> test.browse(random);
+                case DETAIL -> test.detail(random);
+                case COMMENTS -> test.comments(random);
+                case SEARCH -> test.search(random);
+                case LOGIN -> test.login(random);
+                case UPLOAD -> test.upload(random);
+            };
+        }
+    }
+
+    /**
+     * worker별 지연 기록 (공유하지 않으므로 동기화 없음, 단계 종료 후 병합)
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Recorder other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Result result(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result(size, errors, size / elapsedSeconds,
+                    percentileMs(sorted, 0.50), percentileMs(sorted, 0.95), percentileMs(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+
+        private static double percentileMs(long[] sortedNanos, double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    private record Result(long requests, long errors, double throughput,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+}
@@ -0,0 +1,227 @@
+package com.bincms.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터 생성
+ * - DataInitializer가 만든 역할/관리자/기본 게시판 위에 게시판, 회원, 게시글, 댓글(대댓글 포함), 첨부파일 정보를 추가
+ * - 규모가 커도 빠르게 만들도록 엔티티 대신 JDBC 배치 INSERT 사용 (컬럼은 엔티티 매핑과 동일)
+ * - 같은 seed면 같은 데이터가 만들어져 기준선(baseline)과 비교 가능
+ */
+public class LoadTestDataSeeder {
+
+    public static final String MEMBER_PASSWORD = "loadtest1234!";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] TITLE_WORDS = {
+            "거실", "주방", "욕실", "리모델링", "인테리어", "견적", "후기", "타일", "도배", "마루",
+            "조명", "수납", "아파트", "빌라", "원룸", "시공", "자재", "철거", "샷시", "붙박이장"
+    };
+
+    private static final String PARAGRAPH = "<p>%s 시공을 진행했습니다. 기존 %s 자재를 철거하고 %s 위주로 마감했으며, "
+            + "공사 기간은 약 %d일 소요되었습니다. 상담 시 %s 관련 문의가 가장 많았습니다.</p>";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Scale scale;
+    private final Random random;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, Scale scale) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.scale = scale;
+        this.random = new Random(scale.seed());
+    }
+
+    /**
+     * 데이터 생성 후 시나리오에서 사용할 키 목록 반환
+     */
+    public SeededData seed() {
+        List<String> boardCodes = seedBoards();
+        List<Long> boardIds = jdbcTemplate.queryForList(
+                "SELECT ID FROM TB_BOARDS WHERE BOARD_CODE LIKE 'load%' ORDER BY ID", Long.class);
+        List<String> loginIds = seedMembers();
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT ID FROM TB_MEMBERS WHERE LGN_ID LIKE 'loaduser%' ORDER BY ID", Long.class);
+        seedPosts(boardIds, memberIds);
+        List<Long> postIds = jdbcTemplate.queryForList(
+                "SELECT P.ID FROM TB_POSTS P JOIN TB_BOARDS B ON B.ID = P.BOARD_ID "
+                        + "WHERE B.BOARD_CODE LIKE 'load%' ORDER BY P.ID", Long.class);
+        seedComments(postIds);
+        seedFiles(postIds);
+        return new SeededData(boardCodes, boardIds, postIds, loginIds);
+    }
+
+    private List<String> seedBoards() {
+        List<String> codes = new ArrayList<>(scale.boards());
+        List<Object[]> rows = new ArrayList<>(scale.boards());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 1; i <= scale.boards(); i++) {
+            String code = "load" + i;
+            codes.add(code);
+            rows.add(new Object[]{code, "부하테스트 게시판 " + i, "부하 테스트용 게시판", "Y", 100 + i, now, now, "loadtest"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO TB_BOARDS (BOARD_CODE, BOARD_NAME, DESCRIPTION, USE_YN, SORT_ORDER, REG_DT, MOD_DT, REG_NO)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        return codes;
+    }
+
+    /**
+     * 일반 회원 (비밀번호 해시는 한 번만 계산해 공유, 로그인 시 BCrypt 검증 비용은 실제와 같음)
+     */
+    private List<String> seedMembers() {
+        Long userRoleId = jdbcTemplate.queryForObject("SELECT ID FROM TB_ROLES WHERE ROLE_CODE = 'USER'", Long.class);
+        String passwordHash = passwordEncoder.encode(MEMBER_PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> loginIds = new ArrayList<>(scale.members());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= scale.members(); i++) {
+            String loginId = "loaduser" + i;
+            loginIds.add(loginId);
+            rows.add(new Object[]{loginId, loginId + "@bincms.local", passwordHash, "회원" + i, "LOCAL",
+                    true, userRoleId, true, now, now, "loadtest"});
+            flushIfFull(rows, """
+                    INSERT INTO TB_MEMBERS (LGN_ID, EMAIL, PASSWORD, NAME, PROVIDER, EMAIL_VERIFIED, ROLE_ID, ACTIVE,
+                                            REG_DT, MOD_DT, REG_NO)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """, i == scale.members());
+        }
+        return loginIds;
+    }
+
+    /**
+     * 게시판별 게시글 (본문 길이는 수백 자~수만 자로 분산, 작성자는 회원 PK - REG_NO 규칙과 동일)
+     */
+    private void seedPosts(List<Long> boardIds, List<Long> memberIds) {
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int total = boardIds.size() * scale.postsPerBoard();
+        int count = 0;
+        for (Long boardId : boardIds) {
+            for (int i = 0; i < scale.postsPerBoard(); i++) {
+                count++;
+                Timestamp regDt = Timestamp.valueOf(base.plusMinutes((long) i * 365 * 24 * 60 / scale.postsPerBoard()));
+                Long authorId = memberIds.get(random.nextInt(memberIds.size()));
+                rows.add(new Object[]{boardId, title(), content(), (long) random.nextInt(5000),
+                        i % 50 == 0 ? "Y" : "N", "Y", regDt, regDt, String.valueOf(authorId)});
+                flushIfFull(rows, """
+                        INSERT INTO TB_POSTS (BOARD_ID, TITLE, CONTENT, VIEW_COUNT, NOTICE_YN, USE_YN, REG_DT, MOD_DT, REG_NO)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """, count == total);
+            }
+        }
+    }
+
+    /**
+     * 게시글마다 루트 댓글 0~2*commentsPerPost개, 루트 댓글 절반에 대댓글 1개
+     */
+    private void seedComments(List<Long> postIds) {
+        String passwordHash = passwordEncoder.encode(MEMBER_PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String insert = """
+                INSERT INTO TB_COMMENTS (POST_ID, PARENT_ID, AUTHOR_NAME, PASSWORD, CONTENT, USE_YN, REG_DT, MOD_DT)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int p = 0; p < postIds.size(); p++) {
+            int roots = scale.commentsPerPost() == 0 ? 0 : random.nextInt(scale.commentsPerPost() * 2 + 1);
+            for (int i = 0; i < roots; i++) {
+                rows.add(new Object[]{postIds.get(p), null, "방문자" + random.nextInt(10000), passwordHash,
+                        comment(), "Y", now, now});
+                flushIfFull(rows, insert, false);
+            }
+        }
+        flushIfFull(rows, insert, true);
+
+        List<Object[]> replies = new ArrayList<>();
+        jdbcTemplate.query("SELECT ID, POST_ID FROM TB_COMMENTS WHERE PARENT_ID IS NULL", rs -> {
+            if (random.nextBoolean()) {
+                replies.add(new Object[]{rs.getLong("POST_ID"), rs.getLong("ID"), "작성자", passwordHash,
+                        comment(), "Y", now, now});
+            }
+        });
+        for (int i = 0; i < replies.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(insert, replies.subList(i, Math.min(replies.size(), i + BATCH_SIZE)));
+        }
+    }
+
+    /**
+     * 게시글 10건 중 1건에 첨부파일 정보 (실제 파일은 만들지 않음, 목록/상세 조회 부하용)
+     */
+    private void seedFiles(List<Long> postIds) {
+        String insert = """
+                INSERT INTO TB_FILES (ORIGINAL_NAME, STORED_NAME, FILE_PATH, THUMBNAIL_PATH, FILE_SIZE, CONTENT_TYPE,
+                                      FILE_EXT, REF_TYPE, REF_ID, USE_YN, REG_DT, MOD_DT)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < postIds.size(); i += 10) {
+            String storedName = "load_" + postIds.get(i) + ".jpg";
+            rows.add(new Object[]{"시공사진.jpg", storedName, "seed/" + storedName, "seed/thumb_" + storedName,
+                    100_000L + random.nextInt(2_000_000), "image/jpeg", "jpg", "POST", postIds.get(i), "Y", now, now});
+            flushIfFull(rows, insert, false);
+        }
+        flushIfFull(rows, insert, true);
+    }
+
+    private void flushIfFull(List<Object[]> rows, String sql, boolean last) {
+        if (!rows.isEmpty() && (last || rows.size() >= BATCH_SIZE)) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private String title() {
+        return word() + " " + word() + " " + word() + " " + (1 + random.nextInt(60)) + "평";
+    }
+
+    private String content() {
+        // 대부분 짧은 글, 일부는 사진 설명이 긴 글 (0.5KB ~ 수십 KB)
+        int paragraphs = random.nextInt(10) == 0 ? 50 + random.nextInt(150) : 2 + random.nextInt(10);
+        StringBuilder sb = new StringBuilder(paragraphs * 160);
+        for (int i = 0; i < paragraphs; i++) {
+            sb.append(PARAGRAPH.formatted(word(), word(), word(), 3 + random.nextInt(40), word()));
+        }
+        return sb.toString();
+    }
+
+    private String comment() {
+        return word() + " 시공 문의드립니다. " + word() + " 비용이 궁금합니다.";
+    }
+
+    private String word() {
+        return TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+    }
+
+    /**
+     * 데이터 규모 (-Pbench.xxx로 조정)
+     */
+    public record Scale(int boards, int postsPerBoard, int commentsPerPost, int members, long seed) {
+
+        public static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("bench.boards", 5),
+                    Integer.getInteger("bench.postsPerBoard", 2000),
+                    Integer.getInteger("bench.commentsPerPost", 3),
+                    Integer.getInteger("bench.members", 1000),
+                    Long.getLong("bench.seed", 42L));
+        }
+    }
+
+    /**
+     * 생성된 데이터 키 (시나리오 요청 대상)
+     */
+    public record SeededData(List<String> boardCodes, List<Long> boardIds, List<Long> postIds, List<String> loginIds) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.bincms.loadtest;
+
+import com.bincms.CmsApplication;
+import com.bincms.domain.mail.entity.MailOutboxStatus;
+import com.bincms.domain.mail.repository.MailOutboxRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 메일 발송 대기열 검증 (내장 SMTP 수신기 SmtpSink 사용)
+ * - 인증 코드 발송 요청 N건 → 대기열 적재 → 발송기가 SmtpSink로 전송, 일부는 451로 거절해 재시도 경로까지 확인
+ * - 확인 항목: 모든 수신자가 정확히 한 번씩 받음, 대기(PENDING) 0건, 발송 완료(SENT) N건
+ * - 임대 만료 후 다른 발송기가 다시 가져간 건(임대 토큰 변경)을 이전 발송기가 완료/실패 처리하지 못하는지 확인
+ * - 실패 시 종료 코드 1
+ *
+ * 실행: ./gradlew mailOutboxCheck -Pbench.mails=200 -Pbench.smtpFailures=5
+ */
+public class MailOutboxCheck {
+
+    private static final int MAILS = Integer.getInteger("bench.mails", 200);
+    private static final int SMTP_FAILURES = Integer.getInteger("bench.smtpFailures", 5);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("bench.timeoutSeconds", 60));
+
+    public static void main(String[] args) throws Exception {
+        Path uploadDir = Files.createTempDirectory("bincms-mail-check");
+        List<String> errors = new ArrayList<>();
+        try (SmtpSink sink = new SmtpSink(0)) {
+            ConfigurableApplicationContext context = SpringApplication.run(CmsApplication.class,
+                    "--spring.profiles.active=loadtest",
+                    "--server.port=0",
+                    "--file.upload-dir=" + uploadDir.toAbsolutePath(),
+                    "--spring.mail.port=" + sink.getPort(),
+                    "--app.mail.outbox.initial-backoff=1s",
+                    "--app.mail.outbox.poll-interval-ms=500");
+            try {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                MailOutboxRepository repository = context.getBean(MailOutboxRepository.class);
+                sink.failNext(SMTP_FAILURES);
+
+                long start = System.nanoTime();
+                int accepted = sendCodes(baseUrl);
+                if (accepted != MAILS) {
+                    errors.add("발송 요청 실패: " + (MAILS - accepted) + "건");
+                }
+                awaitDelivered(sink, repository);
+                System.out.printf("메일 %d건 발송 완료 %.1fs (SMTP 일시 오류 %d건 재시도)%n",
+                        sink.getMessages().size(), (System.nanoTime() - start) / 1_000_000_000.0, SMTP_FAILURES);
+
+                checkDelivery(sink, repository, errors);
+                checkClaimFence(context, repository, errors);
+            } finally {
+                context.close();
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(uploadDir)) {
+                paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> path.toFile().delete());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            errors.forEach(error -> System.out.println("실패: " + error));
+            System.exit(1);
+        }
+        System.out.println("메일 발송 대기열 검증 통과");
+        System.exit(0);
+    }
+
+    private static int sendCodes(String baseUrl) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<Future<Integer>> responses = new ArrayList<>(MAILS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < MAILS; i++) {
+                String body = "{\"email\":\"" + recipient(i) + "\"}";
+                responses.add(executor.submit(() -> httpClient.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/public/email/send-code"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+        }
+        int accepted = 0;
+        for (Future<Integer> response : responses) {
+            if (response.get() == 200) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    private static void awaitDelivered(SmtpSink sink, MailOutboxRepository repository) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (sink.getMessages().size() >= MAILS && repository.countByStatus(MailOutboxStatus.PENDING) == 0) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private static void checkDelivery(SmtpSink sink, MailOutboxRepository repository, List<String> errors) {
+        Map<String, Long> received = sink.getMessages().stream()
+                .flatMap(message -> message.recipients().stream())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        for (int i = 0; i < MAILS; i++) {
+            long count = received.getOrDefault(recipient(i), 0L);
+            if (count != 1) {
+                errors.add(recipient(i) + " 수신 " + count + "회");
+            }
+        }
+        long pending = repository.countByStatus(MailOutboxStatus.PENDING);
+        long sent = repository.countByStatus(MailOutboxStatus.SENT);
+        if (pending != 0 || sent != MAILS) {
+            errors.add("대기열 상태: PENDING " + pending + ", SENT " + sent + " (기대 SENT " + MAILS + ")");
+        }
+    }
+
+    /**
+     * 임대 만료 상황 재현: 다른 발송기(new-owner)가 다시 가져간 건을 이전 발송기(old-owner) 토큰으로 갱신 시도
+     */
+    private static void checkClaimFence(ConfigurableApplicationContext context, MailOutboxRepository repository,
+                                        List<String> errors) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = context.getBean("transactionTemplate", TransactionTemplate.class);
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(MAIL_ID) FROM TB_MAIL_OUTBOX", Long.class);
+        LocalDateTime leaseUntil = LocalDateTime.now().plusHours(1);
+        jdbcTemplate.update("UPDATE TB_MAIL_OUTBOX SET STATUS = 'PENDING', CLAIM_TOKEN = 'new-owner', " +
+                "NEXT_ATTEMPT_AT = ? WHERE MAIL_ID = ?", leaseUntil, id);
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer staleUpdates = transactionTemplate.execute(status ->
+                repository.markSent(List.of(id), "old-owner", now)
+                        + repository.markFailed(id, "old-owner", MailOutboxStatus.FAILED, now, "stale"));
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT STATUS, CLAIM_TOKEN FROM TB_MAIL_OUTBOX WHERE MAIL_ID = ?", id);
+        if (staleUpdates == null || staleUpdates != 0
+                || !"PENDING".equals(row.get("STATUS")) || !"new-owner".equals(row.get("CLAIM_TOKEN"))) {
+            errors.add("만료된 임대 토큰으로 갱신됨: " + staleUpdates + "건, " + row);
+        }
+        Integer ownerUpdates = transactionTemplate.execute(status -> repository.markSent(List.of(id), "new-owner", now));
+        if (ownerUpdates == null || ownerUpdates != 1) {
+            errors.add("현재 임대 토큰으로 완료 처리 실패: " + ownerUpdates + "건");
+        }
+        System.out.printf("임대 토큰 검증: 이전 발송기 갱신 %d건, 현재 발송기 갱신 %d건%n", staleUpdates, ownerUpdates);
+    }
+
+    private static String recipient(int index) {
+        return "check" + index + "@bincms.local";
+    }
+}
@@ -0,0 +1,122 @@
+package com.bincms.loadtest;
+
+import com.bincms.CmsApplication;
+import com.bincms.common.db.RequestQueryTracker;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 요청 단위 쿼리 예산 검증 (loadtest 프로필: fail-on-violation=true)
+ * - 게시판 목록: 페이지 크기를 바꿔도 SQL 수가 같고(작성자 일괄 조회, N+1 없음) 예산 이내인지 확인
+ * - 위반 감지: 게시글 상세 예산을 측정값보다 낮게 덮어쓴 상태로 요청 → 요청 실패 + 위반 카운터 증가 확인
+ * - 실패 시 종료 코드 1
+ *
+ * 실행: ./gradlew queryBudgetCheck
+ */
+public class QueryBudgetCheck {
+
+    private static final String DETAIL_ENDPOINT = "GET /api/v1/public/posts/{id}";
+    private static final int TIGHT_DETAIL_BUDGET = 2;
+
+    public static void main(String[] args) throws Exception {
+        Path uploadDir = Files.createTempDirectory("bincms-query-budget-check");
+        List<String> errors = new ArrayList<>();
+        ConfigurableApplicationContext context = SpringApplication.run(CmsApplication.class,
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--file.upload-dir=" + uploadDir.toAbsolutePath(),
+                "--app.query-budget.debug-header=true",
+                "--app.query-budget.endpoints.[" + DETAIL_ENDPOINT + "]=" + TIGHT_DETAIL_BUDGET);
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTestDataSeeder.SeededData data = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class),
+                    context.getBean(PasswordEncoder.class), new LoadTestDataSeeder.Scale(2, 200, 0, 50, 42L)).seed();
+            RequestQueryTracker tracker = context.getBean(RequestQueryTracker.class);
+            HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            checkBoardList(httpClient, baseUrl, data.boardCodes().get(0), tracker, errors);
+            checkViolationDetected(httpClient, baseUrl, data.postIds().get(0), tracker, errors);
+        } finally {
+            context.close();
+            try (Stream<Path> paths = Files.walk(uploadDir)) {
+                paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> path.toFile().delete());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            errors.forEach(error -> System.out.println("실패: " + error));
+            System.exit(1);
+        }
+        System.out.println("쿼리 예산 검증 통과");
+        System.exit(0);
+    }
+
+    /**
+     * 게시판 목록: 페이지 크기 10/50의 SQL 수가 같고 예산 이내, 위반 카운터 변화 없음
+     */
+    private static void checkBoardList(HttpClient httpClient, String baseUrl, String boardCode,
+                                       RequestQueryTracker tracker, List<String> errors) throws Exception {
+        long violationsBefore = tracker.getBudgetViolations();
+        List<Integer> counts = new ArrayList<>();
+        for (int size : new int[]{10, 50}) {
+            HttpResponse<Void> response = get(httpClient, baseUrl + "/api/v1/public/posts/board/" + boardCode + "?size=" + size);
+            if (response.statusCode() != 200) {
+                errors.add("게시판 목록(size=" + size + ") 응답 " + response.statusCode());
+                return;
+            }
+            int count = header(response, "X-Query-Count");
+            int budget = header(response, "X-Query-Budget");
+            System.out.printf("게시판 목록 size=%d: SQL %d건 (예산 %d건)%n", size, count, budget);
+            if (count > budget) {
+                errors.add("게시판 목록(size=" + size + ") SQL " + count + "건, 예산 " + budget + "건 초과");
+            }
+            counts.add(count);
+        }
+        if (!counts.get(0).equals(counts.get(1))) {
+            errors.add("게시판 목록 SQL 수가 페이지 크기에 따라 달라짐 (N+1 의심): " + counts);
+        }
+        if (tracker.getBudgetViolations() != violationsBefore) {
+            errors.add("게시판 목록에서 예산 위반 기록됨");
+        }
+    }
+
+    /**
+     * 예산을 낮춘 게시글 상세: 요청이 실패하고 위반 카운터가 증가해야 함
+     */
+    private static void checkViolationDetected(HttpClient httpClient, String baseUrl, Long postId,
+                                               RequestQueryTracker tracker, List<String> errors) throws Exception {
+        long violationsBefore = tracker.getBudgetViolations();
+        HttpResponse<Void> response = get(httpClient, baseUrl + "/api/v1/public/posts/" + postId);
+        long violations = tracker.getBudgetViolations() - violationsBefore;
+        System.out.printf("게시글 상세 (예산 %d건으로 낮춤): 응답 %d, 위반 기록 %d건%n",
+                TIGHT_DETAIL_BUDGET, response.statusCode(), violations);
+        if (response.statusCode() == 200) {
+            errors.add("예산을 넘은 게시글 상세 요청이 성공함 (fail-on-violation 미적용)");
+        }
+        if (violations < 1) {
+            errors.add("예산을 넘은 게시글 상세 요청의 위반이 기록되지 않음");
+        }
+    }
+
+    private static HttpResponse<Void> get(HttpClient httpClient, String url) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static int header(HttpResponse<?> response, String name) {
+        return response.headers().firstValue(name).map(Integer::parseInt).orElse(-1);
+    }
+}
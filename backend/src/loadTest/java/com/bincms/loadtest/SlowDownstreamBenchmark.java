@@ -0,0 +1,148 @@
+package com.bincms.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 외부 연동 부하 벤치마크
+ * - 응답이 느린 OAuth 제공자를 흉내 내는 로컬 HTTP 서버를 띄우고,
+ *   느린 외부 호출 요청과 빠른 일반 요청을 섞어 동시에 투입
+ * - Tomcat 기본 구성(플랫폼 스레드 200개 고정 풀)과 가상 스레드(요청당 스레드)를 비교
+ * - 느린 요청이 스레드 풀을 점유하면 빠른 요청까지 대기열에서 지연되는지(풀 고갈) 확인하는 것이 목적
+ *
+ * 실행: ./gradlew loadTest -Pbench.slowRequests=2000 -Pbench.delayMs=500
+ */
+public class SlowDownstreamBenchmark {
+
+    private static final int DELAY_MS = Integer.getInteger("bench.delayMs", 500);
+    private static final int SLOW_REQUESTS = Integer.getInteger("bench.slowRequests", 2000);
+    private static final int FAST_REQUESTS = Integer.getInteger("bench.fastRequests", 200);
+    private static final int PLATFORM_THREADS = Integer.getInteger("bench.platformThreads", 200);
+
+    public static void main(String[] args) throws Exception {
+        HttpServer server = startSlowProvider();
+        String url = "http://localhost:" + server.getAddress().getPort() + "/oauth/token";
+        try {
+            System.out.printf("느린 외부 연동 벤치마크: 지연 %dms, 느린 요청 %d건, 빠른 요청 %d건%n",
+                    DELAY_MS, SLOW_REQUESTS, FAST_REQUESTS);
+
+            // JIT 워밍업
+            run("warm-up", Executors.newVirtualThreadPerTaskExecutor(), url, 200, 50);
+
+            Result platform = run("platform(" + PLATFORM_THREADS + ")",
+                    Executors.newFixedThreadPool(PLATFORM_THREADS), url, SLOW_REQUESTS, FAST_REQUESTS);
+            Result virtual = run("virtual",
+                    Executors.newVirtualThreadPerTaskExecutor(), url, SLOW_REQUESTS, FAST_REQUESTS);
+
+            System.out.println();
+            System.out.printf("%-16s %12s %14s %14s%n", "mode", "req/s", "fast p50(ms)", "fast p99(ms)");
+            for (Result r : List.of(platform, virtual)) {
+                System.out.printf("%-16s %12.1f %14.1f %14.1f%n", r.mode, r.throughput, r.fastP50Ms, r.fastP99Ms);
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static Result run(String mode, ExecutorService executor, String url,
+                              int slowRequests, int fastRequests) throws Exception {
+        RestTemplate restTemplate = createRestTemplate();
+        List<Future<?>> slow = new ArrayList<>(slowRequests);
+        List<Future<Long>> fast = new ArrayList<>(fastRequests);
+
+        long start = System.nanoTime();
+        try (executor) {
+            int fastEvery = Math.max(1, slowRequests / Math.max(1, fastRequests));
+            for (int i = 0; i < slowRequests; i++) {
+                slow.add(executor.submit(() -> restTemplate.postForObject(url, null, String.class)));
+                if (i % fastEvery == 0 && fast.size() < fastRequests) {
+                    long submittedAt = System.nanoTime();
+                    // 빠른 요청: 외부 호출 없이 짧은 CPU 작업만 수행 (대기열 지연이 곧 응답 지연)
+                    fast.add(executor.submit(() -> {
+                        Blackhole.consume(Arrays.hashCode(new byte[4096]));
+                        return System.nanoTime() - submittedAt;
+                    }));
+                }
+            }
+            for (Future<?> f : slow) {
+                f.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] fastLatencies = new long[fast.size()];
+        for (int i = 0; i < fast.size(); i++) {
+            fastLatencies[i] = fast.get(i).get();
+        }
+        Arrays.sort(fastLatencies);
+
+        Result result = new Result(mode,
+                (slowRequests + fastRequests) / (elapsed / 1_000_000_000.0),
+                percentileMs(fastLatencies, 0.50),
+                percentileMs(fastLatencies, 0.99));
+        System.out.printf("[%s] 완료 %.1fs%n", mode, elapsed / 1_000_000_000.0);
+        return result;
+    }
+
+    private static HttpServer startSlowProvider() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 8192);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth/token", exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(DELAY_MS);
+                byte[] body = "{\"access_token\":\"benchmark\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static RestTemplate createRestTemplate() {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout((int) TimeUnit.SECONDS.toMillis(5));
+        factory.setReadTimeout((int) TimeUnit.SECONDS.toMillis(30));
+        return new RestTemplate(factory);
+    }
+
+    private static double percentileMs(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(String mode, double throughput, double fastP50Ms, double fastP99Ms) {
+    }
+
+    /** 빠른 요청 작업이 JIT에 의해 제거되지 않도록 결과를 소비 */
+    private static final class Blackhole {
+        private static volatile int sink;
+
+        static void consume(int value) {
+            sink ^= value;
+        }
+    }
+}
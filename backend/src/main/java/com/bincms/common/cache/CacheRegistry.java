@@ -0,0 +1,54 @@
+package com.bincms.common.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 로컬 캐시 등록소
+ * - 서비스 계층 캐시를 이름으로 생성/관리하여 통계 조회 및 일괄 무효화에 사용
+ */
+@Component
+public class CacheRegistry {
+
+    private final Map<String, LocalCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 생성 및 등록 (같은 이름이 있으면 예외)
+     */
+    public <K, V> LocalCache<K, V> create(String name, Duration ttl, int maxSize) {
+        return register(new LocalCache<>(name, ttl, maxSize));
+    }
+
+    /**
+     * 무게(예: 바이트 수) 합계 제한이 있는 캐시 생성 및 등록
+     */
+    public <K, V> LocalCache<K, V> create(String name, Duration ttl, int maxSize,
+                                          ToLongFunction<V> weigher, long maxWeight) {
+        return register(new LocalCache<>(name, ttl, maxSize, weigher, maxWeight));
+    }
+
+    private <K, V> LocalCache<K, V> register(LocalCache<K, V> cache) {
+        String name = cache.getName();
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Cache already registered: " + name);
+        }
+        return cache;
+    }
+
+    public Collection<LocalCache<?, ?>> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void clearAll() {
+        caches.values().forEach(LocalCache::clear);
+    }
+}
@@ -0,0 +1,216 @@
+package com.bincms.common.cache;
+
+import lombok.Getter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 서비스 계층용 로컬 TTL 캐시
+ * - 캐시 미스 시 SingleFlight로 동시 로딩을 하나로 병합 (hot key 만료 시 DB 폭주 방지)
+ * - 최대 크기를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차면 임의 항목을 제거
+ * - weigher를 지정하면 항목 수와 별도로 무게 합계(예: 바이트 수)도 maxWeight 이하로 유지, maxWeight보다 무거운 값은 저장하지 않음
+ * - 무효화 이후 완료된 이전 로딩 결과는 저장하지 않음 (generation 비교)
+ */
+public class LocalCache<K, V> {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final Duration ttl;
+    @Getter
+    private final int maxSize;
+
+    @Getter
+    private final long maxWeight;
+
+    private final long ttlNanos;
+    private final ToLongFunction<V> weigher;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final SingleFlight<K, V> singleFlight = new SingleFlight<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong weight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalCache(String name, Duration ttl, int maxSize) {
+        this(name, ttl, maxSize, value -> 0L, Long.MAX_VALUE);
+    }
+
+    public LocalCache(String name, Duration ttl, int maxSize, ToLongFunction<V> weigher, long maxWeight) {
+        this.name = name;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+        this.weigher = weigher;
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 병합된 로딩 후 저장
+     */
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(System.nanoTime())) {
+            hits.increment();
+            return entry.value();
+        }
+
+        misses.increment();
+        return singleFlight.load(key, () -> {
+            long startGeneration = generation.get();
+            V value = loader.get();
+            if (value != null && generation.get() == startGeneration) {
+                put(key, value);
+            }
+            return value;
+        });
+    }
+
+    /**
+     * 로딩 없이 캐시된 값만 조회 (없거나 만료 시 null)
+     */
+    public V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 로딩 없이 직접 저장 (값 자체에 버전 정보가 있어 무효화가 필요 없는 경우)
+     */
+    public void put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        if ((entries.size() >= maxSize && !entries.containsKey(key)) || weight.get() + valueWeight > maxWeight) {
+            makeRoom(valueWeight);
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos, valueWeight));
+        weight.addAndGet(previous != null ? valueWeight - previous.weight() : valueWeight);
+    }
+
+    /**
+     * 단건 무효화
+     * - 트랜잭션 안이면 커밋 후에 한 번 더 무효화하여, 커밋 전 다른 요청이 읽어 간 이전 값이 남지 않도록 함
+     */
+    public void evict(K key) {
+        evictNow(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void clear() {
+        clearNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearNow();
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 값의 무게 합계 (weigher 미지정 시 0)
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public SingleFlight<K, V> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 만료 항목 정리 후에도 항목 수나 무게가 넘치면 임의 항목 제거
+     * - 무게는 제거에 성공한 항목만 차감 (동시 put/evict와 같은 항목을 두 번 차감하지 않도록 remove(key, entry) 사용)
+     */
+    private void makeRoom(long incomingWeight) {
+        long now = System.nanoTime();
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            if (e.getValue().isExpired(now)) {
+                remove(e.getKey(), e.getValue());
+            }
+        }
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while ((entries.size() >= maxSize || weight.get() + incomingWeight > maxWeight) && it.hasNext()) {
+            Map.Entry<K, Entry<V>> e = it.next();
+            if (remove(e.getKey(), e.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean remove(K key, Entry<V> entry) {
+        if (entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight());
+            return true;
+        }
+        return false;
+    }
+
+    private void evictNow(K key) {
+        generation.incrementAndGet();
+        singleFlight.forget(key);
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight.addAndGet(-removed.weight());
+            evictions.increment();
+        }
+    }
+
+    private void clearNow() {
+        generation.incrementAndGet();
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            if (remove(e.getKey(), e.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt, long weight) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
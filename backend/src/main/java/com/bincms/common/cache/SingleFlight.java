@@ -0,0 +1,86 @@
+package com.bincms.common.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 로딩 병합기 (single-flight)
+ * - 같은 키에 대해 동시에 들어온 요청 중 첫 번째(리더)만 loader를 실행
+ * - 나머지 요청은 리더의 결과(또는 예외)를 그대로 공유
+ * - 로딩이 끝나면 즉시 in-flight 목록에서 제거되므로 결과를 보관하지 않음 (보관은 LocalCache 담당)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaderLoads = new LongAdder();
+    private final LongAdder coalescedWaits = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * 키 단위로 병합된 로딩 실행
+     * - loader는 리더 스레드에서 실행되므로 리더의 트랜잭션/보안 컨텍스트를 그대로 사용
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedWaits.increment();
+            return await(existing);
+        }
+
+        leaderLoads.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 진행 중인 로딩을 목록에서 분리 (캐시 무효화 시 이후 요청이 새 로딩을 시작하도록)
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public long getLeaderLoads() {
+        return leaderLoads.sum();
+    }
+
+    public long getCoalescedWaits() {
+        return coalescedWaits.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bincms.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 해시드 타이밍 휠 (만료 예약)
+ * - 만료 시각을 tick 단위 슬롯에 배치하여, 만료 처리 비용이 전체 항목 수가 아닌 해당 슬롯의 항목 수에 비례
+ * - 휠 한 바퀴(tick × slots)보다 먼 만료는 같은 슬롯에서 여러 바퀴를 돈 뒤 처리
+ * - 예약(schedule)은 잠금 없이 여러 스레드에서 호출 가능, 진행(advance)은 한 번에 한 스레드만 수행
+ * - 만료 콜백은 "만료 가능성"만 알려주므로, 만료 시각이 연장된 항목은 콜백에서 다시 확인해야 함
+ */
+public class TimingWheel<K> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout<K>>[] slots;
+    private final long startNanos = System.nanoTime();
+    private final ReentrantLock advanceLock = new ReentrantLock();
+
+    /** 처리가 끝난 마지막 tick */
+    private volatile long processedTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Duration tick, int slotCount) {
+        int size = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.tickNanos = tick.toNanos();
+        this.mask = size - 1;
+        this.slots = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * 만료 예약 (deadlineNanos: System.nanoTime() 기준)
+     */
+    public void schedule(K key, long deadlineNanos) {
+        long tick = Math.max(ceilDiv(deadlineNanos - startNanos, tickNanos), processedTick + 1);
+        slots[(int) (tick & mask)].add(new Timeout<>(key, tick));
+    }
+
+    /**
+     * 현재 시각까지 지난 tick의 슬롯을 처리하고, 만료 tick에 도달한 키를 콜백으로 전달
+     * - 이미 다른 스레드가 진행 중이면 건너뜀
+     */
+    public int advance(Consumer<K> onExpire) {
+        if (!advanceLock.tryLock()) {
+            return 0;
+        }
+        try {
+            long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+            int expired = 0;
+            // 오래 멈춰 있었더라도 한 바퀴 이상 돌 필요는 없음 (남은 항목은 다음 바퀴에 재배치)
+            long from = Math.max(processedTick + 1, targetTick - mask);
+            for (long tick = from; tick <= targetTick; tick++) {
+                expired += processSlot(tick, targetTick, onExpire);
+                processedTick = tick;
+            }
+            return expired;
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Queue<Timeout<K>> slot : slots) {
+            size += slot.size();
+        }
+        return size;
+    }
+
+    private int processSlot(long tick, long targetTick, Consumer<K> onExpire) {
+        Queue<Timeout<K>> slot = slots[(int) (tick & mask)];
+        List<Timeout<K>> pending = new ArrayList<>();
+        int expired = 0;
+        Timeout<K> timeout;
+        int remaining = slot.size();
+        while (remaining-- > 0 && (timeout = slot.poll()) != null) {
+            if (timeout.tick <= targetTick) {
+                onExpire.accept(timeout.key);
+                expired++;
+            } else {
+                pending.add(timeout);
+            }
+        }
+        slot.addAll(pending);
+        return expired;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return value <= 0 ? 0 : (value + divisor - 1) / divisor;
+    }
+
+    private record Timeout<K>(K key, long tick) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.bincms.common.cache;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 조회수 쓰기 지연 버퍼
+ * - 상세 조회마다 UPDATE하지 않고 대상별로 메모리에 누적, ViewCountFlusher가 주기적으로 "+ n" UPDATE로 반영
+ * - 표시용 현재 조회수도 여기서 계산 (DB 왕복 없음)
+ *   기준값 = 상세 캐시 로딩 시 읽은 DB 값 + 그때까지 반영 안 된 증가분 - 그때까지의 누적 증가분
+ *   현재 조회수 = 기준값 + 누적 증가분
+ * - 기준값은 상세 캐시가 다시 로딩될 때마다 DB 값으로 맞춤 (다른 노드의 증가분은 그때 반영됨)
+ * - 반영 대기 증가분이 없고 retention 동안 조회가 없던 대상은 정리
+ */
+public class ViewCountBuffer<K> {
+
+    @Getter
+    private final String name;
+    private final BiConsumer<K, Long> writer;
+    private final long retentionMillis;
+    private final ConcurrentHashMap<K, Counts> counts = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(String name, BiConsumer<K, Long> writer, long retentionMillis) {
+        this.name = name;
+        this.writer = writer;
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * 조회 1건 기록
+     * - 기준값이 있으면 현재 조회수, 없으면 null
+     */
+    public Long increment(K key) {
+        while (true) {
+            Counts c = counts.computeIfAbsent(key, k -> new Counts());
+            c.pending.incrementAndGet();
+            if (c.retired) {
+                // 정리 중인 항목: 증가분을 되돌리고 새 항목에 다시 기록
+                c.pending.decrementAndGet();
+                Thread.onSpinWait();
+                continue;
+            }
+            c.total.increment();
+            c.touchedAt = System.currentTimeMillis();
+            return c.seeded ? c.base + c.total.sum() : null;
+        }
+    }
+
+    /**
+     * 상세 캐시 로딩 시 DB 값으로 기준값 설정, 현재 조회수 반환
+     */
+    public long seed(K key, long dbValue) {
+        Counts c = counts.computeIfAbsent(key, k -> new Counts());
+        long total = c.total.sum();
+        c.base = dbValue + c.pending.get() - total;
+        c.seeded = true;
+        c.touchedAt = System.currentTimeMillis();
+        return c.base + total;
+    }
+
+    /**
+     * 현재 조회수 (기준값이 없으면 null)
+     */
+    public Long current(K key) {
+        Counts c = counts.get(key);
+        return c != null && c.seeded ? c.base + c.total.sum() : null;
+    }
+
+    /**
+     * 반영 대기 중인 증가분
+     */
+    public long getPending() {
+        long pending = 0;
+        for (Counts c : counts.values()) {
+            pending += c.pending.get();
+        }
+        return pending;
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * 반영 대기 증가분을 꺼내고, 오래 조회되지 않은 항목 정리
+     */
+    Map<K, Long> drain() {
+        long idleBefore = System.currentTimeMillis() - retentionMillis;
+        Map<K, Long> drained = new HashMap<>();
+        counts.forEach((key, c) -> {
+            long pending = c.pending.getAndSet(0);
+            if (pending != 0) {
+                drained.put(key, pending);
+            } else if (c.touchedAt < idleBefore) {
+                retire(key, c);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * 반영 실패한 증가분을 되돌림 (다음 주기에 재시도)
+     */
+    void restore(Map<K, Long> drained) {
+        drained.forEach((key, pending) -> counts.computeIfAbsent(key, k -> new Counts()).pending.addAndGet(pending));
+    }
+
+    void write(K key, long delta) {
+        writer.accept(key, delta);
+    }
+
+    /**
+     * 항목 제거 (increment와 retired/pending을 서로 반대 순서로 쓰고 읽어, 둘 중 하나는 반드시 상대의 기록을 봄)
+     */
+    private void retire(K key, Counts c) {
+        c.retired = true;
+        if (c.pending.get() != 0) {
+            c.retired = false;
+            return;
+        }
+        counts.remove(key, c);
+    }
+
+    private static final class Counts {
+        final AtomicLong pending = new AtomicLong();
+        final LongAdder total = new LongAdder();
+        volatile long base;
+        volatile boolean seeded;
+        volatile boolean retired;
+        volatile long touchedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,85 @@
+package com.bincms.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 버퍼 반영
+ * - 주기마다 버퍼별로 쌓인 증가분을 한 트랜잭션에서 "+ n" UPDATE로 반영, 실패하면 버퍼로 되돌려 다음 주기에 재시도
+ * - 종료 시 웹 서버가 요청 처리를 멈춘 뒤 남은 증가분을 한 번 더 반영
+ */
+@Slf4j
+@Component
+public class ViewCountFlusher implements SmartLifecycle {
+
+    private final List<ViewCountBuffer<?>> buffers;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder flushFailures = new LongAdder();
+    private volatile boolean running;
+
+    public ViewCountFlusher(List<ViewCountBuffer<?>> buffers, TransactionTemplate transactionTemplate) {
+        this.buffers = buffers;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            buffers.forEach(this::flush);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public long getFlushFailures() {
+        return flushFailures.sum();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)가 요청 처리를 멈춘 뒤에 정지하도록 더 낮은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private <K> void flush(ViewCountBuffer<K> buffer) {
+        Map<K, Long> drained = buffer.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(buffer::write));
+        } catch (RuntimeException e) {
+            buffer.restore(drained);
+            flushFailures.increment();
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: buffer={}, keys={}", buffer.getName(), drained.size(), e);
+        }
+    }
+}
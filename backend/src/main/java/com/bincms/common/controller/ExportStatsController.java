@@ -0,0 +1,39 @@
+package com.bincms.common.controller;
+
+import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.dto.ExportStatsResponse;
+import com.bincms.common.export.CsvExporter;
+import com.bincms.common.export.ExportTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * CSV 내보내기 진행 현황 API (관리자용)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@RequiredArgsConstructor
+public class ExportStatsController {
+
+    private final CsvExporter csvExporter;
+
+    /**
+     * 진행 중 + 최근 끝난 내보내기 목록
+     */
+    @GetMapping
+    public ApiResponse<ExportStatsResponse> getExports(@RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(ExportStatsResponse.from(csvExporter, Math.max(0, limit)));
+    }
+
+    /**
+     * 내보내기 1건 진행률 (ID: 내보내기 응답의 X-Export-Id 헤더)
+     */
+    @GetMapping("/{id}")
+    public ApiResponse<ExportTask> getExport(@PathVariable String id) {
+        return ApiResponse.success(csvExporter.findTask(id));
+    }
+}
@@ -0,0 +1,41 @@
+package com.bincms.common.controller;
+
+import com.bincms.common.db.SlowOperationRecorder;
+import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.dto.SlowOperationStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 느린 요청 / 느린 SQL 조회 API (관리자용)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/slow-operations")
+@RequiredArgsConstructor
+public class SlowOperationStatsController {
+
+    private final SlowOperationRecorder slowOperationRecorder;
+
+    /**
+     * 최근 느린 요청/SQL 목록 (최신 순, 각각 최대 limit건)
+     */
+    @GetMapping
+    public ApiResponse<SlowOperationStatsResponse> getSlowOperations(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ApiResponse.success(SlowOperationStatsResponse.from(slowOperationRecorder, Math.max(0, limit)));
+    }
+
+    /**
+     * 보관 중인 기록 비우기
+     */
+    @DeleteMapping
+    public ApiResponse<Void> clearSlowOperations() {
+        slowOperationRecorder.getRequests().clear();
+        slowOperationRecorder.getQueries().clear();
+        return ApiResponse.success(null, "느린 요청/SQL 기록이 초기화되었습니다");
+    }
+}
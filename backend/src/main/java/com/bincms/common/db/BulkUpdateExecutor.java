@@ -0,0 +1,130 @@
+package com.bincms.common.db;
+
+import com.bincms.common.dto.BulkActionResponse;
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 관리자 일괄 처리 (삭제/비활성화) 실행기
+ * - ID 목록을 chunk-size 단위로 나누어 청크마다 별도 트랜잭션에서
+ *   대상 ID 조회(SELECT ... IN) 한 번 + 집합 UPDATE(UPDATE ... WHERE id IN) 한 번 실행
+ *   (엔티티 로딩/변경 감지 없음, 긴 트랜잭션으로 잠금을 오래 잡지 않음)
+ * - 대상이 아닌 ID가 있는 청크만 존재 여부를 한 번 더 조회하여 SKIPPED / NOT_FOUND 구분
+ * - JPQL UPDATE는 Auditing을 거치지 않으므로 MOD_DT/MOD_NO를 직접 넘김 (MOD_DT 변경으로 ETag도 갱신됨)
+ * - 청크 단위로 커밋되므로 중간에 실패하면 앞선 청크의 변경은 유지됨
+ * - 호출하는 서비스 메서드는 트랜잭션 밖(Propagation.NOT_SUPPORTED)에서 실행해야 청크별로 커밋됨
+ */
+@Component
+public class BulkUpdateExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public BulkUpdateExecutor(TransactionTemplate transactionTemplate,
+                              AuditorAware<String> auditorAware,
+                              @Value("${app.bulk.chunk-size:500}") int chunkSize,
+                              @Value("${app.bulk.max-items:10000}") int maxItems) {
+        this.transactionTemplate = transactionTemplate;
+        this.auditorAware = auditorAware;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 필터 조회 시 가져올 최대 건수 (max-items 초과 여부 판단용으로 1건 더)
+     */
+    public int filterLimit() {
+        return maxItems + 1;
+    }
+
+    public BulkActionResponse execute(Collection<Long> ids, BulkUpdate update) {
+        long started = System.nanoTime();
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(id -> id == null);
+        if (distinct.size() > maxItems) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 처리할 수 있는 항목은 최대 " + maxItems + "건입니다.");
+        }
+
+        String modNo = auditorAware.getCurrentAuditor().orElse(null);
+        Map<Long, BulkActionResponse.Status> statuses = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(distinct.size(), from + chunkSize));
+            transactionTemplate.executeWithoutResult(status -> applyChunk(chunk, update, modNo, statuses));
+        }
+
+        List<BulkActionResponse.ItemResult> items = new ArrayList<>(distinct.size());
+        int updated = 0;
+        int skipped = 0;
+        for (Long id : distinct) {
+            BulkActionResponse.Status status = statuses.get(id);
+            items.add(new BulkActionResponse.ItemResult(id, status));
+            if (status == BulkActionResponse.Status.UPDATED) {
+                updated++;
+            } else if (status == BulkActionResponse.Status.SKIPPED) {
+                skipped++;
+            }
+        }
+        return BulkActionResponse.builder()
+                .requested(distinct.size())
+                .updated(updated)
+                .skipped(skipped)
+                .notFound(distinct.size() - updated - skipped)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .items(items)
+                .build();
+    }
+
+    private static void applyChunk(List<Long> chunk, BulkUpdate update, String modNo,
+                                   Map<Long, BulkActionResponse.Status> statuses) {
+        List<Long> targets = update.findTargets().apply(chunk);
+        if (!targets.isEmpty()) {
+            update.update().update(targets, LocalDateTime.now(), modNo);
+            targets.forEach(id -> statuses.put(id, BulkActionResponse.Status.UPDATED));
+        }
+        if (targets.size() == chunk.size()) {
+            return;
+        }
+        Set<Long> targetSet = new HashSet<>(targets);
+        List<Long> rest = chunk.stream().filter(id -> !targetSet.contains(id)).toList();
+        Set<Long> existing = new HashSet<>(update.findExisting().apply(rest));
+        for (Long id : rest) {
+            statuses.put(id, existing.contains(id) ? BulkActionResponse.Status.SKIPPED
+                    : BulkActionResponse.Status.NOT_FOUND);
+        }
+    }
+
+    /**
+     * 도메인별 일괄 처리 쿼리
+     *
+     * @param findTargets  청크 중 처리 대상 ID (존재하고 아직 처리되지 않은 항목)
+     * @param findExisting 청크 중 존재하는 ID (대상이 아닌 항목의 SKIPPED / NOT_FOUND 구분용)
+     * @param update       집합 UPDATE (MOD_DT, MOD_NO 함께 갱신)
+     */
+    public record BulkUpdate(Function<List<Long>, List<Long>> findTargets,
+                             Function<List<Long>, List<Long>> findExisting,
+                             ChunkUpdate update) {
+    }
+
+    @FunctionalInterface
+    public interface ChunkUpdate {
+        int update(List<Long> ids, LocalDateTime modDt, String modNo);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bincms.common.db;
+
+import com.bincms.common.http.LatencyHistogram;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP 커넥션 풀 계측
+ * - 커넥션 획득 대기 시간, 대여(사용) 시간, 생성 시간, 획득 시간 초과 건수를 잠금 없이 누적
+ * - 대기 시간 p99가 connection-timeout에 가까워지거나 timeouts가 늘면 풀 고갈 상태 (풀 크기/쿼리 시간 점검)
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    @Getter
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram usageLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram creationLatency = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                creationLatency.record(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireLatency.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageLatency.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+}
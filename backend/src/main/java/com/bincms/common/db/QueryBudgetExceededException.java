@@ -0,0 +1,13 @@
+package com.bincms.common.db;
+
+/**
+ * 요청 단위 쿼리 예산 초과 / 같은 형태의 SQL 반복 (app.query-budget.fail-on-violation=true일 때만 발생)
+ * - 통합 테스트에서 N+1 회귀를 실패로 드러내기 위한 용도 (운영에서는 경고 로그 + 통계만 남김)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String endpoint, int count, int budget, int repeats, String shape) {
+        super("쿼리 예산 위반: " + endpoint + " - " + count + "건 (예산 " + budget + "건), "
+                + "같은 형태 " + repeats + "회 반복: " + shape);
+    }
+}
@@ -0,0 +1,158 @@
+package com.bincms.common.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * SQL 실행 수/시간 측정 DataSource
+ * - 요청 처리 중(RequestQueryTracker 활성)에 얻은 커넥션만 프록시로 감싸고, 스케줄러/배치 커넥션은 그대로 반환
+ * - Statement.execute* 호출마다 SQL과 실행 시간을 RequestQueryTracker에 기록 (ResultSet 순회 시간은 제외)
+ * - 실행 시간이 느린 SQL 임계값 이상이면 SlowOperationRecorder에 기록, SELECT면 그 ResultSet만 감싸 읽은 행 수를 셈
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private final RequestQueryTracker tracker;
+    private final SlowOperationRecorder slowOperationRecorder;
+
+    public QueryCountingDataSource(DataSource targetDataSource, RequestQueryTracker tracker,
+                                   SlowOperationRecorder slowOperationRecorder) {
+        super(targetDataSource);
+        this.tracker = tracker;
+        this.slowOperationRecorder = slowOperationRecorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        if (!tracker.isActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+            // prepareStatement/prepareCall은 SQL이 미리 정해짐, createStatement는 execute(sql) 인자로 받음
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long started = System.nanoTime();
+            Object result = null;
+            SlowOperationRecorder.SlowQuery slow = null;
+            try {
+                result = QueryCountingDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                tracker.record(sql, elapsed);
+                if (slowOperationRecorder.isSlowSql(elapsed)) {
+                    slow = slowOperationRecorder.recordSql(tracker.currentEndpoint(), sql, method.getName(),
+                            elapsed, affectedRows(result));
+                }
+            }
+            if (slow != null && result instanceof ResultSet resultSet) {
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class}, new RowCountingHandler(resultSet, slow));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 변경 행 수 (executeUpdate/executeBatch 결과, SELECT는 0에서 시작해 ResultSet을 읽으며 갱신)
+     */
+    private static long affectedRows(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof int[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+        }
+        if (result instanceof long[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).sum();
+        }
+        return result instanceof ResultSet ? 0 : -1;
+    }
+
+    /**
+     * 느린 SELECT의 ResultSet만 감싸 next() 성공 횟수를 기록
+     */
+    private static final class RowCountingHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final SlowOperationRecorder.SlowQuery slow;
+        private long rows;
+
+        RowCountingHandler(ResultSet target, SlowOperationRecorder.SlowQuery slow) {
+            this.target = target;
+            this.slow = slow;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                slow.setRows(++rows);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.bincms.common.db;
+
+import com.bincms.common.web.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽기 일관성(read-your-writes) 추적
+ * - 변경 요청(POST/PUT/PATCH/DELETE)에서 쓰기 트랜잭션이 커넥션을 얻으면 요청자(로그인 ID, 없으면 클라이언트 IP)를 기록
+ * - 기록 후 sticky-window 동안 같은 요청자의 읽기 전용 트랜잭션은 복제 지연을 피하도록 primary로 보냄
+ * - GET 요청 중 쓰기(조회수 증가 등)는 요청자가 결과를 다시 읽지 않으므로 기록하지 않음
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final ClientIpResolver clientIpResolver;
+    private final long stickyWindowNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(ClientIpResolver clientIpResolver,
+                                 @Value("${app.datasource.routing.sticky-window:5s}") Duration stickyWindow,
+                                 @Value("${app.datasource.routing.sticky-max-keys:100000}") int maxKeys) {
+        this.clientIpResolver = clientIpResolver;
+        this.stickyWindowNanos = stickyWindow.toNanos();
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 현재 요청이 변경 요청이면 요청자의 쓰기 시각 기록
+     */
+    public void markWrite() {
+        HttpServletRequest request = currentRequest();
+        if (request == null || isSafeMethod(request.getMethod())) {
+            return;
+        }
+        if (lastWrites.size() >= maxKeys) {
+            // 상한 초과 시 기록하지 않음 (해당 요청자는 복제 지연만큼 이전 데이터를 볼 수 있음)
+            return;
+        }
+        lastWrites.put(actorKey(request), System.nanoTime());
+    }
+
+    /**
+     * 현재 요청자가 sticky-window 안에 쓰기를 했는지
+     */
+    public boolean isRecentWriter() {
+        if (lastWrites.isEmpty()) {
+            return false;
+        }
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(actorKey(request));
+        return writtenAt != null && System.nanoTime() - writtenAt < stickyWindowNanos;
+    }
+
+    /**
+     * 만료된 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.sticky-purge-interval-ms:10000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickyWindowNanos);
+    }
+
+    public int size() {
+        return lastWrites.size();
+    }
+
+    private String actorKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static boolean isSafeMethod(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
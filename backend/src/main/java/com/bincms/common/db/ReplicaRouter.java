@@ -0,0 +1,286 @@
+package com.bincms.common.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 복제본(replica) 선택
+ * - app.datasource.replicas[n].{name,url,username,password}로 복제본별 커넥션 풀 생성
+ *   (풀 설정은 spring.datasource.hikari.* 공통값, 크기만 app.datasource.routing.replica-pool-size로 조정)
+ * - 정상 복제본을 라운드 로빈으로 선택하고, 커넥션 획득에 실패하면 다음 복제본으로 넘어감
+ *   (풀이 바빠 대기 시간이 지난 경우는 그 요청만 넘어가고, 연결 자체가 실패한 경우에만 다음 검사까지 제외)
+ * - 주기적으로 연결 확인 + 복제 지연 측정, 지연이 max-lag를 넘거나 측정할 수 없으면 제외
+ * - 정상 복제본이 없거나 요청자가 방금 쓰기를 했으면(read-your-writes) primary 사용
+ */
+@Slf4j
+@Component
+public class ReplicaRouter {
+
+    private static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END
+            """;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    @Getter
+    private final List<Replica> replicas;
+    @Getter
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder stickyFallbacks = new LongAdder();
+    private final LongAdder unavailableFallbacks = new LongAdder();
+    private final LongAdder busySkips = new LongAdder();
+
+    public ReplicaRouter(Environment env,
+                         ReadYourWritesTracker readYourWritesTracker,
+                         @Value("${app.datasource.routing.max-lag:5s}") Duration maxLag,
+                         @Value("${app.datasource.routing.replica-pool-size:10}") int replicaPoolSize) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        Binder binder = Binder.get(env);
+        List<ReplicaProperties> properties = binder.bind("app.datasource.replicas",
+                Bindable.listOf(ReplicaProperties.class)).orElse(List.of());
+        List<Replica> created = new ArrayList<>(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            ReplicaProperties replica = properties.get(i);
+            String name = replica.name() != null ? replica.name() : "replica-" + (i + 1);
+            HikariConfig config = new HikariConfig();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(config));
+            config.setPoolName("bincms-" + name);
+            config.setJdbcUrl(replica.url());
+            config.setUsername(replica.username());
+            config.setPassword(replica.password());
+            config.setMaximumPoolSize(replicaPoolSize);
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), replicaPoolSize));
+            config.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 계속하고 헬스 체크에서 제외
+            config.setInitializationFailTimeout(-1);
+            created.add(new Replica(name, replica.url(), new HikariDataSource(config)));
+        }
+        this.replicas = Collections.unmodifiableList(created);
+        if (!replicas.isEmpty()) {
+            log.info("읽기 전용 복제본 {}개 등록: {}", replicas.size(), replicas.stream().map(Replica::getName).toList());
+            checkHealth();
+        }
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션용 DataSource (복제본 선택, 불가하면 primary)
+     */
+    public DataSource readOnlyDataSource(DataSource primary) {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return route(primary, DataSource::getConnection);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return route(primary, dataSource -> dataSource.getConnection(username, password));
+            }
+        };
+    }
+
+    /**
+     * 복제본을 순서대로 골라 커넥션 획득, 최근 쓰기 요청자이거나 정상 복제본이 없으면 primary
+     * - 계정 지정 획득을 지원하지 않는 풀(SQLFeatureNotSupportedException)은 장애가 아니므로 제외하지 않고 그대로 전달
+     * - 풀 획득 대기 시간 초과(isPoolBusy)는 복제본 장애가 아니므로 제외하지 않고 이번 요청만 다음 복제본/primary로 넘김
+     */
+    private Connection route(DataSource primary, ConnectionOpener opener) throws SQLException {
+        if (readYourWritesTracker.isRecentWriter()) {
+            stickyFallbacks.increment();
+            return opener.open(primary);
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replicaConnections.increment();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                throw e;
+            } catch (SQLException e) {
+                if (isPoolBusy(e)) {
+                    busySkips.increment();
+                    log.debug("복제본 커넥션 풀 대기 시간 초과, 이번 요청만 넘어감: {}", replica.name);
+                    continue;
+                }
+                replica.markDown(e.getMessage());
+                log.warn("복제본 커넥션 획득 실패 ({}), 다음 검사까지 제외: {}", replica.name, e.getMessage());
+            }
+        }
+        unavailableFallbacks.increment();
+        return opener.open(primary);
+    }
+
+    /**
+     * Hikari 풀 획득 대기 시간 초과 여부
+     * - Hikari는 대기 중 새 연결 생성이 실패했으면 그 오류를 cause로 붙이므로, cause가 없을 때만 단순 대기 초과로 판단
+     */
+    private static boolean isPoolBusy(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    /**
+     * 복제본 연결 확인 + 복제 지연 측정
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                Double lagSeconds = measureLag(connection, replica.url);
+                replica.lagSeconds = lagSeconds;
+                if (lagSeconds == null) {
+                    replica.markDown("복제 중단 또는 지연 측정 불가");
+                } else if (lagSeconds > maxLag.toMillis() / 1000.0) {
+                    replica.markDown("복제 지연 " + lagSeconds + "s");
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    public long getStickyFallbacks() {
+        return stickyFallbacks.sum();
+    }
+
+    public long getUnavailableFallbacks() {
+        return unavailableFallbacks.sum();
+    }
+
+    /**
+     * 풀 획득 대기 시간 초과로 복제본을 건너뛴 횟수 (복제본은 제외하지 않음)
+     */
+    public long getBusySkips() {
+        return busySkips.sum();
+    }
+
+    /**
+     * 복제 지연(초), 복제가 멈췄거나 상태를 알 수 없으면 null
+     * - MySQL: SHOW REPLICA STATUS의 Seconds_Behind_Source
+     * - PostgreSQL: 마지막 재생 트랜잭션 시각 기준 (수신한 WAL을 모두 재생했으면 0)
+     * - 그 외(H2 등): 연결만 확인하고 지연 0으로 간주
+     */
+    private static Double measureLag(Connection connection, String url) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (url.contains("mysql")) {
+                try (ResultSet rs = statement.executeQuery(MYSQL_LAG_QUERY)) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    long seconds = rs.getLong("Seconds_Behind_Source");
+                    return rs.wasNull() ? null : (double) seconds;
+                }
+            }
+            if (url.contains("postgresql")) {
+                try (ResultSet rs = statement.executeQuery(POSTGRES_LAG_QUERY)) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    double seconds = rs.getDouble(1);
+                    return rs.wasNull() ? null : seconds;
+                }
+            }
+            if (!connection.isValid(1)) {
+                throw new SQLException("연결 확인 실패");
+            }
+            return 0.0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * 복제본 접속 설정
+     */
+    public record ReplicaProperties(String name, String url, String username, String password) {
+    }
+
+    /**
+     * 복제본 상태
+     */
+    @Getter
+    public static final class Replica {
+        private final String name;
+        private final String url;
+        private final HikariDataSource dataSource;
+        private final LongAdder connections = new LongAdder();
+        private volatile boolean healthy;
+        private volatile Double lagSeconds;
+        private volatile String lastError;
+
+        Replica(String name, String url, HikariDataSource dataSource) {
+            this.name = name;
+            this.url = url;
+            this.dataSource = dataSource;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("복제본 사용 재개: {}", name);
+            }
+            healthy = true;
+            lastError = null;
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                log.warn("복제본 제외: {} ({})", name, reason);
+            }
+            healthy = false;
+            lastError = reason;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.bincms.common.db;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 SQL 실행 추적 (쿼리 예산 + N+1 감지)
+ * - QueryCountFilter가 요청 시작/종료를 알리고, QueryCountingDataSource가 실행된 SQL과 JDBC 실행 시간을 기록
+ * - 요청 스레드에 묶인 ThreadLocal로 집계하므로 @Async/스케줄러에서 실행된 SQL은 포함하지 않음
+ * - 엔드포인트(메서드 + 매핑 패턴)별 예산(max-queries)을 넘거나 같은 형태의 SQL이 repeat-threshold회 이상
+ *   반복되면(N+1 의심) 경고 로그 + 통계에 기록
+ * - fail-on-violation=true(통합 테스트용)면 위반 시점의 SQL 실행에서 QueryBudgetExceededException을 던져 요청을 실패시킴
+ * - 메트릭: bincms.http.queries{method, uri} (요청당 SQL 수 분포), 예산 초과/N+1 의심 카운터
+ *   (DataSource보다 늦게 만들어지는 MeterRegistry는 MeterBinder로 받아 순환 의존을 피함)
+ */
+@Slf4j
+@Component
+public class RequestQueryTracker implements MeterBinder {
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SHAPE_LENGTH = 300;
+    private static final String UNMAPPED = "(unmapped)";
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final int defaultMaxQueries;
+    @Getter
+    private final int repeatThreshold;
+    @Getter
+    private final boolean failOnViolation;
+    @Getter
+    private final boolean debugHeader;
+    private final int maxEndpoints;
+    /** "GET /api/v1/public/posts/{id}" → 예산 */
+    private final Map<String, Integer> endpointBudgets;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder budgetViolations = new LongAdder();
+    private final LongAdder repeatedShapeRequests = new LongAdder();
+    private volatile MeterRegistry meterRegistry;
+
+    public RequestQueryTracker(Environment env,
+                               @Value("${app.query-budget.enabled:true}") boolean enabled,
+                               @Value("${app.query-budget.default-max-queries:30}") int defaultMaxQueries,
+                               @Value("${app.query-budget.repeat-threshold:10}") int repeatThreshold,
+                               @Value("${app.query-budget.fail-on-violation:false}") boolean failOnViolation,
+                               @Value("${app.query-budget.debug-header:false}") boolean debugHeader,
+                               @Value("${app.query-budget.max-endpoints:500}") int maxEndpoints) {
+        this.enabled = enabled;
+        this.defaultMaxQueries = defaultMaxQueries;
+        this.repeatThreshold = repeatThreshold;
+        this.failOnViolation = failOnViolation;
+        this.debugHeader = debugHeader;
+        this.maxEndpoints = maxEndpoints;
+        this.endpointBudgets = Binder.get(env)
+                .bind("app.query-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bincms.http.queries.budget.violations", this, RequestQueryTracker::getBudgetViolations)
+                .description("요청당 쿼리 예산 초과")
+                .register(registry);
+        FunctionCounter.builder("bincms.http.queries.repeated", this, RequestQueryTracker::getRepeatedShapeRequests)
+                .description("같은 형태의 SQL 반복(N+1 의심) 요청")
+                .register(registry);
+        this.meterRegistry = registry;
+    }
+
+    /**
+     * 요청 시작 (현재 스레드에 집계 시작)
+     */
+    public void begin(HttpServletRequest request) {
+        CURRENT.set(new RequestQueries(request));
+    }
+
+    /**
+     * 요청 종료 (엔드포인트 통계 반영, 위반 시 경고 로그)
+     */
+    public void end() {
+        RequestQueries queries = CURRENT.get();
+        CURRENT.remove();
+        if (queries == null) {
+            return;
+        }
+        requests.increment();
+        String endpoint = queries.endpoint();
+        int budget = budgetFor(endpoint);
+        boolean overBudget = queries.count > budget;
+        Map.Entry<String, Integer> repeated = queries.mostRepeatedShape();
+        boolean repeatedShape = repeated != null && repeated.getValue() >= repeatThreshold;
+
+        if (overBudget) {
+            budgetViolations.increment();
+            log.warn("쿼리 예산 초과: {} - {}건 (예산 {}건), JDBC {}ms",
+                    endpoint, queries.count, budget, queries.nanos / 1_000_000);
+        }
+        if (repeatedShape) {
+            repeatedShapeRequests.increment();
+            log.warn("N+1 의심: {} - 같은 형태의 SQL {}회 반복: {}", endpoint, repeated.getValue(), repeated.getKey());
+        }
+
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            if (endpoints.size() >= maxEndpoints) {
+                return;
+            }
+            stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats(key, budget));
+        }
+        stats.record(queries.count, queries.nanos, overBudget, repeatedShape ? repeated.getKey() : null);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            stats.querySummary(registry, queries.request.getMethod(), queries.pattern()).record(queries.count);
+        }
+    }
+
+    /**
+     * 현재 요청에서 실행된 SQL 수 (요청 밖이면 -1)
+     */
+    public int currentCount() {
+        RequestQueries queries = CURRENT.get();
+        return queries != null ? queries.count : -1;
+    }
+
+    /**
+     * 현재 요청의 JDBC 실행 시간 합계 (나노초, 요청 밖이면 0)
+     */
+    public long currentNanos() {
+        RequestQueries queries = CURRENT.get();
+        return queries != null ? queries.nanos : 0;
+    }
+
+    /**
+     * 현재 요청 엔드포인트의 예산 (요청 밖이면 -1)
+     */
+    public int currentBudget() {
+        RequestQueries queries = CURRENT.get();
+        return queries != null ? budgetFor(queries.endpoint()) : -1;
+    }
+
+    /**
+     * 현재 요청의 엔드포인트 (요청 밖이면 null)
+     */
+    public String currentEndpoint() {
+        RequestQueries queries = CURRENT.get();
+        return queries != null ? queries.endpoint() : null;
+    }
+
+    public boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * SQL 실행 기록 (QueryCountingDataSource에서 호출)
+     */
+    void record(String sql, long nanos) {
+        RequestQueries queries = CURRENT.get();
+        if (queries == null) {
+            return;
+        }
+        queries.count++;
+        queries.nanos += nanos;
+        int repeats = queries.shapes.merge(shape(sql), 1, Integer::sum);
+        if (failOnViolation && !queries.failed) {
+            int budget = budgetFor(queries.endpoint());
+            if (queries.count > budget || repeats >= repeatThreshold) {
+                queries.failed = true;
+                throw new QueryBudgetExceededException(queries.endpoint(), queries.count, budget, repeats, shape(sql));
+            }
+        }
+    }
+
+    public int budgetFor(String endpoint) {
+        return endpointBudgets.getOrDefault(endpoint, defaultMaxQueries);
+    }
+
+    public Collection<EndpointStats> getEndpoints() {
+        return endpoints.values();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getBudgetViolations() {
+        return budgetViolations.sum();
+    }
+
+    public long getRepeatedShapeRequests() {
+        return repeatedShapeRequests.sum();
+    }
+
+    /**
+     * SQL 형태 (리터럴 → ?, IN 목록 축약, 공백 정리): 바인딩 값만 다른 반복 실행을 같은 형태로 묶음
+     */
+    static String shape(String sql) {
+        if (sql == null) {
+            return "(batch)";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    /**
+     * 요청 하나의 집계 (요청 스레드 전용이므로 동기화 없음)
+     */
+    private static final class RequestQueries {
+        final HttpServletRequest request;
+        final Map<String, Integer> shapes = new HashMap<>();
+        int count;
+        long nanos;
+        boolean failed;
+
+        RequestQueries(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        /**
+         * 메서드 + 매핑 패턴 (핸들러 매핑 전이면 매핑 없음으로 분류)
+         */
+        String endpoint() {
+            return request.getMethod() + " " + pattern();
+        }
+
+        String pattern() {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return pattern != null ? pattern.toString() : UNMAPPED;
+        }
+
+        Map.Entry<String, Integer> mostRepeatedShape() {
+            Map.Entry<String, Integer> max = null;
+            for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+                if (max == null || entry.getValue() > max.getValue()) {
+                    max = entry;
+                }
+            }
+            return max;
+        }
+    }
+
+    /**
+     * 엔드포인트별 누적 통계
+     */
+    @Getter
+    public static final class EndpointStats {
+        private final String endpoint;
+        private final int budget;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final LongAccumulator maxQueries = new LongAccumulator(Long::max, 0);
+        private final LongAdder budgetViolations = new LongAdder();
+        private final LongAdder repeatedShapeRequests = new LongAdder();
+        private volatile String lastRepeatedShape;
+        private volatile DistributionSummary querySummary;
+
+        EndpointStats(String endpoint, int budget) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+        }
+
+        void record(int count, long nanos, boolean overBudget, String repeatedShape) {
+            requests.increment();
+            queries.add(count);
+            jdbcNanos.add(nanos);
+            maxQueries.accumulate(count);
+            if (overBudget) {
+                budgetViolations.increment();
+            }
+            if (repeatedShape != null) {
+                repeatedShapeRequests.increment();
+                lastRepeatedShape = repeatedShape;
+            }
+        }
+
+        DistributionSummary querySummary(MeterRegistry registry, String method, String uri) {
+            DistributionSummary summary = querySummary;
+            if (summary == null) {
+                summary = DistributionSummary.builder("bincms.http.queries")
+                        .description("요청당 SQL 실행 수")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(registry);
+                Gauge.builder("bincms.http.queries.budget", this, EndpointStats::getBudget)
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(registry);
+                querySummary = summary;
+            }
+            return summary;
+        }
+    }
+}
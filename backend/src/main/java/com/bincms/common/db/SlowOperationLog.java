@@ -0,0 +1,65 @@
+package com.bincms.common.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 링 버퍼 (락 없음)
+ * - 기록: 순번 getAndIncrement 한 번 + 슬롯 set 한 번, 가득 차면 가장 오래된 항목을 덮어씀
+ * - 조회: 최신 순번부터 거꾸로 읽음 (기록 중인 슬롯은 이전 항목이나 빈 값이 보일 수 있으며 그 경우 건너뜀)
+ */
+public class SlowOperationLog<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param capacity 보관 건수 (2의 거듭제곱으로 올림)
+     */
+    public SlowOperationLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public void add(T entry) {
+        long index = sequence.getAndIncrement();
+        slots.set((int) (index & mask), entry);
+    }
+
+    /**
+     * 최신 순 목록
+     */
+    public List<T> snapshot() {
+        long last = sequence.get();
+        long first = Math.max(0, last - slots.length());
+        List<T> entries = new ArrayList<>((int) (last - first));
+        for (long index = last - 1; index >= first; index--) {
+            T entry = slots.get((int) (index & mask));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * 기동 이후 기록된 전체 건수 (덮어써진 항목 포함)
+     */
+    public long getTotal() {
+        return sequence.get();
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,129 @@
+package com.bincms.common.db;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 느린 요청 / 느린 SQL 개별 기록
+ * - 요청 처리 시간(SlowRequestFilter)과 SQL 실행 시간(QueryCountingDataSource)이 임계값 이상인 건만 링 버퍼에 보관
+ * - 임계값 미만이면 이미 측정한 시간과 비교 한 번으로 끝나므로 운영 환경에서도 켜 둘 수 있음
+ * - SQL은 리터럴을 ?로 바꾼 형태와 바인딩 파라미터 수만 보관 (개인정보 등 실제 값은 남기지 않음)
+ * - SQL 측정은 요청 처리 중 실행된 것만 대상 (app.query-budget.enabled=false면 SQL 기록 없음)
+ * - 조회: GET /api/v1/admin/slow-operations
+ */
+@Slf4j
+@Component
+public class SlowOperationRecorder {
+
+    @Getter
+    private final boolean enabled;
+    private final long requestThresholdNanos;
+    private final long sqlThresholdNanos;
+    @Getter
+    private final SlowOperationLog<SlowRequest> requests;
+    @Getter
+    private final SlowOperationLog<SlowQuery> queries;
+
+    public SlowOperationRecorder(@Value("${app.slow-log.enabled:true}") boolean enabled,
+                                 @Value("${app.slow-log.request-threshold:1s}") Duration requestThreshold,
+                                 @Value("${app.slow-log.sql-threshold:200ms}") Duration sqlThreshold,
+                                 @Value("${app.slow-log.capacity:256}") int capacity) {
+        this.enabled = enabled;
+        this.requestThresholdNanos = enabled ? requestThreshold.toNanos() : Long.MAX_VALUE;
+        this.sqlThresholdNanos = enabled ? sqlThreshold.toNanos() : Long.MAX_VALUE;
+        this.requests = new SlowOperationLog<>(capacity);
+        this.queries = new SlowOperationLog<>(capacity);
+    }
+
+    public boolean isSlowRequest(long nanos) {
+        return nanos >= requestThresholdNanos;
+    }
+
+    public boolean isSlowSql(long nanos) {
+        return nanos >= sqlThresholdNanos;
+    }
+
+    public void recordRequest(SlowRequest request) {
+        requests.add(request);
+        log.warn("느린 요청: {} {} - {}ms (status {}, SQL {}건 / {}ms)", request.method(), request.path(),
+                request.durationMillis(), request.status(), request.queries(), request.jdbcMillis());
+    }
+
+    /**
+     * 느린 SQL 기록 (SELECT 행 수는 ResultSet을 읽는 동안 갱신되므로 기록한 객체를 반환)
+     */
+    public SlowQuery recordSql(String endpoint, String sql, String operation, long nanos, long rows) {
+        SlowQuery query = new SlowQuery(LocalDateTime.now(), endpoint, RequestQueryTracker.shape(sql),
+                parameterCount(sql), operation, nanos / 1_000, rows);
+        queries.add(query);
+        log.warn("느린 SQL: {} - {}ms: {}", endpoint, nanos / 1_000_000, query.getShape());
+        return query;
+    }
+
+    public Duration getRequestThreshold() {
+        return Duration.ofNanos(requestThresholdNanos);
+    }
+
+    public Duration getSqlThreshold() {
+        return Duration.ofNanos(sqlThresholdNanos);
+    }
+
+    private static int parameterCount(String sql) {
+        if (sql == null) {
+            return 0;
+        }
+        int count = 0;
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 느린 요청 (엔드포인트는 매핑 패턴, path는 실제 요청 경로 - 쿼리 문자열 제외)
+     */
+    public record SlowRequest(LocalDateTime at, String method, String endpoint, String path, int status,
+                              long durationMillis, int queries, long jdbcMillis) {
+    }
+
+    /**
+     * 느린 SQL (실행 시간은 execute* 호출 기준, ResultSet 순회 시간 제외)
+     */
+    @Getter
+    public static final class SlowQuery {
+        private final LocalDateTime at;
+        private final String endpoint;
+        private final String shape;
+        private final int parameters;
+        private final String operation;
+        private final long durationMicros;
+        /** 조회 행 수 또는 변경 행 수 (알 수 없으면 -1) */
+        private volatile long rows;
+
+        SlowQuery(LocalDateTime at, String endpoint, String shape, int parameters, String operation,
+                  long durationMicros, long rows) {
+            this.at = at;
+            this.endpoint = endpoint;
+            this.shape = shape;
+            this.parameters = parameters;
+            this.operation = operation;
+            this.durationMicros = durationMicros;
+            this.rows = rows;
+        }
+
+        void setRows(long rows) {
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bincms.common.db;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 느린 요청 기록
+ * - QueryCountFilter 안쪽에서 실행되어 요청 종료 시점의 SQL 수/JDBC 시간을 함께 기록
+ * - 빠른 요청은 System.nanoTime() 두 번과 비교 한 번만 수행
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 21)
+@RequiredArgsConstructor
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private final SlowOperationRecorder slowOperationRecorder;
+    private final RequestQueryTracker requestQueryTracker;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !slowOperationRecorder.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            if (slowOperationRecorder.isSlowRequest(elapsed)) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                slowOperationRecorder.recordRequest(new SlowOperationRecorder.SlowRequest(
+                        LocalDateTime.now(),
+                        request.getMethod(),
+                        pattern != null ? pattern.toString() : null,
+                        request.getRequestURI(),
+                        failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        elapsed / 1_000_000,
+                        requestQueryTracker.currentCount(),
+                        requestQueryTracker.currentNanos() / 1_000_000));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bincms.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 처리 결과 응답 DTO
+ */
+@Getter
+@Builder
+public class BulkActionResponse {
+
+    private int requested;
+    private int updated;
+    /** 이미 삭제/비활성 상태이거나 처리 대상이 아닌 항목 */
+    private int skipped;
+    private int notFound;
+    private long elapsedMillis;
+
+    /** 요청 ID 순서대로 항목별 결과 */
+    private List<ItemResult> items;
+
+    public enum Status {
+        UPDATED, SKIPPED, NOT_FOUND
+    }
+
+    public record ItemResult(Long id, Status status) {
+    }
+
+    /**
+     * 실제로 변경된 ID (캐시 무효화용)
+     */
+    public List<Long> updatedIds() {
+        return items.stream()
+                .filter(item -> item.status() == Status.UPDATED)
+                .map(ItemResult::id)
+                .toList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.bincms.common.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * ID 목록 일괄 처리 요청 DTO
+ */
+@Getter
+@Setter
+public class BulkIdsRequest {
+
+    @NotEmpty(message = "ID 목록은 필수입니다")
+    private List<Long> ids;
+}
@@ -0,0 +1,35 @@
+package com.bincms.common.dto;
+
+import com.bincms.common.export.CsvExporter;
+import com.bincms.common.export.ExportTask;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * CSV 내보내기 진행 현황 응답 DTO
+ */
+@Getter
+@Builder
+public class ExportStatsResponse {
+
+    private int maxConcurrent;
+    private int active;
+    /** 동시 실행 상한 초과로 거절한 요청 (기동 이후 누적) */
+    private long rejected;
+
+    private List<ExportTask> running;
+    /** 끝난 내보내기 (최신 순) */
+    private List<ExportTask> recent;
+
+    public static ExportStatsResponse from(CsvExporter exporter, int limit) {
+        return ExportStatsResponse.builder()
+                .maxConcurrent(exporter.getBulkhead().getMaxConcurrent())
+                .active(exporter.getBulkhead().getActive())
+                .rejected(exporter.getBulkhead().getRejected())
+                .running(exporter.getRunning())
+                .recent(exporter.getHistory().snapshot().stream().limit(limit).toList())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.bincms.common.dto;
+
+import com.bincms.common.db.SlowOperationRecorder;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 느린 요청 / 느린 SQL 기록 응답 DTO
+ */
+@Getter
+@Builder
+public class SlowOperationStatsResponse {
+
+    private boolean enabled;
+    private long requestThresholdMillis;
+    private long sqlThresholdMillis;
+    private int capacity;
+
+    /** 기동 이후 기록된 건수 (보관 용량을 넘은 오래된 건 포함) */
+    private long totalSlowRequests;
+    private long totalSlowQueries;
+
+    /** 최신 순 */
+    private List<SlowOperationRecorder.SlowRequest> requests;
+    private List<SlowOperationRecorder.SlowQuery> queries;
+
+    public static SlowOperationStatsResponse from(SlowOperationRecorder recorder, int limit) {
+        return SlowOperationStatsResponse.builder()
+                .enabled(recorder.isEnabled())
+                .requestThresholdMillis(recorder.getRequestThreshold().toMillis())
+                .sqlThresholdMillis(recorder.getSqlThreshold().toMillis())
+                .capacity(recorder.getRequests().getCapacity())
+                .totalSlowRequests(recorder.getRequests().getTotal())
+                .totalSlowQueries(recorder.getQueries().getTotal())
+                .requests(recorder.getRequests().snapshot().stream().limit(limit).toList())
+                .queries(recorder.getQueries().snapshot().stream().limit(limit).toList())
+                .build();
+    }
+}
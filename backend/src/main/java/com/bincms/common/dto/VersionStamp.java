@@ -0,0 +1,22 @@
+package com.bincms.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 리소스의 버전 식별 정보 (ETag 계산용)
+ * - 엔티티를 로딩하지 않고 집계 쿼리(MAX(MOD_DT), COUNT, SUM(ID))만으로 변경 여부를 판단
+ * - 건수/ID 합계를 함께 사용하여 추가·삭제로 MOD_DT 최댓값이 바뀌지 않는 경우도 감지
+ * - counterSum: MOD_DT를 바꾸지 않고 갱신되는 값(조회수)의 합계, 목록에 표시되면 함께 집계
+ * - relatedModified: 목록에 함께 표시되는 다른 테이블(작성자 등)의 최종 수정일시
+ */
+public record VersionStamp(LocalDateTime lastModified, Long count, Long idSum, Long counterSum,
+                           LocalDateTime relatedModified) {
+
+    public VersionStamp(LocalDateTime lastModified, Long count, Long idSum) {
+        this(lastModified, count, idSum, null, null);
+    }
+
+    public VersionStamp(LocalDateTime lastModified, Long count, Long idSum, Long counterSum) {
+        this(lastModified, count, idSum, counterSum, null);
+    }
+}
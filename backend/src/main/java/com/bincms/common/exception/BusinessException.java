@@ -2,18 +2,22 @@ package com.bincms.common.exception;
 
 import lombok.Getter;
 
+/**
+ * 예상된 업무 오류 (없는 게시글, 댓글 비밀번호 불일치, 인증 코드 만료 등)
+ * - 4xx 오류는 정상적인 흐름의 일부이므로 스택 트레이스를 만들지 않음 (생성 비용 최소화)
+ * - 5xx 오류는 원인 추적을 위해 스택 트레이스를 남김
+ */
 @Getter
 public class BusinessException extends RuntimeException {
     
     private final ErrorCode errorCode;
     
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage());
     }
     
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, false, !errorCode.isExpected());
         this.errorCode = errorCode;
     }
 }
@@ -14,6 +14,10 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "요청한 리소스를 찾을 수 없습니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "C004", "인증이 필요합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "C005", "권한이 없습니다."),
+    EXTERNAL_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C006", "외부 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C007", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C008", "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C009", "지원하지 않는 요청 방식입니다."),
     
     // Member
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "회원을 찾을 수 없습니다."),
@@ -36,6 +40,9 @@ public enum ErrorCode {
     // Site
     SITE_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "사이트를 찾을 수 없습니다."),
     
+    // Inquiry
+    INQUIRY_NOT_FOUND(HttpStatus.NOT_FOUND, "Q001", "견적문의를 찾을 수 없습니다."),
+    
     // Content
     CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CO001", "콘텐츠를 찾을 수 없습니다."),
     
@@ -46,9 +53,21 @@ public enum ErrorCode {
     INTERIOR_NOT_FOUND(HttpStatus.NOT_FOUND, "IN001", "인테리어를 찾을 수 없습니다."),
     
     // File
-    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F001", "파일을 찾을 수 없습니다.");
+    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F001", "파일을 찾을 수 없습니다."),
+    
+    // Import
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "I001", "가져오기 작업을 찾을 수 없습니다."),
+    IMPORT_FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "I002", "가져오기 파일이 너무 큽니다."),
+    IMPORT_NOT_RESUMABLE(HttpStatus.CONFLICT, "I003", "재개할 수 없는 가져오기 작업입니다.");
     
     private final HttpStatus status;
     private final String code;
     private final String message;
+    
+    /**
+     * 클라이언트 요청으로 생긴 예상된 오류 (4xx) 여부
+     */
+    public boolean isExpected() {
+        return status.is4xxClientError();
+    }
 }
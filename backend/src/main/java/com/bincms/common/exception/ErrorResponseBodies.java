@@ -0,0 +1,61 @@
+package com.bincms.common.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ErrorCode별 오류 응답 본문 (기동 시 미리 직렬화)
+ * - 기본 메시지를 쓰는 오류 응답은 ApiResponse 생성/Jackson 직렬화 없이 고정 바이트 사이에 현재 시각만 끼워 넣음
+ * - 형식은 ApiResponse.error(code, message)와 같음: {"success":false,"message":..,"error":..,"timestamp":..}
+ * - 존재하지 않는 ID를 훑는 스캐너처럼 오류 응답이 대량으로 나가는 경우에도 성공 응답보다 비싸지 않게 하기 위함
+ */
+@Component
+public class ErrorResponseBodies {
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    /** ErrorCode → `{"success":false,"message":"..","error":"..","timestamp":"` */
+    private final Map<ErrorCode, byte[]> prefixes = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseBodies(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("success", false);
+            body.put("message", errorCode.getMessage());
+            body.put("error", errorCode.getCode());
+            String json = objectMapper.writeValueAsString(body);
+            prefixes.put(errorCode, (json.substring(0, json.length() - 1) + ",\"timestamp\":\"")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 기본 메시지 오류 응답 본문
+     */
+    public byte[] body(ErrorCode errorCode) {
+        byte[] prefix = prefixes.get(errorCode);
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[prefix.length + timestamp.length + SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+        System.arraycopy(SUFFIX, 0, body, prefix.length + timestamp.length, SUFFIX.length);
+        return body;
+    }
+
+    public ResponseEntity<byte[]> toResponse(ErrorCode errorCode) {
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(errorCode));
+    }
+}
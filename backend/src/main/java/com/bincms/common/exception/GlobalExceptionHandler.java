@@ -1,45 +1,110 @@
 package com.bincms.common.exception;
 
 import com.bincms.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+/**
+ * 전역 예외 처리
+ * - 예상된 오류(4xx 업무 오류, 입력값 검증, 없는 경로)는 스택 트레이스 없이 DEBUG 로그만 남기고,
+ *   기본 메시지면 미리 직렬화한 본문(ErrorResponseBodies)으로 응답
+ * - 예상하지 못한 오류(5xx)만 ERROR 로그 + 스택 트레이스
+ */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
-    
+
+    private final ErrorResponseBodies errorResponseBodies;
+
     @ExceptionHandler(BusinessException.class)
-    protected ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
-        log.error("BusinessException: {}", e.getMessage(), e);
+    protected ResponseEntity<?> handleBusinessException(BusinessException e) {
         ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.isExpected()) {
+            log.debug("BusinessException: {} {}", errorCode.getCode(), e.getMessage());
+        } else {
+            log.error("BusinessException: {}", e.getMessage(), e);
+        }
+        if (errorCode.getMessage().equals(e.getMessage())) {
+            return errorResponseBodies.toResponse(errorCode);
+        }
         return ResponseEntity
                 .status(errorCode.getStatus())
                 .body(ApiResponse.error(errorCode.getCode(), e.getMessage()));
     }
-    
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        log.error("MethodArgumentNotValidException: {}", e.getMessage(), e);
+        log.debug("MethodArgumentNotValidException: {}", e.getMessage());
         String message = e.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(ErrorCode.INVALID_INPUT_VALUE.getCode(), message));
     }
-    
+
     @ExceptionHandler(BindException.class)
     protected ResponseEntity<ApiResponse<Void>> handleBindException(BindException e) {
-        log.error("BindException: {}", e.getMessage(), e);
+        log.debug("BindException: {}", e.getMessage());
         String message = e.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(ErrorCode.INVALID_INPUT_VALUE.getCode(), message));
     }
-    
+
+    /**
+     * 경로 변수 타입 불일치 (예: /posts/abc)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    protected ResponseEntity<byte[]> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        log.debug("MethodArgumentTypeMismatchException: {}", e.getMessage());
+        return errorResponseBodies.toResponse(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    /**
+     * 요청 본문을 읽을 수 없음 (잘못된 JSON, 타입이 맞지 않는 필드, 빈 본문)
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    protected ResponseEntity<byte[]> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        log.debug("HttpMessageNotReadableException: {}", e.getMessage());
+        return errorResponseBodies.toResponse(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    /**
+     * 지원하지 않는 HTTP 메서드 (Allow 헤더에 지원 메서드 표시)
+     */
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    protected ResponseEntity<byte[]> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
+        log.debug("HttpRequestMethodNotSupportedException: {}", e.getMessage());
+        ResponseEntity<byte[]> response = errorResponseBodies.toResponse(ErrorCode.METHOD_NOT_ALLOWED);
+        if (e.getSupportedHttpMethods() == null) {
+            return response;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        headers.setAllow(e.getSupportedHttpMethods());
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    /**
+     * 매핑되지 않은 경로 (경로 탐색 스캐너 등)
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    protected ResponseEntity<byte[]> handleNoResourceFoundException(NoResourceFoundException e) {
+        log.debug("NoResourceFoundException: {}", e.getResourcePath());
+        return errorResponseBodies.toResponse(ErrorCode.ENTITY_NOT_FOUND);
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
         log.error("Exception: {}", e.getMessage(), e);
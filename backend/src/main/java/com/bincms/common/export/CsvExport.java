@@ -0,0 +1,30 @@
+package com.bincms.common.export;
+
+import java.util.List;
+
+/**
+ * CSV 내보내기 정의
+ * - sql의 SELECT 컬럼 순서대로 headers와 짝지어 한 행씩 출력 (값 변환은 CsvWriter)
+ * - sql은 키 구간(keyset) 단위 조회: 마지막 컬럼은 키, 바인딩 파라미터는 args + 직전 구간의 마지막 키 + 구간 크기
+ * - countSql은 진행률 표시용 예상 건수 (같은 조건, 같은 파라미터)
+ *
+ * @param type     내보내기 종류 (members, inquiries, posts) - 파일 이름 접두어, 진행 현황 구분
+ * @param headers  CSV 머리글
+ * @param sql      구간 조회 SQL (키 순 정렬, LIMIT 포함)
+ * @param countSql 예상 건수 SQL
+ * @param args     sql/countSql 공통 바인딩 파라미터
+ */
+public record CsvExport(String type, List<String> headers, String sql, String countSql, List<Object> args) {
+
+    /**
+     * SELECT 컬럼/FROM/WHERE/키 컬럼으로 구간 조회 SQL과 예상 건수 SQL을 함께 생성
+     * - keyColumn: 고유한 숫자 키 (정렬 및 구간 분할 기준, 예: p.id)
+     */
+    public static CsvExport of(String type, List<String> headers, String columns, String from,
+                               String where, String keyColumn, List<Object> args) {
+        String sql = "SELECT " + columns + ", " + keyColumn + " FROM " + from
+                + " WHERE (" + where + ") AND " + keyColumn + " > ? ORDER BY " + keyColumn + " LIMIT ?";
+        String countSql = "SELECT COUNT(*) FROM " + from + " WHERE " + where;
+        return new CsvExport(type, headers, sql, countSql, args);
+    }
+}
@@ -0,0 +1,170 @@
+package com.bincms.common.export;
+
+import com.bincms.common.db.SlowOperationLog;
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.http.Bulkhead;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대용량 CSV 내보내기 (스트리밍)
+ * - 키 구간(keyset) 단위로 app.export.chunk-size 행씩 읽어 응답 스트림에 씀: 메모리 사용량은 구간 크기만큼
+ *   구간마다 짧은 읽기 전용 트랜잭션으로 조회하고 커넥션을 돌려준 뒤에 쓰므로,
+ *   다운로드가 느린 클라이언트가 커넥션이나 DB 커서를 붙잡지 않음 (복제본이 있으면 복제본에서 조회)
+ * - 구간마다 따로 조회하므로 하나의 스냅샷은 아님 (내보내는 중 수정/추가된 행은 읽는 시점 값으로 나올 수 있음)
+ * - 응답은 비동기 요청(StreamingResponseBody)으로 처리되어 요청 스레드를 붙잡지 않음
+ * - 동시 내보내기 수 제한 (app.export.max-concurrent, 초과 시 503 SERVER_BUSY)
+ * - 진행 상황: 응답 헤더 X-Export-Id / X-Export-Estimated-Rows, GET /api/v1/admin/exports
+ */
+@Slf4j
+@Component
+public class CsvExporter {
+
+    public static final String EXPORT_ID_HEADER = "X-Export-Id";
+    public static final String ESTIMATED_ROWS_HEADER = "X-Export-Estimated-Rows";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+    @Getter
+    private final Bulkhead bulkhead;
+
+    private final Map<String, ExportTask> running = new ConcurrentHashMap<>();
+    @Getter
+    private final SlowOperationLog<ExportTask> history;
+
+    public CsvExporter(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate readOnlyTransactionTemplate,
+                       @Value("${app.export.chunk-size:1000}") int chunkSize,
+                       @Value("${app.export.max-concurrent:2}") int maxConcurrent,
+                       @Value("${app.export.history-size:64}") int historySize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.bulkhead = new Bulkhead(maxConcurrent, Duration.ZERO);
+        this.history = new SlowOperationLog<>(historySize);
+    }
+
+    /**
+     * 내보내기 응답 생성
+     * - 동시 실행 슬롯 확보 → 예상 건수 조회 → 응답 본문(스트리밍)은 비동기 스레드에서 실행
+     */
+    public ResponseEntity<StreamingResponseBody> stream(CsvExport export) {
+        if (!bulkhead.tryAcquire()) {
+            throw new BusinessException(ErrorCode.SERVER_BUSY, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        ExportTask task;
+        try {
+            Long estimated = jdbcTemplate.queryForObject(export.countSql(), Long.class, export.args().toArray());
+            task = new ExportTask(UUID.randomUUID().toString(), export.type(), estimated != null ? estimated : 0);
+            running.put(task.getId(), task);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+
+        String filename = export.type() + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".csv";
+        StreamingResponseBody body = out -> write(export, task, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .header(EXPORT_ID_HEADER, task.getId())
+                .header(ESTIMATED_ROWS_HEADER, String.valueOf(task.getEstimatedRows()))
+                .body(body);
+    }
+
+    public ExportTask findTask(String id) {
+        ExportTask task = running.get(id);
+        if (task != null) {
+            return task;
+        }
+        return history.snapshot().stream()
+                .filter(t -> t.getId().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "내보내기 기록을 찾을 수 없습니다."));
+    }
+
+    public List<ExportTask> getRunning() {
+        return new ArrayList<>(running.values());
+    }
+
+    private void write(CsvExport export, ExportTask task, OutputStream out) throws IOException {
+        try {
+            CsvWriter csv = new CsvWriter(out);
+            csv.writeRow(export.headers().toArray());
+            int columns = export.headers().size();
+            long lastKey = Long.MIN_VALUE;
+            List<Object[]> chunk;
+            do {
+                chunk = readChunk(export, columns, lastKey);
+                for (Object[] row : chunk) {
+                    csv.writeRow(Arrays.copyOf(row, columns));
+                    task.rowWritten();
+                }
+                if (!chunk.isEmpty()) {
+                    lastKey = ((Number) chunk.get(chunk.size() - 1)[columns]).longValue();
+                }
+                csv.flush();
+            } while (chunk.size() == chunkSize);
+            task.finish(ExportTask.Status.COMPLETED, null);
+            log.info("내보내기 완료: {} {}건 - {}ms", export.type(), task.getRowsWritten(), task.getElapsedMillis());
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 (다운로드 취소)
+            task.finish(ExportTask.Status.CANCELLED, "클라이언트 연결 종료");
+            log.info("내보내기 취소: {} {}건에서 중단", export.type(), task.getRowsWritten());
+        } catch (RuntimeException e) {
+            task.finish(ExportTask.Status.FAILED, e.getMessage());
+            log.error("내보내기 실패: {} {}건에서 중단", export.type(), task.getRowsWritten(), e);
+            throw e;
+        } finally {
+            running.remove(task.getId());
+            history.add(task);
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * lastKey 다음부터 chunkSize 행 조회 (짧은 읽기 전용 트랜잭션, 마지막 값은 키)
+     */
+    private List<Object[]> readChunk(CsvExport export, int columns, long lastKey) {
+        List<Object> args = new ArrayList<>(export.args());
+        args.add(lastKey);
+        args.add(chunkSize);
+        return readOnlyTransactionTemplate.execute(status ->
+                jdbcTemplate.query(export.sql(), (ResultSet rs, int rowNum) -> {
+                    Object[] row = new Object[columns + 1];
+                    for (int i = 0; i <= columns; i++) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    return row;
+                }, args.toArray()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.bincms.common.export;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * CSV 행 단위 출력 (RFC 4180)
+ * - 첫 바이트에 UTF-8 BOM을 써서 Excel에서 바로 열어도 한글이 깨지지 않음
+ * - 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싸고, 따옴표는 두 번 씀
+ * - =, +, -, @ 로 시작하는 문자열 값은 앞에 '를 붙여 Excel 수식으로 실행되지 않도록 함 (CSV 인젝션 방지)
+ * - 버퍼가 찰 때마다 바로 출력 스트림으로 내보내므로 전체 결과를 메모리에 모으지 않음
+ */
+public class CsvWriter implements Flushable {
+
+    private static final char BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(BOM);
+    }
+
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = format(value);
+        if (text.isEmpty()) {
+            return;
+        }
+        boolean formula = !(value instanceof Number) && isFormulaPrefix(text.charAt(0));
+        if (formula || needsQuoting(text)) {
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return DATE_TIME.format(timestamp.toLocalDateTime());
+        }
+        if (value instanceof LocalDateTime || value instanceof OffsetDateTime) {
+            return DATE_TIME.format((TemporalAccessor) value);
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "Y" : "N";
+        }
+        return value.toString();
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
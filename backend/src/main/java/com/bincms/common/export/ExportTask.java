@@ -0,0 +1,65 @@
+package com.bincms.common.export;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 1건의 진행 상황
+ * - 행 수는 내보내기 스레드 하나만 갱신하고, 진행 현황 조회는 volatile 값을 그대로 읽음
+ */
+@Getter
+public final class ExportTask {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final String type;
+    private final LocalDateTime startedAt;
+    /** 시작 시점 COUNT 결과 (조회 중 추가/삭제된 행 때문에 실제 건수와 다를 수 있음) */
+    private final long estimatedRows;
+    private volatile long rowsWritten;
+    private volatile Status status = Status.RUNNING;
+    private volatile long elapsedMillis;
+    private volatile String error;
+
+    @Getter(AccessLevel.NONE)
+    private final long startNanos = System.nanoTime();
+
+    ExportTask(String id, String type, long estimatedRows) {
+        this.id = id;
+        this.type = type;
+        this.startedAt = LocalDateTime.now();
+        this.estimatedRows = estimatedRows;
+    }
+
+    /**
+     * 진행률 (0~100, 예상 건수가 0이면 완료 시 100)
+     */
+    public int getPercent() {
+        if (status == Status.COMPLETED) {
+            return 100;
+        }
+        if (estimatedRows <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, rowsWritten * 100 / estimatedRows);
+    }
+
+    public long getElapsedMillis() {
+        return status == Status.RUNNING ? (System.nanoTime() - startNanos) / 1_000_000 : elapsedMillis;
+    }
+
+    void rowWritten() {
+        rowsWritten++;
+    }
+
+    void finish(Status status, String error) {
+        this.elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        this.error = error;
+        this.status = status;
+    }
+}
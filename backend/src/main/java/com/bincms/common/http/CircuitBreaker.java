@@ -0,0 +1,193 @@
+package com.bincms.common.http;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 연동용 서킷 브레이커 (호출 횟수 기반 슬라이딩 윈도우)
+ * - CLOSED: 최근 windowSize건 중 실패율이 기준 이상이면 OPEN
+ * - OPEN: openDuration 동안 호출을 즉시 거절 (외부 장애 시 요청 스레드가 타임아웃까지 묶이지 않도록)
+ * - HALF_OPEN: 시험 호출 halfOpenCalls건이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 상태가 바뀔 때마다 세대(generation)를 올리고, 허용된 호출은 시작 시점의 세대를 들고 결과를 보고
+ *   → 세대가 바뀐 뒤 도착한 늦은 결과(예: CLOSED 때 시작해 HALF_OPEN 중에 끝난 호출)는 무시
+ * - 가상 스레드 pinning을 피하기 위해 synchronized 대신 ReentrantLock 사용
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /** tryAcquirePermission 거절 */
+    public static final long NOT_PERMITTED = -1;
+
+    @Getter
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] outcomes;
+    private int index;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private volatile long generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder openTransitions = new LongAdder();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부
+     * - 허용되면 현재 세대, 거절되면 NOT_PERMITTED
+     * - 허용된 호출은 반드시 받은 세대로 onSuccess/onFailure/onIgnored 중 하나를 호출해 종료
+     */
+    public long tryAcquirePermission() {
+        // 세대를 먼저 읽어야 상태 전환과 겹쳐도 이전 세대로 태그됨 (늦은 결과로 무시될 뿐 집계가 섞이지 않음)
+        long current = generation;
+        if (state == State.CLOSED) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    rejected.increment();
+                    return NOT_PERMITTED;
+                }
+                transitionTo(State.HALF_OPEN);
+                halfOpenInFlight = 0;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight + halfOpenSuccesses >= halfOpenCalls) {
+                    rejected.increment();
+                    return NOT_PERMITTED;
+                }
+                halfOpenInFlight++;
+            }
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(long permit) {
+        record(permit, true);
+    }
+
+    public void onFailure(long permit) {
+        record(permit, false);
+    }
+
+    /**
+     * 허용되었지만 실제로 호출하지 않은 경우 (예: 벌크헤드 거절) 시험 호출 슬롯 반환
+     */
+    public void onIgnored(long permit) {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (permit == generation && state == State.HALF_OPEN && halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getOpenTransitions() {
+        return openTransitions.sum();
+    }
+
+    private void record(long permit, boolean success) {
+        lock.lock();
+        try {
+            if (permit != generation) {
+                // 시작한 뒤 상태가 바뀐 호출의 늦은 결과는 무시
+                return;
+            }
+            switch (state) {
+                case HALF_OPEN -> {
+                    halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+                    if (!success) {
+                        open();
+                    } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                        close();
+                    }
+                }
+                case CLOSED -> {
+                    if (recorded == windowSize) {
+                        if (!outcomes[index]) {
+                            failures--;
+                        }
+                    } else {
+                        recorded++;
+                    }
+                    outcomes[index] = success;
+                    if (!success) {
+                        failures++;
+                    }
+                    index = (index + 1) % windowSize;
+                    if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                        open();
+                    }
+                }
+                case OPEN -> {
+                    // OPEN 전환과 겹쳐 허용된 호출의 결과는 무시
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        transitionTo(State.OPEN);
+        openTransitions.increment();
+    }
+
+    private void close() {
+        transitionTo(State.CLOSED);
+        index = 0;
+        recorded = 0;
+        failures = 0;
+    }
+
+    /**
+     * 상태 전환 + 세대 증가 (lock 보유 중에만 호출)
+     */
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+    }
+}
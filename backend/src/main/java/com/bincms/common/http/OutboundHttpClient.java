@@ -0,0 +1,118 @@
+package com.bincms.common.http;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 외부 제공자별 HTTP 클라이언트
+ * - 제공자 단위 커넥션 풀(keep-alive 재사용)과 연결/응답 타임아웃
+ * - 서킷 브레이커 → 벌크헤드 순으로 통과한 호출만 실행하고, 응답 시간을 히스토그램에 기록
+ * - I/O 오류(타임아웃 포함)와 5xx 응답만 장애로 집계 (4xx는 제공자가 정상 응답한 것으로 간주)
+ */
+@Slf4j
+public class OutboundHttpClient implements AutoCloseable {
+
+    @Getter
+    private final String name;
+    private final RestTemplate restTemplate;
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final Bulkhead bulkhead;
+    @Getter
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    OutboundHttpClient(String name, RestTemplate restTemplate, CloseableHttpClient httpClient,
+                       PoolingHttpClientConnectionManager connectionManager,
+                       CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.name = name;
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.connectionManager = connectionManager;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    public <T> ResponseEntity<T> postForEntity(String url, HttpEntity<?> request, Class<T> responseType) {
+        return execute(() -> restTemplate.postForEntity(url, request, responseType));
+    }
+
+    public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> request, Class<T> responseType) {
+        return execute(() -> restTemplate.exchange(url, method, request, responseType));
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("HTTP 클라이언트 종료 실패: {}", name, e);
+        }
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        long permit = circuitBreaker.tryAcquirePermission();
+        if (permit == CircuitBreaker.NOT_PERMITTED) {
+            throw unavailable("circuit open");
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.onIgnored(permit);
+            throw unavailable("bulkhead full");
+        }
+
+        calls.increment();
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(permit);
+            return result;
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            failures.increment();
+            circuitBreaker.onFailure(permit);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onSuccess(permit);
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start);
+            bulkhead.release();
+        }
+    }
+
+    private BusinessException unavailable(String reason) {
+        log.warn("외부 연동 호출 거절: provider={}, reason={}", name, reason);
+        return new BusinessException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,116 @@
+package com.bincms.common.http;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 HTTP 클라이언트 등록/관리
+ * - 제공자 이름별로 커넥션 풀, 서킷 브레이커, 벌크헤드를 분리하여 한 제공자의 장애가 다른 제공자에 번지지 않도록 함
+ * - 설정은 app.http.outbound.* 공통값 사용
+ */
+@Component
+public class OutboundHttpClientRegistry {
+
+    private final ConcurrentHashMap<String, OutboundHttpClient> clients = new ConcurrentHashMap<>();
+
+    @Value("${app.http.outbound.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${app.http.outbound.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${app.http.outbound.pool-wait-timeout:1s}")
+    private Duration poolWaitTimeout;
+
+    @Value("${app.http.outbound.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${app.http.outbound.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    @Value("${app.http.outbound.bulkhead.max-concurrent:20}")
+    private int bulkheadMaxConcurrent;
+
+    @Value("${app.http.outbound.bulkhead.max-wait:200ms}")
+    private Duration bulkheadMaxWait;
+
+    @Value("${app.http.outbound.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${app.http.outbound.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${app.http.outbound.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${app.http.outbound.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${app.http.outbound.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    /**
+     * 제공자별 클라이언트 조회 (없으면 생성)
+     */
+    public OutboundHttpClient get(String name) {
+        return clients.computeIfAbsent(name, this::createClient);
+    }
+
+    public Collection<OutboundHttpClient> getClients() {
+        return Collections.unmodifiableCollection(clients.values());
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        clients.values().forEach(OutboundHttpClient::close);
+        clients.clear();
+    }
+
+    private OutboundHttpClient createClient(String name) {
+        // 제공자는 토큰/사용자 정보 호스트가 다를 수 있으므로 호스트(route)별 최대치와 전체 최대치를 함께 설정
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(maxConnections)
+                .setMaxConnTotal(maxConnections * 2)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                // 재시도는 장애 시 대기 시간만 늘리므로 사용하지 않음 (실패는 서킷 브레이커가 판단)
+                .disableAutomaticRetries()
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        return new OutboundHttpClient(name, restTemplate, httpClient, connectionManager,
+                new CircuitBreaker(name, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls),
+                new Bulkhead(bulkheadMaxConcurrent, bulkheadMaxWait));
+    }
+}
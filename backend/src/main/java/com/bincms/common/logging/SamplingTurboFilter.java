@@ -0,0 +1,85 @@
+package com.bincms.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로거별 로그 샘플링 (logback-spring.xml의 turboFilter로 등록)
+ * - 대상 로거(접두사 일치)의 WARN 미만 로그를 N건 중 1건만 통과시킴 (SQL 로그 등 대량 로그용)
+ * - 후속 로거(followers)는 따로 세지 않고 같은 스레드에서 직전 대상 로그의 판단을 따름
+ *   (SQL을 남기면 이어지는 바인딩 파라미터도 남기고, 버리면 함께 버림)
+ * - 이벤트 객체 생성/메시지 포맷 전에 판단하므로 버려지는 로그는 비용이 거의 없음
+ * - isDebugEnabled() 같은 레벨 확인 호출(format == null)은 계수하지 않고 판단을 레벨 설정에 맡김
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String[] loggerPrefixes = new String[0];
+    private String[] followerPrefixes = new String[0];
+    private int rate = 1;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    /** 스레드별 직전 대상 로그를 버렸는지 여부 (후속 로거 판단용) */
+    private final ThreadLocal<Boolean> droppingFollowers = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || rate <= 1 || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        if (matches(loggerPrefixes, name)) {
+            boolean keep = sequence.getAndIncrement() % rate == 0;
+            droppingFollowers.set(keep ? Boolean.FALSE : Boolean.TRUE);
+            return keep ? FilterReply.NEUTRAL : deny();
+        }
+        if (matches(followerPrefixes, name) && droppingFollowers.get()) {
+            return deny();
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private FilterReply deny() {
+        dropped.increment();
+        return FilterReply.DENY;
+    }
+
+    private static boolean matches(String[] prefixes, String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 대상 로거 접두사 (쉼표 구분)
+     */
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = loggers.trim().split("\\s*,\\s*");
+    }
+
+    /**
+     * 후속 로거 접두사 (쉼표 구분, 직전 대상 로그의 판단을 따름)
+     */
+    public void setFollowers(String followers) {
+        this.followerPrefixes = followers.trim().split("\\s*,\\s*");
+    }
+
+    /**
+     * N건 중 1건 통과 (1 이하면 샘플링하지 않음)
+     */
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,90 @@
+package com.bincms.common.ratelimit;
+
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.exception.ErrorResponseBodies;
+import com.bincms.common.web.ClientIpResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * IP 단위 요청 제한 필터
+ * - 로그인/회원가입/소셜 로그인, 댓글 작성·수정·삭제, 이메일 인증 요청, 페이지뷰 비콘에 적용
+ * - Spring Security보다 앞에서 실행되어, 제한된 요청은 JWT 검증이나 본문 파싱 없이 즉시 429 응답
+ * - 거절 응답 본문은 미리 직렬화한 바이트(ErrorResponseBodies)를 사용 (크리덴셜 스터핑 중에도 거절 비용 최소화)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter authIpRateLimiter;
+    private final RateLimiter commentIpRateLimiter;
+    private final RateLimiter emailIpRateLimiter;
+    private final RateLimiter pageViewIpRateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final ErrorResponseBodies errorResponseBodies;
+
+    public RateLimitFilter(RateLimiter authIpRateLimiter,
+                           RateLimiter commentIpRateLimiter,
+                           RateLimiter emailIpRateLimiter,
+                           RateLimiter pageViewIpRateLimiter,
+                           ClientIpResolver clientIpResolver,
+                           ErrorResponseBodies errorResponseBodies) {
+        this.authIpRateLimiter = authIpRateLimiter;
+        this.commentIpRateLimiter = commentIpRateLimiter;
+        this.emailIpRateLimiter = emailIpRateLimiter;
+        this.pageViewIpRateLimiter = pageViewIpRateLimiter;
+        this.clientIpResolver = clientIpResolver;
+        this.errorResponseBodies = errorResponseBodies;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "OPTIONS".equals(request.getMethod())
+                || resolveLimiter(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimiter limiter = resolveLimiter(request);
+        if (limiter != null && !limiter.tryAcquire(clientIpResolver.resolve(request))) {
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.getRetryAfterSeconds()));
+            byte[] rejectedBody = errorResponseBodies.body(ErrorCode.TOO_MANY_REQUESTS);
+            response.setContentLength(rejectedBody.length);
+            response.getOutputStream().write(rejectedBody);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimiter resolveLimiter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/v1/auth/login") || uri.startsWith("/api/v1/auth/signup")
+                || uri.startsWith("/api/v1/public/oauth/")) {
+            return authIpRateLimiter;
+        }
+        if (uri.startsWith("/api/v1/public/comments")) {
+            return commentIpRateLimiter;
+        }
+        if (uri.startsWith("/api/v1/public/email/")) {
+            return emailIpRateLimiter;
+        }
+        if (uri.startsWith("/api/v1/public/analytics/")) {
+            return pageViewIpRateLimiter;
+        }
+        return null;
+    }
+}
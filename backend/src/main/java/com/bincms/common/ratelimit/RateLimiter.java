@@ -0,0 +1,219 @@
+package com.bincms.common.ratelimit;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 토큰 버킷 제한기 (GCRA 방식)
+ * - 버킷 상태를 "다음 토큰이 모두 채워지는 시각"(TAT) 하나의 long으로 표현하여 CAS만으로 갱신 (잠금 없음)
+ * - capacity개까지 연속 허용, 이후 period/capacity 간격으로 토큰 1개씩 회복
+ * - 키 맵을 stripe 단위로 분할하여 삽입 경합과 만료 정리 비용을 분산
+ * - 버킷이 가득 찬(= TAT가 지난) 키는 상태가 없는 키와 동일하므로 주기적으로 제거하여 메모리 상한 유지
+ * - 그래도 키 수가 상한에 닿으면 가장 먼저 추적을 시작한 키를 밀어내고 새 키를 추적
+ *   (새 키를 제한 없이 통과시키면 키를 바꿔 가며 보내는 요청이 모두 허용되므로)
+ *   stripe마다 추가 순서를 링 버퍼에 기록해 두고 다음에 덮어쓸 칸의 키를 제거 (O(1))
+ * - 가득 찬 stripe의 전체 만료 정리는 stripe마다 SWEEP_INTERVAL에 한 번만 수행하여,
+ *   키를 바꿔 가며 보내는 요청도 요청당 비용이 키 수와 무관하게 일정
+ */
+public class RateLimiter {
+
+    /** 가득 찬 stripe의 전체 만료 정리 최소 간격 */
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+    /** 밀어낼 키를 찾을 때 확인하는 링 버퍼 칸 수 (이미 만료 정리된 칸은 건너뜀) */
+    private static final int EVICTION_PROBES = 8;
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int capacity;
+    @Getter
+    private final Duration period;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeysPerStripe;
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final AtomicLongArray lastSweeps;
+    private final InsertionOrder[] insertionOrders;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public RateLimiter(String name, int capacity, Duration period, int maxKeys, int stripeCount) {
+        this.name = name;
+        this.capacity = capacity;
+        this.period = period;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        this.lastSweeps = new AtomicLongArray(stripeCount);
+        this.insertionOrders = new InsertionOrder[stripeCount];
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            insertionOrders[i] = new InsertionOrder(maxKeysPerStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     */
+    public boolean tryAcquire(String key) {
+        if (key == null) {
+            return true;
+        }
+        long now = System.nanoTime();
+        AtomicLong tat = bucket(key, now);
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                rejected.increment();
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                allowed.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 서비스 계층 가드: 초과 시 429 예외
+     */
+    public void check(String key) {
+        if (!tryAcquire(key)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 토큰 1개가 회복되는 데 걸리는 시간 (Retry-After 안내용, 초 단위 올림)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (intervalNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /**
+     * 버킷이 가득 찬 키 제거
+     */
+    public int evictExpired() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            removed += evictExpired(stripe, now);
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long getAllowed() {
+        return allowed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 키 수 상한에 닿아 만료 전에 밀려난 키 수
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        int index = (key.hashCode() & 0x7fffffff) % stripes.length;
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[index];
+        AtomicLong tat = stripe.get(key);
+        if (tat != null) {
+            return tat;
+        }
+        InsertionOrder order = insertionOrders[index];
+        if (stripe.size() >= maxKeysPerStripe && (!trySweep(index, stripe, now) || stripe.size() >= maxKeysPerStripe)) {
+            evictFirstInserted(stripe, order);
+        }
+        AtomicLong created = new AtomicLong(now);
+        tat = stripe.computeIfAbsent(key, k -> created);
+        if (tat == created) {
+            order.record(key);
+        }
+        return tat;
+    }
+
+    /**
+     * stripe 전체 만료 정리 (직전 정리 후 SWEEP_INTERVAL이 지났고 CAS에 성공한 요청 하나만 수행)
+     */
+    private boolean trySweep(int index, ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        long last = lastSweeps.get(index);
+        if (last != 0 && now - last < SWEEP_INTERVAL_NANOS) {
+            return false;
+        }
+        if (!lastSweeps.compareAndSet(index, last, now)) {
+            return false;
+        }
+        evictExpired(stripe, now);
+        return true;
+    }
+
+    /**
+     * 링 버퍼에서 다음에 덮어쓸(= 가장 먼저 추가된) 칸부터 확인하여 아직 남아 있는 키 하나 제거
+     */
+    private void evictFirstInserted(ConcurrentHashMap<String, AtomicLong> stripe, InsertionOrder order) {
+        for (int i = 0; i < EVICTION_PROBES; i++) {
+            String oldest = order.oldest(i);
+            if (oldest != null && stripe.remove(oldest) != null) {
+                evicted.increment();
+                return;
+            }
+        }
+    }
+
+    private static int evictExpired(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        int before = stripe.size();
+        stripe.values().removeIf(tat -> tat.get() - now <= 0);
+        return Math.max(0, before - stripe.size());
+    }
+
+    /**
+     * stripe별 키 추가 순서 (고정 크기 링 버퍼, 칸이 덮어써지면 가장 오래된 기록부터 사라짐)
+     */
+    private static final class InsertionOrder {
+        private final AtomicReferenceArray<String> ring;
+        private final AtomicLong cursor = new AtomicLong();
+
+        InsertionOrder(int size) {
+            this.ring = new AtomicReferenceArray<>(size);
+        }
+
+        void record(String key) {
+            ring.set((int) (cursor.getAndIncrement() % ring.length()), key);
+        }
+
+        /**
+         * 다음에 덮어쓸 칸에서 offset만큼 뒤의 키
+         */
+        String oldest(int offset) {
+            return ring.get((int) ((cursor.get() + offset) % ring.length()));
+        }
+    }
+}
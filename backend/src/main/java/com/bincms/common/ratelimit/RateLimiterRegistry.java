@@ -0,0 +1,52 @@
+package com.bincms.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 제한기 등록/관리
+ * - 만료된(버킷이 가득 찬) 키를 주기적으로 정리하여 메모리 사용량을 제한
+ */
+@Slf4j
+@Component
+public class RateLimiterRegistry {
+
+    private final ConcurrentHashMap<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    @Value("${app.rate-limit.stripes:16}")
+    private int stripes;
+
+    @Value("${app.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    /**
+     * 제한기 생성 (capacity개를 period 동안 허용)
+     */
+    public RateLimiter create(String name, int capacity, Duration period) {
+        RateLimiter limiter = new RateLimiter(name, capacity, period, maxKeys, stripes);
+        limiters.put(name, limiter);
+        return limiter;
+    }
+
+    public Collection<RateLimiter> getLimiters() {
+        return Collections.unmodifiableCollection(limiters.values());
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:30000}")
+    public void evictExpired() {
+        for (RateLimiter limiter : limiters.values()) {
+            int removed = limiter.evictExpired();
+            if (removed > 0) {
+                log.debug("요청 제한 키 정리: limiter={}, removed={}, remaining={}",
+                        limiter.getName(), removed, limiter.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.bincms.common.security;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.http.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해싱 전용 서비스
+ * - BCrypt 연산을 요청 스레드가 아닌 전용 스레드 풀에서 실행하여, 해싱 폭주(댓글 도배, 크리덴셜 스터핑)가
+ *   CPU 전체를 점유해 일반 페이지 요청이 굶지 않도록 함
+ * - 스레드 수는 CPU 코어 대비 비율(cpu-share)로 제한하고, 대기열이 가득 차거나 대기 시간을 넘기면 즉시 거절(503)
+ * - 연산별(encode/matches) 실행 시간과 대기열 대기 시간을 히스토그램으로 기록
+ */
+@Slf4j
+@Component
+public class PasswordHashingService {
+
+    /** 로그인에 사용할 수 없는 비밀번호 접두어 (소셜 회원 등, 해싱 없이 저장) */
+    private static final String UNUSABLE_PREFIX = "!";
+
+    /** 일괄 해싱 중 대기열 초과 시 재제출 간격 */
+    private static final long BATCH_RETRY_BACKOFF_MILLIS = 50;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    @Getter
+    private final LatencyHistogram encodeLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram matchesLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${app.password.hashing.cpu-share:0.5}") double cpuShare,
+                                  @Value("${app.password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${app.password.hashing.max-wait:3s}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitNanos = maxWait.toNanos();
+
+        int threads = Math.max(1, (int) Math.round(Runtime.getRuntime().availableProcessors() * cpuShare));
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해싱 스레드 풀: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 해싱
+     */
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeLatency);
+    }
+
+    /**
+     * 일괄 해싱 (회원 가져오기 등 백그라운드 작업용, 입력 순서대로 반환)
+     * - 풀 스레드 수만큼씩 나눠 제출하고 끝날 때까지 기다림: 대기열에 일괄 작업을 쌓아 두지 않으므로
+     *   같은 시점의 로그인 요청은 한 묶음(스레드당 1건)만 기다리면 됨
+     * - 대기열이 가득 차 거절되면 잠시 쉬었다가 다시 제출 (요청 경로와 달리 503으로 실패하지 않음)
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        int wave = getThreads();
+        for (int from = 0; from < rawPasswords.size(); from += wave) {
+            List<Future<String>> futures = new ArrayList<>(wave);
+            for (CharSequence raw : rawPasswords.subList(from, Math.min(rawPasswords.size(), from + wave))) {
+                futures.add(enqueueWithRetry(() -> passwordEncoder.encode(raw)));
+            }
+            for (Future<String> future : futures) {
+                try {
+                    encoded.add(future.get());
+                } catch (InterruptedException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new BusinessException(ErrorCode.SERVER_BUSY);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * 비밀번호 검증 (사용 불가 비밀번호는 해싱 없이 false)
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.startsWith(UNUSABLE_PREFIX)) {
+            return false;
+        }
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesLatency);
+    }
+
+    /**
+     * 저장된 해시의 cost factor가 현재 설정보다 낮은지 확인 (해싱 없이 문자열만 검사)
+     * - 로그인 성공 시 true이면 평문으로 다시 해싱하여 저장
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.startsWith(UNUSABLE_PREFIX)) {
+            return false;
+        }
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 로그인 성공 후 재해싱 (cost factor 상향 시점 이후 첫 로그인에 적용)
+     */
+    public String rehash(CharSequence rawPassword) {
+        String encoded = encode(rawPassword);
+        rehashed.increment();
+        return encoded;
+    }
+
+    /**
+     * 로그인에 사용할 수 없는 비밀번호 생성 (소셜 가입 회원용, BCrypt 연산 없음)
+     */
+    public String unusablePassword() {
+        return UNUSABLE_PREFIX + UUID.randomUUID();
+    }
+
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getActive() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueued() {
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return executor.getQueue().size() + executor.getQueue().remainingCapacity();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    public long getRehashed() {
+        return rehashed.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task, LatencyHistogram latency) {
+        Future<T> future;
+        try {
+            future = enqueue(task, latency);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해싱 대기열 초과: queued={}", getQueued());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("비밀번호 해싱 대기 시간 초과: queued={}", getQueued());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Future<String> enqueueWithRetry(Callable<String> task) {
+        while (true) {
+            try {
+                return enqueue(task, encodeLatency);
+            } catch (RejectedExecutionException e) {
+                try {
+                    Thread.sleep(BATCH_RETRY_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new BusinessException(ErrorCode.SERVER_BUSY);
+                }
+            }
+        }
+    }
+
+    private <T> Future<T> enqueue(Callable<T> task, LatencyHistogram latency) {
+        long submittedAt = System.nanoTime();
+        return executor.submit(() -> {
+            long startedAt = System.nanoTime();
+            queueWait.record(startedAt - submittedAt);
+            try {
+                return task.call();
+            } finally {
+                latency.record(System.nanoTime() - startedAt);
+            }
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.bincms.common.sketch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 감쇠 점수 기반 상위 K개 유지 구조 (forward decay + Space-Saving)
+ * - 점수는 반감기(half-life)마다 절반으로 줄어드는 지수 감쇠로 계산
+ * - 모든 항목을 매번 감쇠시키지 않도록 기준 시각(landmark) 대비 증가 가중치 weight * e^(λ(t - landmark))를 누적하고,
+ *   지수가 커지면 기준 시각을 옮기며 한 번에 재조정 (항목 간 순서는 감쇠와 무관하게 유지됨)
+ * - capacity를 넘으면 최저 점수 항목을 새 항목으로 교체하고 그 점수를 이어받음 (Space-Saving, 상위 항목 보존)
+ * - 모든 메서드는 인스턴스 단위 잠금으로 보호 (범위별 인스턴스를 나누어 경합을 줄임, 조회 요청 스레드에서 호출)
+ *
+ * @param <K> 항목 키
+ * @param <V> 항목 부가 정보 (표시용 제목 등)
+ */
+public class DecayedTopK<K extends Comparable<K>, V> {
+
+    /** e^32 이상으로 커지기 전에 기준 시각을 옮김 (double 정밀도 유지) */
+    private static final double MAX_EXPONENT = 32;
+
+    private final int capacity;
+    private final double lambda;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final TreeSet<Entry<K, V>> ordered = new TreeSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long landmarkMillis;
+
+    public DecayedTopK(int capacity, long halfLifeMillis, long nowMillis) {
+        if (capacity < 1 || halfLifeMillis < 1) {
+            throw new IllegalArgumentException("capacity와 halfLife는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.landmarkMillis = nowMillis;
+    }
+
+    /**
+     * 점수 추가 (없으면 새로 등록, 가득 차 있으면 최저 점수 항목과 교체)
+     *
+     * @param value null이면 기존 부가 정보 유지
+     * @return 교체되어 빠진 항목의 키 (없으면 null)
+     */
+    public K add(K key, V value, double weight, long nowMillis) {
+        lock.lock();
+        try {
+            double increment = weight * growth(nowMillis);
+            Entry<K, V> entry = entries.get(key);
+            if (entry != null) {
+                reorder(entry, entry.score + increment);
+                if (value != null) {
+                    entry.value = value;
+                }
+                return null;
+            }
+            K evicted = null;
+            double base = 0;
+            if (entries.size() >= capacity) {
+                Entry<K, V> min = ordered.pollFirst();
+                entries.remove(min.key);
+                evicted = min.key;
+                base = min.score;
+            }
+            entry = new Entry<>(key, value, base + increment);
+            entries.put(key, entry);
+            ordered.add(entry);
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이미 있는 항목에만 점수 추가
+     *
+     * @return 반영 여부
+     */
+    public boolean addIfPresent(K key, double weight, long nowMillis) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = entries.get(key);
+            if (entry == null) {
+                return false;
+            }
+            reorder(entry, entry.score + weight * growth(nowMillis));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 부가 정보만 교체 (항목이 없으면 무시)
+     */
+    public void updateValue(K key, V value) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = entries.get(key);
+            if (entry != null) {
+                entry.value = value;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean remove(K key) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = entries.remove(key);
+            if (entry == null) {
+                return false;
+            }
+            ordered.remove(entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 점수 높은 순 상위 limit개 (점수는 nowMillis 시점으로 감쇠한 값)
+     */
+    public List<Scored<K, V>> top(int limit, long nowMillis) {
+        lock.lock();
+        try {
+            double decay = 1 / growth(nowMillis);
+            List<Scored<K, V>> result = new ArrayList<>(Math.min(limit, entries.size()));
+            Iterator<Entry<K, V>> iterator = ordered.descendingIterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                Entry<K, V> entry = iterator.next();
+                result.add(new Scored<>(entry.key, entry.value, entry.score * decay));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * e^(λ(now - landmark)), 지수가 한계를 넘으면 기준 시각을 now로 옮기고 기존 점수를 재조정
+     */
+    private double growth(long nowMillis) {
+        double exponent = lambda * (nowMillis - landmarkMillis);
+        if (exponent > MAX_EXPONENT) {
+            double factor = Math.exp(-exponent);
+            List<Entry<K, V>> all = new ArrayList<>(ordered);
+            ordered.clear();
+            for (Entry<K, V> entry : all) {
+                entry.score *= factor;
+                ordered.add(entry);
+            }
+            landmarkMillis = nowMillis;
+            return 1;
+        }
+        return Math.exp(exponent);
+    }
+
+    private void reorder(Entry<K, V> entry, double score) {
+        ordered.remove(entry);
+        entry.score = score;
+        ordered.add(entry);
+    }
+
+    /**
+     * 감쇠 점수가 적용된 항목
+     */
+    public record Scored<K, V>(K key, V value, double score) {
+    }
+
+    private static final class Entry<K extends Comparable<K>, V> implements Comparable<Entry<K, V>> {
+        final K key;
+        V value;
+        double score;
+
+        Entry(K key, V value, double score) {
+            this.key = key;
+            this.value = value;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Entry<K, V> other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : key.compareTo(other.key);
+        }
+    }
+}
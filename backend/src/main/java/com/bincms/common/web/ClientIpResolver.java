@@ -0,0 +1,39 @@
+package com.bincms.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 클라이언트 IP 확인
+ * - app.rate-limit.trust-forwarded-for=true(프록시 뒤 운영)이면 X-Forwarded-For에서 신뢰하는 프록시가
+ *   덧붙인 값을 사용: 오른쪽에서 trusted-proxies번째 값 (프록시 1단이면 맨 오른쪽)
+ * - 왼쪽 값들은 클라이언트가 임의로 보낼 수 있으므로 사용하지 않음 (요청마다 바꿔 보내 요청 제한 우회 방지)
+ */
+@Component
+public class ClientIpResolver {
+
+    private final boolean trustForwardedFor;
+    private final int trustedProxies;
+
+    public ClientIpResolver(@Value("${app.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+                            @Value("${app.rate-limit.trusted-proxies:1}") int trustedProxies) {
+        this.trustForwardedFor = trustForwardedFor;
+        this.trustedProxies = Math.max(1, trustedProxies);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                String[] hops = forwardedFor.split(",");
+                String client = hops[Math.max(0, hops.length - trustedProxies)].trim();
+                if (!client.isEmpty()) {
+                    return client;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bincms.common.web;
+
+import com.bincms.common.dto.VersionStamp;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * HTTP 조건부 GET(ETag / If-None-Match) 지원 유틸리티
+ * - ETag는 URL 단위로 비교되므로 리소스 버전(MOD_DT 등)만으로 구성
+ * - 목록 버전(VersionStamp)에는 조회수 합계 등 MOD_DT를 바꾸지 않는 값도 포함, 약한(W/) ETag 사용
+ * - 조회수가 요청마다 바뀌는 상세 응답은 검증 대상에서 제외 (SerializedResponseCache가 ETag 없이 응답)
+ */
+public final class HttpCaching {
+
+    /** 응답 JSON 형식이 바뀌면 올려서 기존 클라이언트 캐시를 무효화 */
+    private static final String FORMAT_VERSION = "1";
+
+    /** 항상 재검증 (브라우저는 저장하되 매번 If-None-Match로 확인) */
+    public static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    /** 자주 바뀌지 않는 공용 리소스 (메뉴, 팝업) - 1분간 재검증 없이 사용 */
+    public static final CacheControl SHORT_LIVED = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+
+    private HttpCaching() {
+    }
+
+    /**
+     * 약한 ETag 생성 (예: W/"1-post-18d4c2a1f00")
+     */
+    public static String eTag(String resource, Object... versions) {
+        StringBuilder sb = new StringBuilder("W/\"").append(FORMAT_VERSION).append('-').append(resource);
+        for (Object version : versions) {
+            sb.append('-').append(token(version));
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * If-None-Match와 비교하여 일치하면 304 처리 (ETag, Cache-Control 헤더 설정)
+     * - true를 반환하면 컨트롤러는 본문 없이 null을 반환
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String eTag, CacheControl cacheControl) {
+        if (eTag == null || !request.checkNotModified(eTag)) {
+            return false;
+        }
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return true;
+    }
+
+    private static String token(Object version) {
+        if (version == null) {
+            return "0";
+        }
+        if (version instanceof LocalDateTime dateTime) {
+            long micros = dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+            return Long.toHexString(micros);
+        }
+        if (version instanceof VersionStamp stamp) {
+            String base = token(stamp.lastModified()) + "." + token(stamp.count()) + "." + token(stamp.idSum());
+            if (stamp.counterSum() == null && stamp.relatedModified() == null) {
+                return base;
+            }
+            return base + "." + token(stamp.counterSum()) + "." + token(stamp.relatedModified());
+        }
+        if (version instanceof Number number) {
+            return Long.toHexString(number.longValue());
+        }
+        return Integer.toHexString(version.toString().hashCode());
+    }
+}
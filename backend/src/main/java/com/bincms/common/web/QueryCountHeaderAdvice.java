@@ -0,0 +1,42 @@
+package com.bincms.common.web;
+
+import com.bincms.common.db.RequestQueryTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 디버그용 쿼리 수 응답 헤더 (app.query-budget.debug-header=true일 때)
+ * - 본문을 쓰기 직전에 추가 (커밋 후에는 헤더를 바꿀 수 없으므로 필터 종료 시점이 아닌 여기서 기록)
+ * - X-Query-Count: 실행된 SQL 수, X-Query-Budget: 엔드포인트 예산, X-Query-Time-Ms: JDBC 실행 시간 합계
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final RequestQueryTracker requestQueryTracker;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return requestQueryTracker.isEnabled() && requestQueryTracker.isDebugHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int count = requestQueryTracker.currentCount();
+        if (count >= 0) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(count));
+            response.getHeaders().set("X-Query-Budget", String.valueOf(requestQueryTracker.currentBudget()));
+            response.getHeaders().set("X-Query-Time-Ms",
+                    String.format("%.2f", requestQueryTracker.currentNanos() / 1_000_000.0));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bincms.common.web;
+
+/**
+ * 직렬화가 끝난 응답 본문
+ * - json: UTF-8 JSON 바이트
+ * - gzip: 압축본 (압축 기준 크기 미만이거나 압축 이득이 없으면 null)
+ * - eTag: 직렬화 당시 리소스 버전 (버전이 바뀌면 캐시된 본문을 사용하지 않음)
+ * - viewCountOffset: 조회수 값을 끼워 넣을 json 위치 (조회수 자리를 비워 두고 저장, 없으면 -1)
+ *   이때 gzip은 헤더 + 앞부분 압축본(SYNC_FLUSH로 바이트 경계 정렬), gzipTail은 뒷부분 압축본(마지막 블록)
+ * - viewCount: 직렬화 당시 조회수 (현재 조회수를 모를 때 사용)
+ */
+public record SerializedBody(String eTag, byte[] json, byte[] gzip, int viewCountOffset, long viewCount,
+                             byte[] gzipTail) {
+
+    public SerializedBody(String eTag, byte[] json, byte[] gzip) {
+        this(eTag, json, gzip, -1, 0L, null);
+    }
+
+    public boolean hasViewCount() {
+        return viewCountOffset >= 0;
+    }
+
+    public int size() {
+        return json.length + (gzip != null ? gzip.length : 0) + (gzipTail != null ? gzipTail.length : 0);
+    }
+}
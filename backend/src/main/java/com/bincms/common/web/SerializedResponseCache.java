@@ -0,0 +1,282 @@
+package com.bincms.common.web;
+
+import com.bincms.common.cache.CacheRegistry;
+import com.bincms.common.cache.LocalCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상세 응답 직렬화 결과 캐시
+ * - 본문이 큰 상세 응답(게시글, 컨텐츠, 인테리어)의 JSON/gzip 바이트를 보관하여 재요청 시 Jackson 직렬화와 압축을 생략
+ * - 캐시 항목은 리소스 버전(ETag 형식)과 함께 저장되며, 리소스가 수정되어 버전이 바뀌면 자연스럽게 새로 직렬화
+ * - 이미 Content-Encoding이 지정된 응답은 Tomcat 응답 압축(server.compression)이 다시 압축하지 않음
+ * - 캐시 용량은 항목 수(max-size)와 별도로 본문 바이트 합계(max-total-size)로 제한
+ * - 조회수는 본문에 고정하지 않고 응답마다 현재 값을 끼워 넣음 (캐시된 본문이 조회수를 늦게 보여 주지 않도록)
+ *   gzip은 조회수 앞뒤를 따로 압축해 두고, 조회수는 비압축(stored) 블록으로 이어 붙인 뒤 CRC만 다시 계산
+ */
+@Component
+public class SerializedResponseCache {
+
+    /**
+     * 직렬화 시 조회수 자리에 넣는 값 (직렬화 결과에서 위치를 찾은 뒤 제거)
+     */
+    private static final long VIEW_COUNT_PLACEHOLDER = Long.MIN_VALUE;
+    private static final byte[] VIEW_COUNT_FIELD =
+            ("\"viewCount\":" + VIEW_COUNT_PLACEHOLDER).getBytes(StandardCharsets.US_ASCII);
+    private static final int VIEW_COUNT_DIGITS = Long.toString(VIEW_COUNT_PLACEHOLDER).length();
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final ObjectMapper objectMapper;
+    private final LocalCache<String, SerializedBody> cache;
+    private final int compressionMinSize;
+    private final int maxCacheableSize;
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   CacheRegistry cacheRegistry,
+                                   @Value("${app.cache.serialized-body.ttl:30s}") Duration ttl,
+                                   @Value("${app.cache.serialized-body.max-size:500}") int maxSize,
+                                   @Value("${app.cache.serialized-body.max-body-size:1MB}") DataSize maxBodySize,
+                                   @Value("${app.cache.serialized-body.max-total-size:64MB}") DataSize maxTotalSize,
+                                   @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize) {
+        this.objectMapper = objectMapper;
+        this.cache = cacheRegistry.create("serializedBody", ttl, maxSize, SerializedBody::size, maxTotalSize.toBytes());
+        this.maxCacheableSize = (int) maxBodySize.toBytes();
+        this.compressionMinSize = (int) compressionMinSize.toBytes();
+    }
+
+    /**
+     * 캐시된 본문에 현재 조회수를 넣어 응답 생성 (캐시에 없거나 ETag가 다르면 null)
+     * - viewCount: 캐시 적중 시에만 호출 (조회수 기록 후 현재 조회수 반환, null이면 직렬화 당시 조회수 사용)
+     */
+    public ResponseEntity<byte[]> cached(ServletWebRequest request, String key, String eTag, CacheControl cacheControl,
+                                         Supplier<Long> viewCount) {
+        SerializedBody body = cache.peek(key);
+        if (body == null || !body.eTag().equals(eTag)) {
+            return null;
+        }
+        return toResponse(request, body, cacheControl, viewCount.get());
+    }
+
+    /**
+     * 조회수 자리를 비워 직렬화한 뒤 캐시에 저장하고, 현재 조회수를 넣어 응답 생성
+     * - payload: 조회수를 받아 응답 본문을 만드는 함수 (조회수 필드 "viewCount"가 본문에 한 번만 나와야 함)
+     */
+    public ResponseEntity<byte[]> serialize(ServletWebRequest request, String key, String eTag,
+                                            CacheControl cacheControl, long viewCount, LongFunction<Object> payload) {
+        SerializedBody body = encodeWithViewCount(eTag, viewCount, payload.apply(VIEW_COUNT_PLACEHOLDER));
+        if (body.size() <= maxCacheableSize) {
+            cache.put(key, body);
+        }
+        return toResponse(request, body, cacheControl, viewCount);
+    }
+
+    private SerializedBody encode(String eTag, byte[] json) {
+        byte[] gzip = json.length >= compressionMinSize ? gzip(json) : null;
+        if (gzip != null && gzip.length >= json.length) {
+            gzip = null;
+        }
+        return new SerializedBody(eTag, json, gzip);
+    }
+
+    /**
+     * 조회수 자리(placeholder)를 찾아 제거한 본문과 그 위치를 저장, 압축은 조회수 앞/뒤를 따로 함
+     * - 조회수 필드가 없으면 일반 본문으로 저장
+     */
+    private SerializedBody encodeWithViewCount(String eTag, long viewCount, Object payload) {
+        byte[] serialized = toJson(payload);
+        int field = indexOf(serialized, VIEW_COUNT_FIELD);
+        if (field < 0) {
+            return encode(eTag, serialized);
+        }
+        int offset = field + VIEW_COUNT_FIELD.length - VIEW_COUNT_DIGITS;
+        byte[] json = new byte[serialized.length - VIEW_COUNT_DIGITS];
+        System.arraycopy(serialized, 0, json, 0, offset);
+        System.arraycopy(serialized, offset + VIEW_COUNT_DIGITS, json, offset, json.length - offset);
+
+        byte[] gzipHead = null;
+        byte[] gzipTail = null;
+        if (serialized.length >= compressionMinSize) {
+            gzipHead = deflate(json, 0, offset, false);
+            gzipTail = deflate(json, offset, json.length - offset, true);
+            if (gzipHead.length + gzipTail.length >= json.length) {
+                gzipHead = null;
+                gzipTail = null;
+            }
+        }
+        return new SerializedBody(eTag, json, gzipHead, offset, viewCount, gzipTail);
+    }
+
+    private byte[] toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private ResponseEntity<byte[]> toResponse(ServletWebRequest request, SerializedBody body, CacheControl cacheControl,
+                                              Long viewCount) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        // 조회수가 들어간 본문은 요청마다 달라지므로 검증용 ETag를 내보내지 않음
+        if (body.hasViewCount()) {
+            byte[] digits = Long.toString(viewCount != null ? viewCount : body.viewCount())
+                    .getBytes(StandardCharsets.US_ASCII);
+            if (body.gzip() != null && acceptsGzip(request)) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(spliceGzip(body, digits));
+            }
+            return builder.body(spliceJson(body, digits));
+        }
+        builder.eTag(body.eTag());
+        if (body.gzip() != null && acceptsGzip(request)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.json());
+    }
+
+    private static byte[] spliceJson(SerializedBody body, byte[] digits) {
+        byte[] json = body.json();
+        int offset = body.viewCountOffset();
+        byte[] out = new byte[json.length + digits.length];
+        System.arraycopy(json, 0, out, 0, offset);
+        System.arraycopy(digits, 0, out, offset, digits.length);
+        System.arraycopy(json, offset, out, offset + digits.length, json.length - offset);
+        return out;
+    }
+
+    /**
+     * gzip 헤더 + 앞부분 압축본 + 조회수 stored 블록 + 뒷부분 압축본 + CRC32/길이 트레일러
+     * - 앞부분은 SYNC_FLUSH로 끝나 바이트 경계에 맞춰져 있으므로 stored 블록 헤더는 1바이트(BFINAL=0, BTYPE=00)
+     */
+    private static byte[] spliceGzip(SerializedBody body, byte[] digits) {
+        byte[] json = body.json();
+        int offset = body.viewCountOffset();
+        CRC32 crc = new CRC32();
+        crc.update(json, 0, offset);
+        crc.update(digits);
+        crc.update(json, offset, json.length - offset);
+
+        byte[] head = body.gzip();
+        byte[] tail = body.gzipTail();
+        byte[] out = new byte[head.length + 5 + digits.length + tail.length + 8];
+        System.arraycopy(head, 0, out, 0, head.length);
+        int pos = head.length;
+        out[pos++] = 0;
+        pos = writeShortLE(out, pos, digits.length);
+        pos = writeShortLE(out, pos, ~digits.length & 0xffff);
+        System.arraycopy(digits, 0, out, pos, digits.length);
+        pos += digits.length;
+        System.arraycopy(tail, 0, out, pos, tail.length);
+        pos += tail.length;
+        pos = writeIntLE(out, pos, (int) crc.getValue());
+        writeIntLE(out, pos, json.length + digits.length);
+        return out;
+    }
+
+    /**
+     * raw deflate 압축
+     * - last=false: GZIP 헤더를 붙이고 SYNC_FLUSH로 끝냄 (뒤에 다른 블록을 이어 붙일 수 있도록 마지막 블록 표시 없음)
+     * - last=true: 마지막 블록으로 끝냄
+     */
+    private static byte[] deflate(byte[] source, int offset, int length, boolean last) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+        byte[] buffer = new byte[8192];
+        try {
+            if (!last) {
+                out.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+            }
+            deflater.setInput(source, offset, length);
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int writeShortLE(byte[] out, int pos, int value) {
+        out[pos] = (byte) value;
+        out[pos + 1] = (byte) (value >>> 8);
+        return pos + 2;
+    }
+
+    private static int writeIntLE(byte[] out, int pos, int value) {
+        out[pos] = (byte) value;
+        out[pos + 1] = (byte) (value >>> 8);
+        out[pos + 2] = (byte) (value >>> 16);
+        out[pos + 3] = (byte) (value >>> 24);
+        return pos + 4;
+    }
+
+    private static boolean acceptsGzip(ServletWebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip") && !parts[0].trim().equals("*")) {
+                continue;
+            }
+            // gzip;q=0 은 명시적 거부
+            return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bincms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기/스케줄링 설정
+ * - spring.threads.virtual.enabled=true 이면 Tomcat 요청 스레드, @Async 기본 실행기(applicationTaskExecutor),
+ *   스케줄러 모두 가상 스레드로 동작 (Spring Boot 자동 설정)
+ * - 가상 스레드를 캐리어 스레드에 고정(pinning)시키는 작업은 별도의 플랫폼 스레드 풀에서 실행
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * @Async 기본 실행기 (가상 스레드 모드)
+     * - 다른 Executor 빈(mailSendExecutor)이 있으면 Boot 자동 설정이 물러나므로 동일한 빌더로 직접 등록
+     * - spring.task.execution.simple.concurrency-limit 으로 동시 실행 수 제한
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * @Async 기본 실행기 (플랫폼 스레드 모드, spring.task.execution.pool.* 설정 사용)
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 메일 발송 전용 플랫폼 스레드 풀
+     * - Jakarta Mail SMTP Transport는 synchronized 블록 안에서 소켓 I/O를 수행하므로
+     *   가상 스레드에서 직접 호출하면 SMTP 응답을 기다리는 동안 캐리어 스레드가 묶임
+     * - 요청 스레드는 발송 대기열에 적재만 하고, 실제 전송은 MailOutboxDispatcher가 이 풀에서 수행
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailSendExecutor(
+            @Value("${app.async.mail.pool-size:4}") int poolSize,
+            @Value("${app.async.mail.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
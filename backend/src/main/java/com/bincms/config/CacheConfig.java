@@ -0,0 +1,86 @@
+package com.bincms.config;
+
+import com.bincms.common.cache.CacheRegistry;
+import com.bincms.common.cache.LocalCache;
+import com.bincms.common.cache.ViewCountBuffer;
+import com.bincms.domain.content.dto.ContentResponse;
+import com.bincms.domain.content.repository.ContentRepository;
+import com.bincms.domain.interior.repository.InteriorRepository;
+import com.bincms.domain.post.dto.PostResponse;
+import com.bincms.domain.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 서비스 계층 로컬 캐시 설정
+ * - 상세 조회 hot key 캐시 (게시글 ID, 컨텐츠 키)
+ *   캐시된 응답의 조회수(viewCount)는 로딩 시점 값이라, 서비스가 반환할 때 조회수 버퍼의 현재 값을 덮어씀
+ * - 조회수 버퍼 (ViewCountBuffer: 게시글/컨텐츠/인테리어, 증가분을 모아 ViewCountFlusher가 주기적으로 반영)
+ * - 캐시 로더 전용 읽기 전용 트랜잭션 템플릿
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public LocalCache<Long, PostResponse> postDetailCache(
+            CacheRegistry cacheRegistry,
+            @Value("${app.cache.post-detail.ttl:30s}") Duration ttl,
+            @Value("${app.cache.post-detail.max-size:10000}") int maxSize) {
+        return cacheRegistry.create("postDetail", ttl, maxSize);
+    }
+
+    @Bean
+    public LocalCache<String, ContentResponse> contentByKeyCache(
+            CacheRegistry cacheRegistry,
+            @Value("${app.cache.content-by-key.ttl:60s}") Duration ttl,
+            @Value("${app.cache.content-by-key.max-size:1000}") int maxSize) {
+        return cacheRegistry.create("contentByKey", ttl, maxSize);
+    }
+
+    @Bean
+    public ViewCountBuffer<Long> postViewCounts(
+            PostRepository postRepository,
+            @Value("${app.view-count.retention:10m}") Duration retention) {
+        return new ViewCountBuffer<>("post", postRepository::addViewCount, retention.toMillis());
+    }
+
+    @Bean
+    public ViewCountBuffer<String> contentViewCounts(
+            ContentRepository contentRepository,
+            @Value("${app.view-count.retention:10m}") Duration retention) {
+        return new ViewCountBuffer<>("content", contentRepository::addViewCountByContentKey, retention.toMillis());
+    }
+
+    @Bean
+    public ViewCountBuffer<Long> interiorViewCounts(
+            InteriorRepository interiorRepository,
+            @Value("${app.view-count.retention:10m}") Duration retention) {
+        return new ViewCountBuffer<>("interior", interiorRepository::addViewCount, retention.toMillis());
+    }
+
+    /**
+     * 기본 트랜잭션 템플릿
+     * - 아래 읽기 전용 템플릿이 등록되면 Boot 자동 설정(transactionTemplate)이 물러나므로 직접 등록
+     * - 같은 타입이 둘이므로 주입 시 파라미터 이름(transactionTemplate / readOnlyTransactionTemplate)으로 구분
+     */
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 캐시 미스 시 로딩에만 사용하는 읽기 전용 트랜잭션
+     * - 병합 대기 중인 요청이 DB 커넥션을 점유하지 않도록, 로딩하는 리더만 트랜잭션을 연다
+     */
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bincms.config;
+
+import com.bincms.common.db.QueryCountingDataSource;
+import com.bincms.common.db.ReadYourWritesTracker;
+import com.bincms.common.db.ReplicaRouter;
+import com.bincms.common.db.RequestQueryTracker;
+import com.bincms.common.db.SlowOperationRecorder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - JPA/JDBC는 LazyConnectionDataSourceProxy를 사용하여 첫 SQL 실행 시점에 실제 커넥션을 얻음
+ *   (트랜잭션 시작 시 readOnly 설정이 먼저 반영되므로 그 시점에 대상 DataSource를 고를 수 있음)
+ * - readOnly 트랜잭션은 ReplicaRouter가 고른 복제본, 그 외는 primary(RoleMigrationConfig의 dataSource)
+ * - 복제본 설정이 없으면 모두 primary
+ * - 실제 커넥션은 QueryCountingDataSource로 감싸 요청 단위 SQL 수/시간을 집계하고 느린 SQL을 기록 (app.query-budget.enabled)
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    public DataSource routingDataSource(HikariDataSource dataSource,
+                                        ReplicaRouter replicaRouter,
+                                        ReadYourWritesTracker readYourWritesTracker,
+                                        RequestQueryTracker requestQueryTracker,
+                                        SlowOperationRecorder slowOperationRecorder) {
+        DataSource primary = new WriteTrackingDataSource(
+                counting(dataSource, requestQueryTracker, slowOperationRecorder), readYourWritesTracker);
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        if (replicaRouter.hasReplicas()) {
+            proxy.setReadOnlyDataSource(counting(replicaRouter.readOnlyDataSource(dataSource),
+                    requestQueryTracker, slowOperationRecorder));
+        }
+        return proxy;
+    }
+
+    private static DataSource counting(DataSource dataSource, RequestQueryTracker requestQueryTracker,
+                                       SlowOperationRecorder slowOperationRecorder) {
+        return requestQueryTracker.isEnabled()
+                ? new QueryCountingDataSource(dataSource, requestQueryTracker, slowOperationRecorder)
+                : dataSource;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 primary 커넥션을 얻을 때 요청자를 기록 (read-your-writes)
+     */
+    private static class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private final ReadYourWritesTracker readYourWritesTracker;
+
+        WriteTrackingDataSource(DataSource targetDataSource, ReadYourWritesTracker readYourWritesTracker) {
+            super(targetDataSource);
+            this.readYourWritesTracker = readYourWritesTracker;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                readYourWritesTracker.markWrite();
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.bincms.config;
+
+import com.bincms.common.http.OutboundHttpClient;
+import com.bincms.common.http.OutboundHttpClientRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 연동 HTTP 클라이언트 설정
+ * - OAuth 제공자별로 커넥션 풀/서킷 브레이커/벌크헤드를 분리
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public OutboundHttpClient kakaoHttpClient(OutboundHttpClientRegistry registry) {
+        return registry.get("kakao");
+    }
+
+    @Bean
+    public OutboundHttpClient naverHttpClient(OutboundHttpClientRegistry registry) {
+        return registry.get("naver");
+    }
+
+    @Bean
+    public OutboundHttpClient googleHttpClient(OutboundHttpClientRegistry registry) {
+        return registry.get("google");
+    }
+}
@@ -0,0 +1,389 @@
+package com.bincms.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import com.bincms.common.cache.CacheRegistry;
+import com.bincms.common.cache.ViewCountBuffer;
+import com.bincms.common.cache.ViewCountFlusher;
+import com.bincms.common.db.ConnectionPoolMetrics;
+import com.bincms.common.db.ReadYourWritesTracker;
+import com.bincms.common.db.ReplicaRouter;
+import com.bincms.common.db.SlowOperationLog;
+import com.bincms.common.db.SlowOperationRecorder;
+import com.bincms.common.http.CircuitBreaker;
+import com.bincms.common.http.LatencyHistogram;
+import com.bincms.common.http.OutboundHttpClient;
+import com.bincms.common.http.OutboundHttpClientRegistry;
+import com.bincms.common.logging.SamplingTurboFilter;
+import com.bincms.common.ratelimit.RateLimiterRegistry;
+import com.bincms.common.security.PasswordHashingService;
+import com.bincms.domain.analytics.service.PageViewCollector;
+import com.bincms.domain.inquiry.service.InquiryIntakeService;
+import com.bincms.domain.mail.entity.MailOutboxStatus;
+import com.bincms.domain.mail.service.MailOutboxDispatcher;
+import com.bincms.domain.trending.service.TrendingService;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 메트릭 등록 (Prometheus: /actuator/prometheus)
+ * - HTTP 엔드포인트 타이머(http.server.requests), JVM/GC/스레드, jdbc.connections.*는 Actuator 자동 구성 사용
+ * - 여기서는 각 컴포넌트가 이미 집계하는 카운터/LatencyHistogram을 그대로 읽어 노출 (호출 경로에 계측 추가 없음)
+ *   LatencyHistogram → FunctionTimer(건수/누적 시간) + 백분위 게이지(<name>.percentile{phi})
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final double[] PERCENTILES = {0.5, 0.99};
+
+    /**
+     * 로컬 캐시 적중/미스, 크기 (cache.gets{cache, result}), 무게 제한이 있는 캐시는 무게 합계
+     */
+    @Bean
+    public MeterBinder localCacheMetrics(CacheRegistry cacheRegistry) {
+        return registry -> cacheRegistry.getCaches().forEach(cache -> {
+            Tags tags = Tags.of("cache", cache.getName());
+            FunctionCounter.builder("cache.gets", cache, c -> c.getHits())
+                    .tags(tags).tag("result", "hit")
+                    .description("로컬 캐시 조회 (적중)")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, c -> c.getMisses())
+                    .tags(tags).tag("result", "miss")
+                    .description("로컬 캐시 조회 (미스)")
+                    .register(registry);
+            Gauge.builder("cache.size", cache, c -> c.size())
+                    .tags(tags)
+                    .register(registry);
+            if (cache.getMaxWeight() < Long.MAX_VALUE) {
+                Gauge.builder("cache.weight", cache, c -> c.getWeight())
+                        .tags(tags)
+                        .description("로컬 캐시에 저장된 값의 무게 합계 (직렬화 본문은 바이트 수)")
+                        .register(registry);
+            }
+        });
+    }
+
+    /**
+     * 조회수 버퍼 (반영 대기 증가분, 추적 중인 대상 수, 반영 실패)
+     */
+    @Bean
+    public MeterBinder viewCountMetrics(List<ViewCountBuffer<?>> viewCountBuffers, ViewCountFlusher viewCountFlusher) {
+        return registry -> {
+            viewCountBuffers.forEach(buffer -> {
+                Gauge.builder("bincms.viewcount.pending", buffer, ViewCountBuffer::getPending)
+                        .tag("buffer", buffer.getName())
+                        .description("DB에 반영되지 않은 조회수 증가분")
+                        .register(registry);
+                Gauge.builder("bincms.viewcount.keys", buffer, ViewCountBuffer::size)
+                        .tag("buffer", buffer.getName())
+                        .register(registry);
+            });
+            FunctionCounter.builder("bincms.viewcount.flush.failures", viewCountFlusher,
+                            ViewCountFlusher::getFlushFailures)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 커넥션 풀 획득 대기/대여 시간, 획득 시간 초과
+     */
+    @Bean
+    public MeterBinder connectionPoolMetricsBinder(ConnectionPoolMetrics connectionPoolMetrics) {
+        return registry -> {
+            latency(registry, "bincms.db.pool.acquire", Tags.empty(), connectionPoolMetrics.getAcquireLatency());
+            latency(registry, "bincms.db.pool.usage", Tags.empty(), connectionPoolMetrics.getUsageLatency());
+            FunctionCounter.builder("bincms.db.pool.timeouts", connectionPoolMetrics, ConnectionPoolMetrics::getTimeouts)
+                    .description("커넥션 획득 시간 초과")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 비밀번호 해싱 전용 풀 (해싱 시간, 대기열 대기 시간, 대기열 길이, 거절/시간 초과)
+     */
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService passwordHashingService) {
+        return registry -> {
+            latency(registry, "bincms.password.hashing", Tags.of("operation", "encode"),
+                    passwordHashingService.getEncodeLatency());
+            latency(registry, "bincms.password.hashing", Tags.of("operation", "matches"),
+                    passwordHashingService.getMatchesLatency());
+            latency(registry, "bincms.password.hashing.queue.wait", Tags.empty(), passwordHashingService.getQueueWait());
+            Gauge.builder("bincms.password.hashing.active", passwordHashingService, PasswordHashingService::getActive)
+                    .register(registry);
+            Gauge.builder("bincms.password.hashing.queued", passwordHashingService, PasswordHashingService::getQueued)
+                    .register(registry);
+            FunctionCounter.builder("bincms.password.hashing.rejected", passwordHashingService,
+                            PasswordHashingService::getRejected)
+                    .register(registry);
+            FunctionCounter.builder("bincms.password.hashing.timeouts", passwordHashingService,
+                            PasswordHashingService::getTimedOut)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 페이지뷰 집계 저장 지연 (저장되지 않은 가장 오래된 시간 버킷 기준)
+     */
+    @Bean
+    public MeterBinder pageViewCollectorMetrics(PageViewCollector pageViewCollector) {
+        return registry -> {
+            Gauge.builder("bincms.pageviews.flush.lag", pageViewCollector, PageViewCollector::getFlushLagMillis)
+                    .baseUnit("milliseconds")
+                    .description("닫힌 시간 버킷이 저장되지 않고 남아 있는 시간")
+                    .register(registry);
+            Gauge.builder("bincms.pageviews.pending.buckets", pageViewCollector, PageViewCollector::getPendingBuckets)
+                    .register(registry);
+            FunctionCounter.builder("bincms.pageviews.recorded", pageViewCollector, PageViewCollector::getRecorded)
+                    .register(registry);
+            FunctionCounter.builder("bincms.pageviews.flush.failures", pageViewCollector,
+                            PageViewCollector::getFlushFailures)
+                    .register(registry);
+            latency(registry, "bincms.pageviews.flush", Tags.empty(), pageViewCollector.getFlushLatency());
+        };
+    }
+
+    /**
+     * 메일 발송 대기열 (대기 건수는 수집 시점에 DB에서 집계)
+     */
+    @Bean
+    public MeterBinder mailOutboxMetrics(MailOutboxDispatcher mailOutboxDispatcher) {
+        return registry -> {
+            Gauge.builder("bincms.mail.outbox.pending", mailOutboxDispatcher,
+                            dispatcher -> dispatcher.countByStatus(MailOutboxStatus.PENDING))
+                    .description("발송 대기 중인 메일")
+                    .register(registry);
+            FunctionCounter.builder("bincms.mail.outbox.sent", mailOutboxDispatcher, MailOutboxDispatcher::getSent)
+                    .register(registry);
+            FunctionCounter.builder("bincms.mail.outbox.failed", mailOutboxDispatcher, MailOutboxDispatcher::getFailed)
+                    .register(registry);
+            latency(registry, "bincms.mail.outbox.batch", Tags.empty(), mailOutboxDispatcher.getBatchLatency());
+        };
+    }
+
+    /**
+     * 견적문의 접수 대기열
+     */
+    @Bean
+    public MeterBinder inquiryIntakeMetrics(InquiryIntakeService inquiryIntakeService) {
+        return registry -> {
+            Gauge.builder("bincms.inquiry.intake.queued", inquiryIntakeService, InquiryIntakeService::getQueued)
+                    .register(registry);
+            FunctionCounter.builder("bincms.inquiry.intake.failed", inquiryIntakeService, InquiryIntakeService::getFailed)
+                    .register(registry);
+            latency(registry, "bincms.inquiry.intake.batch", Tags.empty(), inquiryIntakeService.getBatchLatency());
+        };
+    }
+
+    /**
+     * 외부 HTTP 호출 (제공자별 응답 시간, 실패, 서킷 브레이커 상태, 동시 호출 제한, 커넥션 풀)
+     */
+    @Bean
+    public MeterBinder outboundHttpClientMetrics(OutboundHttpClientRegistry outboundHttpClientRegistry) {
+        return registry -> outboundHttpClientRegistry.getClients().forEach(client -> {
+            Tags tags = Tags.of("client", client.getName());
+            latency(registry, "bincms.http.client.calls", tags, client.getLatency());
+            FunctionCounter.builder("bincms.http.client.failures", client, OutboundHttpClient::getFailures)
+                    .tags(tags)
+                    .register(registry);
+            for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                Gauge.builder("bincms.http.client.circuit.state", client.getCircuitBreaker(),
+                                breaker -> breaker.getState() == state ? 1 : 0)
+                        .tags(tags).tag("state", state.name())
+                        .register(registry);
+            }
+            FunctionCounter.builder("bincms.http.client.circuit.rejected", client.getCircuitBreaker(),
+                            CircuitBreaker::getRejected)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("bincms.http.client.circuit.opened", client.getCircuitBreaker(),
+                            CircuitBreaker::getOpenTransitions)
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("bincms.http.client.bulkhead.active", client.getBulkhead(), bulkhead -> bulkhead.getActive())
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("bincms.http.client.bulkhead.rejected", client.getBulkhead(),
+                            bulkhead -> bulkhead.getRejected())
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("bincms.http.client.connections", client, c -> c.getPoolStats().getLeased())
+                    .tags(tags).tag("state", "leased")
+                    .register(registry);
+            Gauge.builder("bincms.http.client.connections", client, c -> c.getPoolStats().getAvailable())
+                    .tags(tags).tag("state", "idle")
+                    .register(registry);
+            Gauge.builder("bincms.http.client.connections", client, c -> c.getPoolStats().getPending())
+                    .tags(tags).tag("state", "pending")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 요청 제한 (제한기별 허용/거절 건수, 추적 중인 키 수)
+     */
+    @Bean
+    public MeterBinder rateLimitMetrics(RateLimiterRegistry rateLimiterRegistry) {
+        return registry -> rateLimiterRegistry.getLimiters().forEach(limiter -> {
+            Tags tags = Tags.of("limiter", limiter.getName());
+            FunctionCounter.builder("bincms.ratelimit.requests", limiter, l -> l.getAllowed())
+                    .tags(tags).tag("result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("bincms.ratelimit.requests", limiter, l -> l.getRejected())
+                    .tags(tags).tag("result", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("bincms.ratelimit.evicted", limiter, l -> l.getEvicted())
+                    .tags(tags)
+                    .description("키 수 상한에 닿아 만료 전에 밀려난 키")
+                    .register(registry);
+            Gauge.builder("bincms.ratelimit.keys", limiter, l -> l.size())
+                    .tags(tags)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 복제본 라우팅 (복제본별 상태/지연/풀 사용량, primary 대체 횟수)
+     * - 복제본 풀은 스프링 빈이 아니라 hikaricp.* 자동 구성 대상이 아니므로 여기서 등록
+     */
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaRouter replicaRouter, ReadYourWritesTracker readYourWritesTracker) {
+        return registry -> {
+            FunctionCounter.builder("bincms.db.replica.fallbacks", replicaRouter, ReplicaRouter::getStickyFallbacks)
+                    .tag("reason", "sticky")
+                    .description("최근 쓰기로 primary에서 읽은 횟수")
+                    .register(registry);
+            FunctionCounter.builder("bincms.db.replica.fallbacks", replicaRouter, ReplicaRouter::getUnavailableFallbacks)
+                    .tag("reason", "unavailable")
+                    .description("정상 복제본이 없어 primary에서 읽은 횟수")
+                    .register(registry);
+            FunctionCounter.builder("bincms.db.replica.busy.skips", replicaRouter, ReplicaRouter::getBusySkips)
+                    .description("복제본 풀 획득 대기 시간 초과로 다음 복제본/primary로 넘어간 횟수")
+                    .register(registry);
+            Gauge.builder("bincms.db.replica.sticky.actors", readYourWritesTracker, ReadYourWritesTracker::size)
+                    .register(registry);
+            replicaRouter.getReplicas().forEach(replica -> {
+                Tags tags = Tags.of("replica", replica.getName());
+                Gauge.builder("bincms.db.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .tags(tags)
+                        .register(registry);
+                Gauge.builder("bincms.db.replica.lag", replica,
+                                r -> r.getLagSeconds() != null ? r.getLagSeconds() : Double.NaN)
+                        .tags(tags)
+                        .baseUnit("seconds")
+                        .register(registry);
+                FunctionCounter.builder("bincms.db.replica.connections", replica, r -> r.getConnections().sum())
+                        .tags(tags)
+                        .register(registry);
+                replicaPool(registry, tags, replica, "active", HikariPoolMXBean::getActiveConnections);
+                replicaPool(registry, tags, replica, "idle", HikariPoolMXBean::getIdleConnections);
+                replicaPool(registry, tags, replica, "pending", HikariPoolMXBean::getThreadsAwaitingConnection);
+            });
+        };
+    }
+
+    /**
+     * 인기 콘텐츠 집계 (범위/항목 수, 반영한/반영하지 못한 조회 이벤트)
+     */
+    @Bean
+    public MeterBinder trendingMetrics(TrendingService trendingService) {
+        return registry -> {
+            Gauge.builder("bincms.trending.scopes", trendingService, TrendingService::getScopeCount)
+                    .register(registry);
+            Gauge.builder("bincms.trending.items", trendingService, TrendingService::getTrackedItems)
+                    .register(registry);
+            FunctionCounter.builder("bincms.trending.events", trendingService, TrendingService::getEvents)
+                    .register(registry);
+            FunctionCounter.builder("bincms.trending.events.untracked", trendingService,
+                            TrendingService::getUntrackedEvents)
+                    .description("범위를 알 수 없고 순위에도 없어 반영하지 못한 조회 이벤트")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 느린 요청 / 느린 SQL 기록 건수
+     */
+    @Bean
+    public MeterBinder slowOperationMetrics(SlowOperationRecorder slowOperationRecorder) {
+        return registry -> {
+            FunctionCounter.builder("bincms.slow.requests", slowOperationRecorder.getRequests(), SlowOperationLog::getTotal)
+                    .description("임계값 이상 걸린 요청")
+                    .register(registry);
+            FunctionCounter.builder("bincms.slow.queries", slowOperationRecorder.getQueries(), SlowOperationLog::getTotal)
+                    .description("임계값 이상 걸린 SQL")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 로깅 파이프라인 (비동기 큐 적재 건수/잔여 용량, 샘플링으로 버린 SQL 로그)
+     */
+    @Bean
+    public MeterBinder loggingPipelineMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+                return;
+            }
+            Iterator<Appender<ILoggingEvent>> appenders =
+                    context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof AsyncAppender async) {
+                    Gauge.builder("bincms.logging.async.queued", async, AsyncAppender::getNumberOfElementsInQueue)
+                            .tag("appender", async.getName())
+                            .register(registry);
+                    Gauge.builder("bincms.logging.async.remaining", async, AsyncAppender::getRemainingCapacity)
+                            .tag("appender", async.getName())
+                            .description("남은 큐 용량 (discarding-threshold 이하면 INFO 이하 폐기)")
+                            .register(registry);
+                }
+            }
+            for (TurboFilter filter : context.getTurboFilterList()) {
+                if (filter instanceof SamplingTurboFilter sampling) {
+                    FunctionCounter.builder("bincms.logging.sampled.dropped", sampling, SamplingTurboFilter::getDropped)
+                            .description("샘플링으로 기록하지 않은 로그")
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    private static void replicaPool(MeterRegistry registry, Tags tags, ReplicaRouter.Replica replica, String state,
+                                    ToDoubleFunction<HikariPoolMXBean> value) {
+        Gauge.builder("bincms.db.replica.pool.connections", replica, r -> {
+                    HikariPoolMXBean pool = r.getDataSource().getHikariPoolMXBean();
+                    return pool != null ? value.applyAsDouble(pool) : 0;
+                })
+                .tags(tags).tag("state", state)
+                .register(registry);
+    }
+
+    private static void latency(MeterRegistry registry, String name, Tags tags, LatencyHistogram histogram) {
+        FunctionTimer.builder(name, histogram, LatencyHistogram::getCount,
+                        LatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .register(registry);
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(name + ".percentile", histogram, h -> h.percentileMillis(percentile))
+                    .tags(tags).tag("phi", String.valueOf(percentile))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+    }
+}
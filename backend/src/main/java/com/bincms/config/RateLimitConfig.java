@@ -0,0 +1,74 @@
+package com.bincms.config;
+
+import com.bincms.common.ratelimit.RateLimiter;
+import com.bincms.common.ratelimit.RateLimiterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 설정
+ * - *IpRateLimiter: RateLimitFilter에서 클라이언트 IP 단위로 적용
+ * - 나머지: 서비스 계층에서 로그인 ID / 댓글 / 이메일 단위로 적용
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter authIpRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.auth-ip.capacity:20}") int capacity,
+            @Value("${app.rate-limit.auth-ip.period:1m}") Duration period) {
+        return registry.create("authIp", capacity, period);
+    }
+
+    @Bean
+    public RateLimiter commentIpRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.comment-ip.capacity:30}") int capacity,
+            @Value("${app.rate-limit.comment-ip.period:1m}") Duration period) {
+        return registry.create("commentIp", capacity, period);
+    }
+
+    @Bean
+    public RateLimiter emailIpRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.email-ip.capacity:20}") int capacity,
+            @Value("${app.rate-limit.email-ip.period:1h}") Duration period) {
+        return registry.create("emailIp", capacity, period);
+    }
+
+    @Bean
+    public RateLimiter pageViewIpRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.page-view-ip.capacity:120}") int capacity,
+            @Value("${app.rate-limit.page-view-ip.period:1m}") Duration period) {
+        return registry.create("pageViewIp", capacity, period);
+    }
+
+    @Bean
+    public RateLimiter loginIdRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.login-id.capacity:10}") int capacity,
+            @Value("${app.rate-limit.login-id.period:10m}") Duration period) {
+        return registry.create("loginId", capacity, period);
+    }
+
+    @Bean
+    public RateLimiter commentPasswordRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.comment-password.capacity:10}") int capacity,
+            @Value("${app.rate-limit.comment-password.period:10m}") Duration period) {
+        return registry.create("commentPassword", capacity, period);
+    }
+
+    @Bean
+    public RateLimiter emailSendRateLimiter(
+            RateLimiterRegistry registry,
+            @Value("${app.rate-limit.email-send.capacity:5}") int capacity,
+            @Value("${app.rate-limit.email-send.period:1h}") Duration period) {
+        return registry.create("emailSend", capacity, period);
+    }
+}
@@ -1,40 +1,92 @@
 package com.bincms.config;
 
+import com.bincms.common.db.ConnectionPoolMetrics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.jdbc.core.JdbcTemplate;
 
-import javax.sql.DataSource;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * 기존 tb_members.role (문자열 컬럼) → tb_members.role_id (FK) 마이그레이션
  * DataSource Bean 생성 시점에 마이그레이션을 실행하여 Hibernate DDL보다 먼저 처리합니다.
+ *
+ * DataSource는 직접 생성하므로 Spring Boot 자동 구성 대신 spring.datasource.hikari.*를 여기서 바인딩합니다.
+ * (마이그레이션이 생성 직후 실행되므로 @ConfigurationProperties 후처리로는 풀 설정이 늦게 적용됨)
  */
 @Slf4j
 @Configuration
 public class RoleMigrationConfig {
     
+    /**
+     * MySQL Connector/J 기본 드라이버 속성 (data-source-properties에 같은 키가 있으면 그 값 우선)
+     * - 클라이언트 PreparedStatement 캐시 + 서버 prepare 재사용
+     * - rewriteBatchedStatements: JDBC 배치 INSERT를 multi-row INSERT 한 문장으로 전송
+     * - 세션 상태/메타데이터 캐시로 autocommit, isolation 확인 왕복 제거
+     */
+    private static final Map<String, String> MYSQL_DRIVER_PROPERTIES = Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "250",
+            "prepStmtCacheSqlLimit", "2048",
+            "useServerPrepStmts", "true",
+            "rewriteBatchedStatements", "true",
+            "useLocalSessionState", "true",
+            "cacheResultSetMetadata", "true",
+            "cacheServerConfiguration", "true",
+            "elideSetAutoCommits", "true",
+            "maintainTimeStats", "false");
+    
+    /**
+     * PostgreSQL JDBC 기본 드라이버 속성 (data-source-properties에 같은 키가 있으면 그 값 우선)
+     * - reWriteBatchedInserts: JDBC 배치 INSERT를 multi-row INSERT로 묶어 전송 (일괄 가져오기)
+     */
+    private static final Map<String, String> POSTGRESQL_DRIVER_PROPERTIES = Map.of(
+            "reWriteBatchedInserts", "true");
+    
     @Bean
-    public DataSource dataSource(Environment env) {
+    public ConnectionPoolMetrics connectionPoolMetrics() {
+        return new ConnectionPoolMetrics();
+    }
+    
+    @Bean
+    public HikariDataSource dataSource(Environment env, ConnectionPoolMetrics connectionPoolMetrics) {
         String url = env.getProperty("spring.datasource.url");
         String username = env.getProperty("spring.datasource.username");
         String password = env.getProperty("spring.datasource.password");
         String driver = env.getProperty("spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver");
         
-        DataSource dataSource = DataSourceBuilder.create()
-                .url(url)
-                .username(username)
-                .password(password)
-                .driverClassName(driver)
-                .build();
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(driver);
+        // 풀 크기, 타임아웃, 누수 감지, data-source-properties
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        boolean mysql = url != null && url.contains("mysql");
+        if (mysql) {
+            Properties driverProperties = config.getDataSourceProperties();
+            MYSQL_DRIVER_PROPERTIES.forEach(driverProperties::putIfAbsent);
+        } else if (url != null && url.contains("postgresql")) {
+            Properties driverProperties = config.getDataSourceProperties();
+            POSTGRESQL_DRIVER_PROPERTIES.forEach(driverProperties::putIfAbsent);
+        }
+        config.setMetricsTrackerFactory(connectionPoolMetrics);
+        
+        HikariDataSource dataSource = new HikariDataSource(config);
+        log.info("DataSource 풀 설정: pool={}, maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms, leakDetectionThreshold={}ms",
+                dataSource.getPoolName(), dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle(),
+                dataSource.getConnectionTimeout(), dataSource.getLeakDetectionThreshold());
         
         // DataSource 생성 직후, Hibernate DDL 전에 마이그레이션 실행
-        if (url != null && url.contains("mysql")) {
+        if (mysql) {
             runMigration(new JdbcTemplate(dataSource));
         }
         
@@ -2,6 +2,7 @@ package com.bincms.config;
 
 import com.bincms.common.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -19,6 +20,11 @@ public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    /**
+     * 관리자 역할 (JWT role 클레임 = tb_roles.ROLE_CODE)
+     */
+    private static final String[] ADMIN_ROLES = {"SYSTEM_ADMIN", "OPERATION_ADMIN", "GENERAL_ADMIN"};
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -27,6 +33,22 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                // 일괄 삭제/차단 (필터 한 번으로 최대 수천 건 변경) - 아래 permitAll 경로보다 먼저 매칭
+                .requestMatchers("/api/v1/posts/bulk-delete",
+                        "/api/v1/comments/bulk-delete",
+                        "/api/v1/files/bulk-delete",
+                        "/api/v1/admin/users/bulk-deactivate").hasAnyRole(ADMIN_ROLES)
+                // CSV 내보내기 (회원 이메일/연락처, 견적문의 개인정보 전체) 및 진행 현황
+                .requestMatchers("/api/v1/admin/users/export",
+                        "/api/v1/inquiries/export",
+                        "/api/v1/posts/export",
+                        "/api/v1/admin/exports/**").hasAnyRole(ADMIN_ROLES)
+                // 일괄 가져오기 (게시글/컨텐츠/회원 대량 생성)
+                .requestMatchers("/api/v1/admin/imports/**").hasAnyRole(ADMIN_ROLES)
+                // 느린 요청/SQL 기록 (요청 경로, SQL 형태 노출 및 기록 삭제)
+                .requestMatchers("/api/v1/admin/slow-operations/**").hasAnyRole(ADMIN_ROLES)
+                // 페이지뷰 통계 조회 및 수동 압축
+                .requestMatchers("/api/v1/admin/analytics/**").hasAnyRole(ADMIN_ROLES)
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/boards/**").permitAll()
                 .requestMatchers("/api/v1/posts/**").permitAll()
@@ -42,6 +64,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/health").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers
@@ -53,8 +76,11 @@ public class SecurityConfig {
         return http.build();
     }
     
+    /**
+     * BCrypt cost factor는 설정값 사용 (올리면 기존 회원은 다음 로그인 시 재해싱)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
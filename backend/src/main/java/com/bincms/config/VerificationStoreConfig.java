@@ -0,0 +1,30 @@
+package com.bincms.config;
+
+import com.bincms.domain.email.store.InMemoryVerificationCodeStore;
+import com.bincms.domain.email.store.JpaVerificationCodeStore;
+import com.bincms.domain.email.store.VerificationCodeStore;
+import com.bincms.domain.email.store.WriteThroughVerificationCodeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 이메일 인증 코드 저장소 설정
+ * - app.mail.verification-store: memory(기본, 단일 노드) | write-through(다중 노드, DB 공유)
+ */
+@Configuration
+public class VerificationStoreConfig {
+
+    @Bean
+    @Primary
+    public VerificationCodeStore verificationCodeStore(
+            @Value("${app.mail.verification-store:memory}") String mode,
+            InMemoryVerificationCodeStore memoryStore,
+            JpaVerificationCodeStore jpaStore) {
+        if ("write-through".equalsIgnoreCase(mode)) {
+            return new WriteThroughVerificationCodeStore(memoryStore, jpaStore);
+        }
+        return memoryStore;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bincms.domain.analytics.controller;
+
+import com.bincms.common.dto.ApiResponse;
+import com.bincms.domain.analytics.dto.PageViewDashboardResponse;
+import com.bincms.domain.analytics.service.PageViewCompactionService;
+import com.bincms.domain.analytics.service.PageViewStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@RequiredArgsConstructor
+public class AdminAnalyticsController {
+
+    private final PageViewStatsService pageViewStatsService;
+    private final PageViewCompactionService pageViewCompactionService;
+
+    /**
+     * 페이지뷰 대시보드 조회 (기본: 최근 30일)
+     */
+    @GetMapping("/page-views")
+    public ResponseEntity<ApiResponse<PageViewDashboardResponse>> getPageViews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(pageViewStatsService.getDashboard(from, to)));
+    }
+
+    /**
+     * 특정 일자 일별 집계 재계산 (시간별 집계 보존 기간 이내)
+     */
+    @PostMapping("/page-views/compact")
+    public ResponseEntity<ApiResponse<Integer>> compact(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        int rows = pageViewCompactionService.compact(date);
+        return ResponseEntity.ok(ApiResponse.success(rows, "페이지뷰 일별 집계를 재계산했습니다."));
+    }
+}
@@ -0,0 +1,84 @@
+package com.bincms.domain.analytics.controller;
+
+import com.bincms.common.sketch.HyperLogLog;
+import com.bincms.common.web.ClientIpResolver;
+import com.bincms.domain.analytics.entity.PageViewTarget;
+import com.bincms.domain.analytics.service.PageViewCollector;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+@RestController
+@RequestMapping("/api/v1/public/analytics")
+@RequiredArgsConstructor
+public class PublicAnalyticsController {
+
+    /** 게시글/시공사례: 숫자 ID, 게시판: 게시판 코드, 콘텐츠: 콘텐츠 키 */
+    private static final Pattern NUMERIC_ID = Pattern.compile("[1-9][0-9]{0,17}");
+    private static final Pattern BOARD_CODE = Pattern.compile("[a-z0-9_]{1,50}");
+    private static final Pattern CONTENT_KEY = Pattern.compile("[A-Za-z0-9_-]{1,100}");
+    private static final int MAX_VISITOR_LENGTH = 64;
+
+    private final PageViewCollector pageViewCollector;
+    private final ClientIpResolver clientIpResolver;
+
+    /**
+     * 페이지뷰 비콘 (navigator.sendBeacon, 비로그인 사용자 가능)
+     * - 메모리 집계에만 반영하고 항상 204 응답 (잘못된 값, 검색엔진 봇은 조용히 무시)
+     * - 대상 ID는 종류별 형식만 허용 (임의 문자열로 시간 버킷의 대상 키 상한을 채우지 못하도록), IP 단위 요청 제한은 RateLimitFilter
+     * - 방문자 식별: 브라우저가 보낸 방문자 ID(v), 없으면 IP + User-Agent
+     */
+    @PostMapping("/views")
+    public ResponseEntity<Void> recordView(@RequestParam(required = false) String type,
+                                           @RequestParam(required = false) String id,
+                                           @RequestParam(name = "v", required = false) String visitorId,
+                                           HttpServletRequest request) {
+        PageViewTarget target = parseTarget(type);
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        if (target != null && isValidId(target, id) && !isBot(userAgent)) {
+            String visitor = StringUtils.hasText(visitorId) && visitorId.length() <= MAX_VISITOR_LENGTH
+                    ? visitorId
+                    : clientIpResolver.resolve(request) + "|" + userAgent;
+            pageViewCollector.record(target, id, HyperLogLog.hash64(visitor));
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private static PageViewTarget parseTarget(String type) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            PageViewTarget target = PageViewTarget.valueOf(type.toUpperCase(Locale.ROOT));
+            return target != PageViewTarget.SITE ? target : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isValidId(PageViewTarget target, String id) {
+        if (id == null) {
+            return false;
+        }
+        Pattern pattern = switch (target) {
+            case POST, INTERIOR -> NUMERIC_ID;
+            case BOARD -> BOARD_CODE;
+            case CONTENT, SITE -> CONTENT_KEY;
+        };
+        return pattern.matcher(id).matches();
+    }
+
+    private static boolean isBot(String userAgent) {
+        if (userAgent == null) {
+            return true;
+        }
+        String ua = userAgent.toLowerCase(Locale.ROOT);
+        return ua.contains("bot") || ua.contains("spider") || ua.contains("crawl");
+    }
+}
@@ -0,0 +1,9 @@
+package com.bincms.domain.analytics.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 사이트 전체 조회 수 / 고유 방문자 수
+ */
+public record PageViewDailyCount(LocalDate date, long views, long uniqueVisitors) {
+}
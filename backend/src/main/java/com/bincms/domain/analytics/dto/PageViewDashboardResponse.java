@@ -0,0 +1,24 @@
+package com.bincms.domain.analytics.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 페이지뷰 대시보드 응답
+ * - uniqueVisitors: 기간 전체 고유 방문자 수 (일자별 스케치 합산, 추정값)
+ * - topTargets: 일별 압축이 끝난 일자 기준 조회 수 상위 대상
+ */
+@Getter
+@Builder
+public class PageViewDashboardResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long views;
+    private long uniqueVisitors;
+    private List<PageViewDailyCount> daily;
+    private List<PageViewTargetCount> topTargets;
+}
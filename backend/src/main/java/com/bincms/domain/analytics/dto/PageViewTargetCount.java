@@ -0,0 +1,9 @@
+package com.bincms.domain.analytics.dto;
+
+import com.bincms.domain.analytics.entity.PageViewTarget;
+
+/**
+ * 대상별 조회 수
+ */
+public record PageViewTargetCount(PageViewTarget targetType, String targetId, Long views) {
+}
@@ -0,0 +1,54 @@
+package com.bincms.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 페이지뷰 집계 엔티티 (시간별 집계를 하루 단위로 압축)
+ * - 대시보드 기간 조회는 이 테이블만 읽음
+ */
+@Entity
+@Table(name = "tb_page_view_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_page_view_daily_key", columnNames = {"STAT_DATE", "TARGET_TYPE", "TARGET_ID"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Comment("일별 페이지뷰")
+public class PageViewDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PAGE_VIEW_ID")
+    @Comment("집계 ID")
+    private Long id;
+
+    @Column(name = "STAT_DATE", nullable = false)
+    @Comment("집계일")
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TARGET_TYPE", nullable = false, length = 20)
+    @Comment("대상 유형")
+    private PageViewTarget targetType;
+
+    @Column(name = "TARGET_ID", nullable = false, length = 100)
+    @Comment("대상 ID (사이트 전체는 *)")
+    private String targetId;
+
+    @Column(name = "VIEWS", nullable = false)
+    @Comment("조회 수")
+    private Long views;
+
+    @Column(name = "UNIQUE_VISITORS", nullable = false)
+    @Comment("고유 방문자 수 (추정)")
+    private Long uniqueVisitors;
+
+    @Column(name = "SKETCH", nullable = false, length = 1024)
+    @Comment("고유 방문자 HyperLogLog 레지스터")
+    private byte[] sketch;
+}
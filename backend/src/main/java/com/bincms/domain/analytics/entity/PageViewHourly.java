@@ -0,0 +1,57 @@
+package com.bincms.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 페이지뷰 집계 엔티티
+ * - 노드별 메모리 버킷을 시간이 끝날 때 한 번 저장 (NODE_ID로 구분하여 노드 간 충돌 없이 INSERT만 수행)
+ * - 고유 방문자는 HyperLogLog 레지스터(SKETCH)로 저장하여 시간/노드 간 합산 가능
+ * - 일별 집계로 압축된 뒤 보존 기간이 지나면 삭제
+ */
+@Entity
+@Table(name = "tb_page_view_hourly", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_page_view_hourly_key",
+                columnNames = {"BUCKET_START", "TARGET_TYPE", "TARGET_ID", "NODE_ID"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Comment("시간별 페이지뷰")
+public class PageViewHourly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PAGE_VIEW_ID")
+    @Comment("집계 ID")
+    private Long id;
+
+    @Column(name = "BUCKET_START", nullable = false)
+    @Comment("시간 버킷 시작 시각")
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TARGET_TYPE", nullable = false, length = 20)
+    @Comment("대상 유형")
+    private PageViewTarget targetType;
+
+    @Column(name = "TARGET_ID", nullable = false, length = 100)
+    @Comment("대상 ID (사이트 전체는 *)")
+    private String targetId;
+
+    @Column(name = "NODE_ID", nullable = false, length = 64)
+    @Comment("집계 노드")
+    private String nodeId;
+
+    @Column(name = "VIEWS", nullable = false)
+    @Comment("조회 수")
+    private Long views;
+
+    @Column(name = "SKETCH", nullable = false, length = 1024)
+    @Comment("고유 방문자 HyperLogLog 레지스터")
+    private byte[] sketch;
+}
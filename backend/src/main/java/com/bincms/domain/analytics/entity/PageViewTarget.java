@@ -0,0 +1,12 @@
+package com.bincms.domain.analytics.entity;
+
+/**
+ * 페이지뷰 집계 대상
+ */
+public enum PageViewTarget {
+    SITE,       // 사이트 전체 (모든 조회 합산, 대상 ID 없음)
+    POST,       // 게시글 상세
+    CONTENT,    // 콘텐츠 페이지
+    INTERIOR,   // 시공사례 상세
+    BOARD       // 게시판 목록
+}
@@ -0,0 +1,32 @@
+package com.bincms.domain.analytics.repository;
+
+import com.bincms.domain.analytics.dto.PageViewTargetCount;
+import com.bincms.domain.analytics.entity.PageViewDaily;
+import com.bincms.domain.analytics.entity.PageViewTarget;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PageViewDailyRepository extends JpaRepository<PageViewDaily, Long> {
+
+    List<PageViewDaily> findByTargetTypeAndStatDateBetweenOrderByStatDateAsc(
+            PageViewTarget targetType, LocalDate from, LocalDate to);
+
+    /**
+     * 기간 내 조회 수 상위 대상 (사이트 전체 제외)
+     */
+    @Query("""
+            SELECT new com.bincms.domain.analytics.dto.PageViewTargetCount(d.targetType, d.targetId, SUM(d.views))
+            FROM PageViewDaily d
+            WHERE d.targetType <> com.bincms.domain.analytics.entity.PageViewTarget.SITE
+              AND d.statDate BETWEEN :from AND :to
+            GROUP BY d.targetType, d.targetId
+            ORDER BY SUM(d.views) DESC
+            """)
+    List<PageViewTargetCount> findTopTargets(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                             Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.bincms.domain.analytics.repository;
+
+import com.bincms.domain.analytics.entity.PageViewHourly;
+import com.bincms.domain.analytics.entity.PageViewTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PageViewHourlyRepository extends JpaRepository<PageViewHourly, Long> {
+
+    List<PageViewHourly> findByTargetTypeAndBucketStartGreaterThanEqual(PageViewTarget targetType,
+                                                                        LocalDateTime from);
+}
@@ -0,0 +1,299 @@
+package com.bincms.domain.analytics.service;
+
+import com.bincms.common.http.LatencyHistogram;
+import com.bincms.common.sketch.HyperLogLog;
+import com.bincms.domain.analytics.entity.PageViewTarget;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 페이지뷰 메모리 집계
+ * - 조회 1건당 현재 시간 버킷의 카운터(LongAdder) 증가 + HyperLogLog 레지스터 CAS 한 번만 수행 (DB 접근 없음)
+ * - 시간 버킷이 끝나면 닫힌 버킷 대기열로 옮기고, 스케줄러가 유예 시간 후 tb_page_view_hourly에 배치 INSERT
+ *   (유예 시간: 버킷 교체 직전에 이전 버킷을 잡은 요청 스레드의 증가분이 반영될 때까지 대기)
+ * - 대상 키 수가 max-keys를 넘으면 새 키는 버리고 사이트 전체(SITE) 집계에만 반영 (메모리 상한)
+ * - 현재 시간 버킷은 메모리에만 있으므로 프로세스가 강제 종료되면 해당 시간의 집계는 유실됨
+ *   (정상 종료 시에는 웹 서버가 멈춘 뒤 남은 버킷을 모두 저장)
+ */
+@Slf4j
+@Component
+public class PageViewCollector implements SmartLifecycle {
+
+    /** HyperLogLog precision (2^10 = 1KB 레지스터, 표준 오차 약 3.25%) */
+    public static final int SKETCH_PRECISION = 10;
+
+    /** 사이트 전체 집계 대상 ID */
+    public static final String SITE_TARGET_ID = "*";
+
+    private static final String INSERT_HOURLY = """
+            INSERT INTO tb_page_view_hourly (BUCKET_START, TARGET_TYPE, TARGET_ID, NODE_ID, VIEWS, SKETCH)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    @Getter
+    private final int maxKeys;
+    private final long flushGraceMillis;
+
+    private volatile Bucket current;
+    /** 버킷 교체 잠금 (요청 처리 스레드가 시간 경계에서 잡음) */
+    private final ReentrantLock rotateLock = new ReentrantLock();
+    private final ConcurrentLinkedQueue<Bucket> closed = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+
+    @Getter
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder droppedKeys = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    public PageViewCollector(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.analytics.max-keys:10000}") int maxKeys,
+                             @Value("${app.analytics.flush-grace:2s}") Duration flushGrace) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxKeys = maxKeys;
+        this.flushGraceMillis = flushGrace.toMillis();
+        this.current = new Bucket(System.currentTimeMillis());
+    }
+
+    /**
+     * 조회 기록
+     *
+     * @param visitorHash 방문자 식별값의 64비트 해시 ({@link HyperLogLog#hash64(String)})
+     */
+    public void record(PageViewTarget target, String targetId, long visitorHash) {
+        long now = System.currentTimeMillis();
+        Bucket bucket = current;
+        if (now >= bucket.endMillis) {
+            bucket = rotate(now);
+        }
+        bucket.site.add(visitorHash);
+        if (target != PageViewTarget.SITE) {
+            Counter counter = bucket.counter(new Key(target, targetId), maxKeys);
+            if (counter != null) {
+                counter.add(visitorHash);
+            } else {
+                droppedKeys.increment();
+            }
+        }
+        recorded.increment();
+    }
+
+    /**
+     * 끝난 시간 버킷 저장 (실패한 버킷은 대기열에 남겨 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        if (now >= current.endMillis) {
+            rotate(now);
+        }
+        flushClosed(now - flushGraceMillis);
+    }
+
+    /**
+     * 아직 저장되지 않은 버킷(현재 버킷 + 저장 대기 버킷)의 오늘 집계 스냅샷
+     */
+    public List<LiveCounter> liveCounters(LocalDateTime since) {
+        List<LiveCounter> counters = new ArrayList<>();
+        List<Bucket> buckets = new ArrayList<>(closed);
+        buckets.add(current);
+        for (Bucket bucket : buckets) {
+            if (bucket.start.isBefore(since)) {
+                continue;
+            }
+            counters.add(new LiveCounter(PageViewTarget.SITE, SITE_TARGET_ID, bucket.site.views.sum(), bucket.site.sketch));
+            bucket.counters.forEach((key, counter) ->
+                    counters.add(new LiveCounter(key.target, key.id, counter.views.sum(), counter.sketch)));
+        }
+        return counters;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        rotateLock.lock();
+        try {
+            closed.add(current);
+            current = new Bucket(System.currentTimeMillis());
+        } finally {
+            rotateLock.unlock();
+        }
+        flushClosed(Long.MAX_VALUE);
+        if (!closed.isEmpty()) {
+            log.error("페이지뷰 집계 {}개 시간 버킷을 저장하지 못하고 종료합니다.", closed.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)가 요청 처리를 멈춘 뒤에 정지하도록 더 낮은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public int getCurrentKeys() {
+        return current.counters.size();
+    }
+
+    public int getPendingBuckets() {
+        return closed.size();
+    }
+
+    /**
+     * 저장 지연 (ms): 저장되지 않은 가장 오래된 닫힌 버킷의 종료 시각부터 현재까지, 없으면 0
+     */
+    public long getFlushLagMillis() {
+        Bucket oldest = closed.peek();
+        return oldest == null ? 0 : Math.max(0, System.currentTimeMillis() - oldest.endMillis);
+    }
+
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    public long getDroppedKeys() {
+        return droppedKeys.sum();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.sum();
+    }
+
+    public long getFlushFailures() {
+        return flushFailures.sum();
+    }
+
+    private Bucket rotate(long now) {
+        rotateLock.lock();
+        try {
+            Bucket bucket = current;
+            if (now >= bucket.endMillis) {
+                closed.add(bucket);
+                bucket = new Bucket(now);
+                current = bucket;
+            }
+            return bucket;
+        } finally {
+            rotateLock.unlock();
+        }
+    }
+
+    private void flushClosed(long closedBefore) {
+        Bucket bucket;
+        while ((bucket = closed.peek()) != null && bucket.endMillis <= closedBefore) {
+            try {
+                write(bucket);
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                log.warn("페이지뷰 집계 저장 실패 ({}), 다음 주기에 재시도: {}", bucket.start, e.getMessage());
+                return;
+            }
+            closed.poll();
+        }
+    }
+
+    private void write(Bucket bucket) {
+        long startedAt = System.nanoTime();
+        Timestamp bucketStart = Timestamp.valueOf(bucket.start);
+        List<Object[]> rows = new ArrayList<>(bucket.counters.size() + 1);
+        if (bucket.site.views.sum() > 0) {
+            rows.add(new Object[]{bucketStart, PageViewTarget.SITE.name(), SITE_TARGET_ID, nodeId,
+                    bucket.site.views.sum(), bucket.site.sketch.toBytes()});
+        }
+        for (Map.Entry<Key, Counter> entry : bucket.counters.entrySet()) {
+            Counter counter = entry.getValue();
+            rows.add(new Object[]{bucketStart, entry.getKey().target.name(), entry.getKey().id, nodeId,
+                    counter.views.sum(), counter.sketch.toBytes()});
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_HOURLY, rows));
+        flushLatency.record(System.nanoTime() - startedAt);
+        flushedRows.add(rows.size());
+        log.debug("페이지뷰 집계 저장: {} {}건", bucket.start, rows.size());
+    }
+
+    /**
+     * 저장 전 집계 스냅샷 (스케치는 공유 객체이므로 읽기 전용으로 사용)
+     */
+    public record LiveCounter(PageViewTarget target, String targetId, long views, HyperLogLog sketch) {
+    }
+
+    private record Key(PageViewTarget target, String id) {
+    }
+
+    private static final class Counter {
+        final LongAdder views = new LongAdder();
+        final HyperLogLog sketch = new HyperLogLog(SKETCH_PRECISION);
+
+        void add(long visitorHash) {
+            views.increment();
+            sketch.addHash(visitorHash);
+        }
+    }
+
+    private static final class Bucket {
+        final LocalDateTime start;
+        final long endMillis;
+        final Counter site = new Counter();
+        final ConcurrentHashMap<Key, Counter> counters = new ConcurrentHashMap<>();
+
+        Bucket(long nowMillis) {
+            this.start = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZONE).truncatedTo(ChronoUnit.HOURS);
+            this.endMillis = start.plusHours(1).atZone(ZONE).toInstant().toEpochMilli();
+        }
+
+        Counter counter(Key key, int maxKeys) {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                return counter;
+            }
+            if (counters.size() >= maxKeys) {
+                return null;
+            }
+            return counters.computeIfAbsent(key, k -> new Counter());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.bincms.domain.analytics.service;
+
+import com.bincms.common.sketch.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 페이지뷰 일별 압축
+ * - 하루치 시간별 행(노드별)을 대상 단위로 합산하여 tb_page_view_daily를 다시 씀 (조회 수 합계 + 스케치 merge)
+ * - 매시 실행하며 최근 2일(늦게 저장된 버킷 반영)과 일별 행이 없는 과거 일자를 다시 계산
+ * - 보존 기간(hourly-retention)이 지난 시간별 행은 삭제
+ */
+@Slf4j
+@Service
+public class PageViewCompactionService {
+
+    private static final String SELECT_HOURLY = """
+            SELECT TARGET_TYPE, TARGET_ID, VIEWS, SKETCH FROM tb_page_view_hourly
+            WHERE BUCKET_START >= ? AND BUCKET_START < ?
+            """;
+
+    private static final String INSERT_DAILY = """
+            INSERT INTO tb_page_view_daily (STAT_DATE, TARGET_TYPE, TARGET_ID, VIEWS, UNIQUE_VISITORS, SKETCH)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int hourlyRetentionDays;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PageViewCompactionService(JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${app.analytics.hourly-retention-days:14}") int hourlyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    /**
+     * 매시 10분 압축 (이전 시간 버킷 저장이 끝난 뒤)
+     */
+    @Scheduled(cron = "${app.analytics.compaction-cron:0 10 * * * *}")
+    public void compactRecent() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            TreeSet<LocalDate> days = new TreeSet<>(findUncompactedDays(today));
+            days.add(today.minusDays(2));
+            days.add(today.minusDays(1));
+            for (LocalDate day : days) {
+                compact(day);
+            }
+            int purged = jdbcTemplate.update("DELETE FROM tb_page_view_hourly WHERE BUCKET_START < ?",
+                    Timestamp.valueOf(today.minusDays(hourlyRetentionDays).atStartOfDay()));
+            if (purged > 0) {
+                log.info("페이지뷰 시간별 집계 {}건 삭제 (보존 {}일)", purged, hourlyRetentionDays);
+            }
+        } catch (RuntimeException e) {
+            log.warn("페이지뷰 일별 압축 실패: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 하루치 일별 집계 재계산
+     *
+     * @return 일별 행 수
+     */
+    public int compact(LocalDate day) {
+        Map<List<String>, Aggregate> aggregates = new HashMap<>();
+        jdbcTemplate.query(SELECT_HOURLY, rs -> {
+            Aggregate aggregate = aggregates.computeIfAbsent(
+                    List.of(rs.getString("TARGET_TYPE"), rs.getString("TARGET_ID")), key -> new Aggregate());
+            aggregate.views += rs.getLong("VIEWS");
+            aggregate.sketch.merge(HyperLogLog.fromBytes(rs.getBytes("SKETCH")));
+        }, Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+
+        List<Object[]> rows = new ArrayList<>(aggregates.size());
+        aggregates.forEach((key, aggregate) -> rows.add(new Object[]{Date.valueOf(day), key.get(0), key.get(1),
+                aggregate.views, aggregate.sketch.estimate(), aggregate.sketch.toBytes()}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM tb_page_view_daily WHERE STAT_DATE = ?", Date.valueOf(day));
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_DAILY, rows);
+            }
+        });
+        log.debug("페이지뷰 일별 압축: {} {}건", day, rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 시간별 행은 있지만 일별 행이 없는 지난 일자 (장애로 압축을 건너뛴 날)
+     */
+    private List<LocalDate> findUncompactedDays(LocalDate today) {
+        List<LocalDate> hourlyDays = jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(BUCKET_START AS DATE) FROM tb_page_view_hourly WHERE BUCKET_START < ?",
+                Date.class, Timestamp.valueOf(today.atStartOfDay()))
+                .stream().map(Date::toLocalDate).toList();
+        if (hourlyDays.isEmpty()) {
+            return hourlyDays;
+        }
+        List<LocalDate> dailyDays = jdbcTemplate.queryForList(
+                "SELECT DISTINCT STAT_DATE FROM tb_page_view_daily WHERE STAT_DATE >= ?",
+                Date.class, Date.valueOf(today.minusDays(hourlyRetentionDays + 1L)))
+                .stream().map(Date::toLocalDate).toList();
+        return hourlyDays.stream().filter(day -> !dailyDays.contains(day)).toList();
+    }
+
+    private static final class Aggregate {
+        long views;
+        final HyperLogLog sketch = new HyperLogLog(PageViewCollector.SKETCH_PRECISION);
+    }
+}
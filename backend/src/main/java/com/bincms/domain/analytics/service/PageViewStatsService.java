@@ -0,0 +1,93 @@
+package com.bincms.domain.analytics.service;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.sketch.HyperLogLog;
+import com.bincms.domain.analytics.dto.PageViewDailyCount;
+import com.bincms.domain.analytics.dto.PageViewDashboardResponse;
+import com.bincms.domain.analytics.entity.PageViewDaily;
+import com.bincms.domain.analytics.entity.PageViewHourly;
+import com.bincms.domain.analytics.entity.PageViewTarget;
+import com.bincms.domain.analytics.repository.PageViewDailyRepository;
+import com.bincms.domain.analytics.repository.PageViewHourlyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 페이지뷰 대시보드 서비스
+ * - 지난 일자는 일별 집계(tb_page_view_daily), 오늘은 시간별 집계 + 저장 전 메모리 버킷으로 계산 (원본 이벤트 없음)
+ * - 기간 고유 방문자 수는 일자별 HyperLogLog 스케치를 합쳐서 추정 (일자별 값의 합이 아님)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PageViewStatsService {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+    private static final int TOP_TARGETS = 20;
+
+    private final PageViewDailyRepository pageViewDailyRepository;
+    private final PageViewHourlyRepository pageViewHourlyRepository;
+    private final PageViewCollector pageViewCollector;
+
+    /**
+     * 대시보드 집계 조회 (기본: 최근 30일)
+     */
+    public PageViewDashboardResponse getDashboard(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate end = to != null ? to : today;
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 시작일부터 " + MAX_DAYS + "일 이내여야 합니다.");
+        }
+
+        HyperLogLog visitors = new HyperLogLog(PageViewCollector.SKETCH_PRECISION);
+        List<PageViewDailyCount> daily = new ArrayList<>();
+        long views = 0;
+        for (PageViewDaily row : pageViewDailyRepository.findByTargetTypeAndStatDateBetweenOrderByStatDateAsc(
+                PageViewTarget.SITE, start, end.isBefore(today) ? end : today.minusDays(1))) {
+            daily.add(new PageViewDailyCount(row.getStatDate(), row.getViews(), row.getUniqueVisitors()));
+            visitors.merge(HyperLogLog.fromBytes(row.getSketch()));
+            views += row.getViews();
+        }
+
+        if (!end.isBefore(today) && !start.isAfter(today)) {
+            HyperLogLog todayVisitors = new HyperLogLog(PageViewCollector.SKETCH_PRECISION);
+            long todayViews = 0;
+            for (PageViewHourly row : pageViewHourlyRepository.findByTargetTypeAndBucketStartGreaterThanEqual(
+                    PageViewTarget.SITE, today.atStartOfDay())) {
+                todayVisitors.merge(HyperLogLog.fromBytes(row.getSketch()));
+                todayViews += row.getViews();
+            }
+            for (PageViewCollector.LiveCounter counter : pageViewCollector.liveCounters(today.atStartOfDay())) {
+                if (counter.target() == PageViewTarget.SITE) {
+                    todayVisitors.merge(counter.sketch());
+                    todayViews += counter.views();
+                }
+            }
+            if (todayViews > 0) {
+                daily.add(new PageViewDailyCount(today, todayViews, todayVisitors.estimate()));
+                visitors.merge(todayVisitors);
+                views += todayViews;
+            }
+        }
+
+        return PageViewDashboardResponse.builder()
+                .from(start)
+                .to(end)
+                .views(views)
+                .uniqueVisitors(visitors.estimate())
+                .daily(daily)
+                .topTargets(pageViewDailyRepository.findTopTargets(start, end, PageRequest.of(0, TOP_TARGETS)))
+                .build();
+    }
+}
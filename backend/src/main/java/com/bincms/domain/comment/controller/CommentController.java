@@ -1,6 +1,8 @@
 package com.bincms.domain.comment.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.dto.BulkActionResponse;
+import com.bincms.domain.comment.dto.CommentBulkDeleteRequest;
 import com.bincms.domain.comment.dto.CommentResponse;
 import com.bincms.domain.comment.service.CommentService;
 import lombok.RequiredArgsConstructor;
@@ -37,4 +39,13 @@ public class CommentController {
         commentService.deleteCommentByAdmin(id);
         return ResponseEntity.ok(ApiResponse.success());
     }
+
+    /**
+     * 관리자 댓글 일괄 삭제 (ID 목록 또는 필터, 항목별 처리 결과 반환)
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ApiResponse<BulkActionResponse>> deleteComments(
+            @RequestBody CommentBulkDeleteRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(commentService.deleteCommentsByAdmin(request)));
+    }
 }
@@ -1,11 +1,13 @@
 package com.bincms.domain.comment.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.web.ClientIpResolver;
 import com.bincms.domain.comment.dto.CommentCreateRequest;
 import com.bincms.domain.comment.dto.CommentDeleteRequest;
 import com.bincms.domain.comment.dto.CommentResponse;
 import com.bincms.domain.comment.dto.CommentUpdateRequest;
 import com.bincms.domain.comment.service.CommentService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +24,7 @@ import java.util.List;
 public class PublicCommentController {
 
     private final CommentService commentService;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 게시글의 댓글 목록 조회
@@ -58,8 +61,9 @@ public class PublicCommentController {
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<CommentResponse>> updateComment(
             @PathVariable Long id,
-            @Valid @RequestBody CommentUpdateRequest request) {
-        CommentResponse response = commentService.updateComment(id, request);
+            @Valid @RequestBody CommentUpdateRequest request,
+            HttpServletRequest httpRequest) {
+        CommentResponse response = commentService.updateComment(id, request, clientIpResolver.resolve(httpRequest));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -69,8 +73,9 @@ public class PublicCommentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable Long id,
-            @Valid @RequestBody CommentDeleteRequest request) {
-        commentService.deleteComment(id, request);
+            @Valid @RequestBody CommentDeleteRequest request,
+            HttpServletRequest httpRequest) {
+        commentService.deleteComment(id, request, clientIpResolver.resolve(httpRequest));
         return ResponseEntity.ok(ApiResponse.success());
     }
 }
@@ -0,0 +1,38 @@
+package com.bincms.domain.comment.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 일괄 삭제 요청 DTO
+ * - ids가 있으면 ID 목록으로, 없으면 필터(지정한 조건만 적용, 최소 1개)로 대상 지정
+ */
+@Getter
+@NoArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    private List<Long> ids;
+
+    private Long postId;
+
+    private String authorName;
+
+    /** 내용 키워드 */
+    private String keyword;
+
+    private LocalDateTime regDtFrom;
+
+    private LocalDateTime regDtTo;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return postId != null || (authorName != null && !authorName.isBlank())
+                || (keyword != null && !keyword.isBlank()) || regDtFrom != null || regDtTo != null;
+    }
+}
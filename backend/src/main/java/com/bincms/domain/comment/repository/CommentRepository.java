@@ -1,10 +1,13 @@
 package com.bincms.domain.comment.repository;
 
 import com.bincms.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,4 +32,39 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.useYn = 'Y'")
     long countByPostId(@Param("postId") Long postId);
+
+    // ==================== 관리자 일괄 처리 ====================
+
+    @Query("SELECT c.id FROM Comment c WHERE c.id IN :ids AND c.useYn = 'Y'")
+    List<Long> findActiveIdsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 일괄 삭제 대상 조회 (게시글, 작성자명, 내용 키워드, 등록일시 범위 - 지정한 조건만 적용)
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.useYn = 'Y' " +
+           "AND (:postId IS NULL OR c.post.id = :postId) " +
+           "AND (:authorName IS NULL OR :authorName = '' OR c.authorName = :authorName) " +
+           "AND (:keyword IS NULL OR :keyword = '' OR c.content LIKE %:keyword%) " +
+           "AND (:regDtFrom IS NULL OR c.regDt >= :regDtFrom) " +
+           "AND (:regDtTo IS NULL OR c.regDt < :regDtTo) " +
+           "ORDER BY c.id")
+    List<Long> findActiveIdsByFilter(@Param("postId") Long postId,
+                                     @Param("authorName") String authorName,
+                                     @Param("keyword") String keyword,
+                                     @Param("regDtFrom") LocalDateTime regDtFrom,
+                                     @Param("regDtTo") LocalDateTime regDtTo,
+                                     Pageable pageable);
+
+    /**
+     * 일괄 삭제 (비활성화, 엔티티 로딩 없이 단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.useYn = 'N', c.modDt = :modDt, c.modNo = :modNo " +
+           "WHERE c.id IN :ids AND c.useYn = 'Y'")
+    int deactivateAllByIdIn(@Param("ids") List<Long> ids,
+                            @Param("modDt") LocalDateTime modDt,
+                            @Param("modNo") String modNo);
 }
@@ -1,7 +1,12 @@
 package com.bincms.domain.comment.service;
 
+import com.bincms.common.db.BulkUpdateExecutor;
+import com.bincms.common.dto.BulkActionResponse;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.ratelimit.RateLimiter;
+import com.bincms.common.security.PasswordHashingService;
+import com.bincms.domain.comment.dto.CommentBulkDeleteRequest;
 import com.bincms.domain.comment.dto.CommentCreateRequest;
 import com.bincms.domain.comment.dto.CommentDeleteRequest;
 import com.bincms.domain.comment.dto.CommentResponse;
@@ -10,12 +15,16 @@ import com.bincms.domain.comment.entity.Comment;
 import com.bincms.domain.comment.repository.CommentRepository;
 import com.bincms.domain.post.entity.Post;
 import com.bincms.domain.post.repository.PostRepository;
+import com.bincms.domain.trending.entity.TrendingItemType;
+import com.bincms.domain.trending.service.TrendingService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,7 +37,10 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final RateLimiter commentPasswordRateLimiter;
+    private final TrendingService trendingService;
+    private final BulkUpdateExecutor bulkUpdateExecutor;
 
     /**
      * 댓글 생성
@@ -48,11 +60,15 @@ public class CommentService {
                 .post(post)
                 .parent(parent)
                 .authorName(request.getAuthorName())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .content(request.getContent())
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        if ("Y".equals(post.getUseYn())) {
+            trendingService.recordComment(TrendingService.boardScope(post.getBoard().getBoardCode()),
+                    TrendingItemType.POST, post.getId(), post.getTitle());
+        }
         return CommentResponse.from(savedComment);
     }
 
@@ -61,10 +77,16 @@ public class CommentService {
      */
     public List<CommentResponse> getCommentsByPostId(Long postId) {
         List<Comment> rootComments = commentRepository.findRootCommentsByPostId(postId);
+        return toTree(rootComments, commentRepository::findRepliesByParentId);
+    }
 
+    /**
+     * 루트 댓글 + 대댓글 → 응답 트리
+     */
+    static List<CommentResponse> toTree(List<Comment> rootComments, Function<Long, List<Comment>> repliesByParentId) {
         return rootComments.stream()
                 .map(root -> {
-                    List<CommentResponse> replies = commentRepository.findRepliesByParentId(root.getId())
+                    List<CommentResponse> replies = repliesByParentId.apply(root.getId())
                             .stream()
                             .map(CommentResponse::from)
                             .collect(Collectors.toList());
@@ -84,11 +106,13 @@ public class CommentService {
      * 댓글 수정
      */
     @Transactional
-    public CommentResponse updateComment(Long id, CommentUpdateRequest request) {
+    public CommentResponse updateComment(Long id, CommentUpdateRequest request, String clientIp) {
+        commentPasswordRateLimiter.check(passwordAttemptKey(clientIp, id));
+
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "댓글을 찾을 수 없습니다"));
 
-        if (!passwordEncoder.matches(request.getPassword(), comment.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), comment.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD, "비밀번호가 일치하지 않습니다");
         }
 
@@ -100,11 +124,13 @@ public class CommentService {
      * 댓글 삭제 (비활성화)
      */
     @Transactional
-    public void deleteComment(Long id, CommentDeleteRequest request) {
+    public void deleteComment(Long id, CommentDeleteRequest request, String clientIp) {
+        commentPasswordRateLimiter.check(passwordAttemptKey(clientIp, id));
+
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "댓글을 찾을 수 없습니다"));
 
-        if (!passwordEncoder.matches(request.getPassword(), comment.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), comment.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD, "비밀번호가 일치하지 않습니다");
         }
 
@@ -120,4 +146,38 @@ public class CommentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "댓글을 찾을 수 없습니다"));
         comment.deactivate();
     }
+
+    /**
+     * 관리자 댓글 일괄 삭제 (스팸 정리)
+     * - ID 목록 또는 필터로 대상 지정, 청크 단위 집합 UPDATE (BulkUpdateExecutor)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkActionResponse deleteCommentsByAdmin(CommentBulkDeleteRequest request) {
+        List<Long> ids = request.hasIds() ? request.getIds() : findCommentIdsByFilter(request);
+        return bulkUpdateExecutor.execute(ids, new BulkUpdateExecutor.BulkUpdate(
+                commentRepository::findActiveIdsByIdIn,
+                commentRepository::findIdsByIdIn,
+                commentRepository::deactivateAllByIdIn));
+    }
+
+    private List<Long> findCommentIdsByFilter(CommentBulkDeleteRequest request) {
+        if (!request.hasFilter()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "삭제할 댓글 ID 또는 조건을 지정해주세요");
+        }
+        return commentRepository.findActiveIdsByFilter(
+                request.getPostId(),
+                request.getAuthorName(),
+                request.getKeyword(),
+                request.getRegDtFrom(),
+                request.getRegDtTo(),
+                PageRequest.of(0, bulkUpdateExecutor.filterLimit()));
+    }
+
+    /**
+     * 댓글 비밀번호 시도 제한 키 (요청 IP + 댓글 ID)
+     * - 댓글 ID만 쓰면 다른 사람이 틀린 비밀번호를 반복해 작성자의 수정/삭제까지 막을 수 있음
+     */
+    private static String passwordAttemptKey(String clientIp, Long commentId) {
+        return clientIp + ":" + commentId;
+    }
 }
@@ -2,16 +2,23 @@ package com.bincms.domain.content.controller;
 
 import com.bincms.common.dto.ApiResponse;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.web.HttpCaching;
+import com.bincms.common.web.SerializedResponseCache;
 import com.bincms.domain.content.dto.ContentResponse;
 import com.bincms.domain.content.service.ContentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
 
 /**
  * 컨텐츠 공개 API (사용자용)
+ * - ETag(MOD_DT 기반) 조건부 GET 지원
  */
 @RestController
 @RequestMapping("/api/v1/contents")
@@ -19,31 +26,64 @@ import org.springframework.web.bind.annotation.*;
 public class ContentController {
 
     private final ContentService contentService;
+    private final SerializedResponseCache serializedResponseCache;
 
     /**
      * 활성 컨텐츠 목록 조회
      */
     @GetMapping
-    public ApiResponse<PageResponse<ContentResponse>> getActiveContents(
-            @PageableDefault(size = 20, sort = "sortOrder", direction = Sort.Direction.ASC) Pageable pageable) {
-        return ApiResponse.success(contentService.getActiveContents(pageable));
+    public ResponseEntity<ApiResponse<PageResponse<ContentResponse>>> getActiveContents(
+            @PageableDefault(size = 20, sort = "sortOrder", direction = Sort.Direction.ASC) Pageable pageable,
+            ServletWebRequest webRequest) {
+        String eTag = HttpCaching.eTag("contents", contentService.getContentsVersion(null));
+        if (HttpCaching.checkNotModified(webRequest, eTag, HttpCaching.REVALIDATE)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.REVALIDATE)
+                .body(ApiResponse.success(contentService.getActiveContents(pageable)));
     }
 
     /**
      * 카테고리별 컨텐츠 조회
      */
     @GetMapping("/category/{category}")
-    public ApiResponse<PageResponse<ContentResponse>> getContentsByCategory(
+    public ResponseEntity<ApiResponse<PageResponse<ContentResponse>>> getContentsByCategory(
             @PathVariable String category,
-            @PageableDefault(size = 20, sort = "sortOrder", direction = Sort.Direction.ASC) Pageable pageable) {
-        return ApiResponse.success(contentService.getContentsByCategory(category, pageable));
+            @PageableDefault(size = 20, sort = "sortOrder", direction = Sort.Direction.ASC) Pageable pageable,
+            ServletWebRequest webRequest) {
+        String eTag = HttpCaching.eTag("contents", contentService.getContentsVersion(category));
+        if (HttpCaching.checkNotModified(webRequest, eTag, HttpCaching.REVALIDATE)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.REVALIDATE)
+                .body(ApiResponse.success(contentService.getContentsByCategory(category, pageable)));
     }
 
     /**
      * 컨텐츠 키로 조회 (프론트엔드 표시용)
+     * - 조회수가 요청마다 바뀌므로 조건부 GET(304) 없이 항상 현재 조회수로 응답
+     * - 버전(MOD_DT)이 같으면 캐시된 직렬화(gzip) 본문에 현재 조회수만 넣어 응답
      */
     @GetMapping("/key/{contentKey}")
-    public ApiResponse<ContentResponse> getContentByKey(@PathVariable String contentKey) {
-        return ApiResponse.success(contentService.getContentByKey(contentKey));
+    public ResponseEntity<byte[]> getContentByKey(@PathVariable String contentKey,
+                                                  ServletWebRequest webRequest) {
+        LocalDateTime version = contentService.getContentVersion(contentKey);
+        if (version != null) {
+            String eTag = HttpCaching.eTag("content", version);
+            ResponseEntity<byte[]> cached = serializedResponseCache.cached(webRequest, "content:" + contentKey, eTag,
+                    HttpCaching.REVALIDATE, () -> contentService.increaseViewCount(contentKey));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ContentResponse content = contentService.getContentByKey(contentKey);
+        return serializedResponseCache.serialize(webRequest, "content:" + contentKey,
+                HttpCaching.eTag("content", content.getModDt()), HttpCaching.REVALIDATE, content.getViewCount(),
+                viewCount -> ApiResponse.success(content.toBuilder().viewCount(viewCount).build()));
     }
 }
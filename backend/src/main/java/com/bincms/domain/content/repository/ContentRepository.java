@@ -1,13 +1,17 @@
 package com.bincms.domain.content.repository;
 
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.domain.content.entity.Content;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -29,4 +33,20 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     Page<Content> searchByKeyword(@Param("useYn") String useYn,
                                    @Param("keyword") String keyword,
                                    Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Content c SET c.viewCount = c.viewCount + :delta WHERE c.contentKey = :contentKey")
+    int addViewCountByContentKey(@Param("contentKey") String contentKey, @Param("delta") long delta);
+
+    @Query("SELECT c.modDt FROM Content c WHERE c.contentKey = :contentKey")
+    Optional<LocalDateTime> findModDtByContentKey(@Param("contentKey") String contentKey);
+
+    @Query("SELECT new com.bincms.common.dto.VersionStamp(MAX(c.modDt), COUNT(c), SUM(c.id), SUM(c.viewCount)) " +
+           "FROM Content c")
+    VersionStamp findVersionStamp();
+
+    @Query("SELECT new com.bincms.common.dto.VersionStamp(MAX(c.modDt), COUNT(c), SUM(c.id), SUM(c.viewCount)) " +
+           "FROM Content c WHERE c.category = :category")
+    VersionStamp findVersionStampByCategory(@Param("category") String category);
 }
@@ -1,6 +1,9 @@
 package com.bincms.domain.content.service;
 
+import com.bincms.common.cache.LocalCache;
+import com.bincms.common.cache.ViewCountBuffer;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
 import com.bincms.domain.content.dto.ContentCreateRequest;
@@ -11,7 +14,11 @@ import com.bincms.domain.content.repository.ContentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +26,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class ContentService {
 
     private final ContentRepository contentRepository;
+    private final LocalCache<String, ContentResponse> contentByKeyCache;
+    private final ViewCountBuffer<String> contentViewCounts;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     /**
      * 컨텐츠 생성
@@ -92,14 +102,62 @@ public class ContentService {
 
     /**
      * 컨텐츠 단건 조회 (컨텐츠 키) - 프론트엔드 표시용
+     * - 응답은 contentByKeyCache에서 공유 (동시 캐시 미스는 한 번의 DB 로딩으로 병합)
+     * - 조회수는 요청마다 contentViewCounts에 기록, 캐시된 응답에는 기록 후 현재 조회수를 덮어씀
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ContentResponse getContentByKey(String contentKey) {
-        Content content = contentRepository.findByContentKey(contentKey)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONTENT_NOT_FOUND,
-                        "컨텐츠를 찾을 수 없습니다: " + contentKey));
-        content.increaseViewCount();
-        return ContentResponse.from(content);
+        ContentResponse response = getCachedContent(contentKey);
+        Long viewCount = contentViewCounts.increment(contentKey);
+        return viewCount != null ? response.toBuilder().viewCount(viewCount).build() : response;
+    }
+
+    /**
+     * 컨텐츠 버전 (ETag 검증용) - 캐시 우선, 없으면 MOD_DT만 조회. 없는 키면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LocalDateTime getContentVersion(String contentKey) {
+        ContentResponse cached = contentByKeyCache.peek(contentKey);
+        if (cached != null) {
+            return cached.getModDt();
+        }
+        return contentRepository.findModDtByContentKey(contentKey).orElse(null);
+    }
+
+    /**
+     * 컨텐츠 목록 버전 (ETag 검증용, category가 null이면 전체)
+     */
+    public VersionStamp getContentsVersion(String category) {
+        return category == null
+                ? contentRepository.findVersionStamp()
+                : contentRepository.findVersionStampByCategory(category);
+    }
+
+    /**
+     * 조회수만 증가 (캐시된 직렬화 본문 응답 시), 현재 조회수 반환
+     * - 기준값이 없으면(캐시가 만료된 뒤) 컨텐츠를 다시 로딩해 기준값을 맞춤
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long increaseViewCount(String contentKey) {
+        Long viewCount = contentViewCounts.increment(contentKey);
+        if (viewCount == null) {
+            getCachedContent(contentKey);
+            return contentViewCounts.current(contentKey);
+        }
+        return viewCount;
+    }
+
+    /**
+     * 컨텐츠 응답 (contentByKeyCache), 로딩 시 contentViewCounts 기준값 설정
+     */
+    private ContentResponse getCachedContent(String contentKey) {
+        return contentByKeyCache.get(contentKey, () -> readOnlyTransactionTemplate.execute(status -> {
+            Content content = contentRepository.findByContentKey(contentKey)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CONTENT_NOT_FOUND,
+                            "컨텐츠를 찾을 수 없습니다: " + contentKey));
+            contentViewCounts.seed(contentKey, content.getViewCount());
+            return ContentResponse.from(content);
+        }));
     }
 
     /**
@@ -117,6 +175,7 @@ public class ContentService {
                 request.getDescription(),
                 request.getSortOrder()
         );
+        contentByKeyCache.evict(content.getContentKey());
 
         return ContentResponse.from(content);
     }
@@ -129,6 +188,7 @@ public class ContentService {
         Content content = contentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CONTENT_NOT_FOUND));
         content.deactivate();
+        contentByKeyCache.evict(content.getContentKey());
     }
 
     /**
@@ -139,6 +199,7 @@ public class ContentService {
         Content content = contentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CONTENT_NOT_FOUND));
         content.activate();
+        contentByKeyCache.evict(content.getContentKey());
         return ContentResponse.from(content);
     }
 
@@ -150,6 +211,7 @@ public class ContentService {
         Content content = contentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CONTENT_NOT_FOUND));
         content.deactivate();
+        contentByKeyCache.evict(content.getContentKey());
         return ContentResponse.from(content);
     }
 }
@@ -0,0 +1,76 @@
+package com.bincms.domain.dataimport.controller;
+
+import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.domain.dataimport.dto.ImportJobResponse;
+import com.bincms.domain.dataimport.entity.ImportFormat;
+import com.bincms.domain.dataimport.entity.ImportType;
+import com.bincms.domain.dataimport.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 일괄 가져오기 API (관리자)
+ * - 파일은 multipart가 아닌 요청 본문 그대로 전송 (업로드 크기 제한은 app.import.max-file-size)
+ *   예) curl -X POST -H "Content-Type: text/csv" --data-binary @posts.csv \
+ *           "/api/v1/admin/imports/posts?format=csv&fileName=posts.csv"
+ */
+@RestController
+@RequestMapping("/api/v1/admin/imports")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    /**
+     * 가져오기 작업 등록 (posts, contents, members / csv, json) - 처리는 비동기
+     */
+    @PostMapping("/{type}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<ImportJobResponse> upload(
+            @PathVariable String type,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String fileName,
+            InputStream body) {
+        return ApiResponse.success(importJobService.upload(
+                parse(ImportType.class, type), parse(ImportFormat.class, format), fileName, body));
+    }
+
+    /**
+     * 실패/중단된 작업 재개 (마지막 체크포인트부터)
+     */
+    @PostMapping("/{id}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<ImportJobResponse> resume(@PathVariable Long id) {
+        return ApiResponse.success(importJobService.resume(id));
+    }
+
+    /**
+     * 최근 가져오기 작업 목록 (50건)
+     */
+    @GetMapping
+    public ApiResponse<List<ImportJobResponse>> getJobs() {
+        return ApiResponse.success(importJobService.getRecentJobs());
+    }
+
+    /**
+     * 가져오기 작업 진행 현황
+     */
+    @GetMapping("/{id}")
+    public ApiResponse<ImportJobResponse> getJob(@PathVariable Long id) {
+        return ApiResponse.success(importJobService.getJob(id));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> enumType, String value) {
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 값입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bincms.domain.dataimport.dto;
+
+import com.bincms.domain.dataimport.entity.ImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ImportJobResponse {
+
+    private Long id;
+    private String type;
+    private String format;
+    private String fileName;
+    private Long fileSize;
+    private String status;
+    private Long processedRows;
+    private Long insertedRows;
+    private Long skippedRows;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime regDt;
+    private LocalDateTime modDt;
+
+    public static ImportJobResponse from(ImportJob job) {
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType().name())
+                .format(job.getFormat().name())
+                .fileName(job.getFileName())
+                .fileSize(job.getFileSize())
+                .status(job.getStatus().name())
+                .processedRows(job.getProcessedRows())
+                .insertedRows(job.getInsertedRows())
+                .skippedRows(job.getSkippedRows())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .regDt(job.getRegDt())
+                .modDt(job.getModDt())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.bincms.domain.dataimport.entity;
+
+/**
+ * 가져오기 파일 형식
+ */
+public enum ImportFormat {
+    CSV,   // 첫 행 머리글, UTF-8 (BOM 허용)
+    JSON   // 객체 배열 또는 줄 단위 객체 (JSON Lines)
+}
@@ -0,0 +1,100 @@
+package com.bincms.domain.dataimport.entity;
+
+import com.bincms.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 가져오기 작업 엔티티
+ * - 업로드 파일은 작업 디렉터리(app.import.work-dir)에 보관하고, 청크를 저장할 때마다 같은 트랜잭션에서
+ *   PROCESSED_ROWS(체크포인트)를 갱신 → 실패/재기동 후 재개하면 커밋된 행을 건너뛰고 이어서 처리
+ * - REG_NO(작업 등록자)가 가져온 행의 등록자로 쓰임 (행마다 감사자 조회 없음)
+ */
+@Entity
+@Table(name = "TB_IMPORT_JOBS", indexes = {
+        @Index(name = "idx_import_jobs_status", columnList = "STATUS")
+})
+@Comment("일괄 가져오기 작업")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("작업 ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "IMPORT_TYPE", nullable = false, length = 20)
+    @Comment("대상 (POSTS, CONTENTS, MEMBERS)")
+    private ImportType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "FORMAT", nullable = false, length = 10)
+    @Comment("파일 형식 (CSV, JSON)")
+    private ImportFormat format;
+
+    @Column(name = "FILE_NAME", nullable = false, length = 255)
+    @Comment("원본 파일명")
+    private String fileName;
+
+    @Column(name = "FILE_PATH", nullable = false, length = 500)
+    @Comment("작업 파일 경로")
+    private String filePath;
+
+    @Column(name = "FILE_SIZE", nullable = false)
+    @Comment("파일 크기 (byte)")
+    private Long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 20)
+    @Comment("상태 (PENDING, RUNNING, COMPLETED, FAILED)")
+    private ImportJobStatus status;
+
+    @Column(name = "PROCESSED_ROWS", nullable = false)
+    @Comment("처리한 행 수 (체크포인트, 재개 시 이만큼 건너뜀)")
+    private Long processedRows;
+
+    @Column(name = "INSERTED_ROWS", nullable = false)
+    @Comment("저장한 행 수")
+    private Long insertedRows;
+
+    @Column(name = "SKIPPED_ROWS", nullable = false)
+    @Comment("건너뛴 행 수 (중복, 필수값 누락)")
+    private Long skippedRows;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    @Comment("마지막 오류 / 건너뛴 사유")
+    private String lastError;
+
+    @Column(name = "CLAIM_TOKEN", length = 36)
+    @Comment("실행 임대 토큰 (재개 시 새로 발급, 체크포인트/종료 처리는 이 토큰을 가진 실행만 가능)")
+    private String claimToken;
+
+    @Column(name = "STARTED_AT")
+    @Comment("시작 시각 (재개 시 갱신)")
+    private LocalDateTime startedAt;
+
+    @Column(name = "FINISHED_AT")
+    @Comment("종료 시각")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public ImportJob(ImportType type, ImportFormat format, String fileName, String filePath, Long fileSize) {
+        this.type = type;
+        this.format = format;
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.status = ImportJobStatus.PENDING;
+        this.processedRows = 0L;
+        this.insertedRows = 0L;
+        this.skippedRows = 0L;
+    }
+}
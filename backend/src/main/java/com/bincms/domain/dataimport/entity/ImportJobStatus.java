@@ -0,0 +1,11 @@
+package com.bincms.domain.dataimport.entity;
+
+/**
+ * 가져오기 작업 상태
+ */
+public enum ImportJobStatus {
+    PENDING,    // 실행 대기
+    RUNNING,    // 실행 중 (청크마다 체크포인트 갱신)
+    COMPLETED,  // 완료 (작업 파일 삭제)
+    FAILED      // 실패 (작업 파일 보관, 마지막 체크포인트부터 재개 가능)
+}
@@ -0,0 +1,10 @@
+package com.bincms.domain.dataimport.entity;
+
+/**
+ * 일괄 가져오기 대상
+ */
+public enum ImportType {
+    POSTS,     // 게시글
+    CONTENTS,  // 컨텐츠
+    MEMBERS    // 사용자 회원 (USER 역할)
+}
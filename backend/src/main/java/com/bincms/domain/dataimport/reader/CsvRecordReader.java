@@ -0,0 +1,127 @@
+package com.bincms.domain.dataimport.reader;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 리더 (RFC 4180)
+ * - 첫 행은 머리글 (필드명), 따옴표로 감싼 값 안의 쉼표/줄바꿈/두 번 쓴 따옴표 처리
+ * - UTF-8 BOM, 빈 줄 무시
+ */
+class CsvRecordReader implements ImportRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final List<String> headers;
+    private final StringBuilder field = new StringBuilder();
+    private int pushback = -2;
+
+    CsvRecordReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        int first = reader.read();
+        if (first != '\uFEFF') {
+            pushback = first;
+        }
+        List<String> header = readRow();
+        if (header == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 머리글이 없습니다.");
+        }
+        this.headers = header.stream().map(String::trim).toList();
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        List<String> values = readRow();
+        if (values == null) {
+            return null;
+        }
+        Map<String, String> record = new HashMap<>(headers.size() * 2);
+        for (int i = 0; i < headers.size() && i < values.size(); i++) {
+            String value = values.get(i);
+            record.put(headers.get(i), value.isEmpty() ? null : value);
+        }
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 한 행 읽기 (빈 줄은 건너뜀, 끝이면 null)
+     */
+    private List<String> readRow() throws IOException {
+        List<String> values = new ArrayList<>();
+        boolean quoted = false;
+        boolean any = false;
+        field.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (!any) {
+                    return null;
+                }
+                values.add(field.toString());
+                return values;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushback = next;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushback = next;
+                    }
+                }
+                if (!any) {
+                    continue;
+                }
+                values.add(field.toString());
+                return values;
+            }
+            any = true;
+            if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,28 @@
+package com.bincms.domain.dataimport.reader;
+
+import com.bincms.domain.dataimport.entity.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 가져오기 파일을 한 행(객체)씩 읽는 순차 리더
+ * - 파일 전체를 메모리에 올리지 않고, 호출할 때마다 다음 행만 파싱
+ * - 값은 모두 문자열 (빈 문자열은 null), 형 변환은 ImportTarget에서 처리
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * 다음 행 (필드명 → 값), 끝이면 null
+     */
+    Map<String, String> next() throws IOException;
+
+    static ImportRecordReader open(ImportFormat format, InputStream in) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRecordReader(in);
+            case JSON -> new JsonRecordReader(in);
+        };
+    }
+}
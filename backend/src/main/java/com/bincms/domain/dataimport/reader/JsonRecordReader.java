@@ -0,0 +1,64 @@
+package com.bincms.domain.dataimport.reader;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON 리더 (Jackson 스트리밍 파서)
+ * - 최상위 객체 배열([{...}, {...}]) 또는 줄 단위 객체(JSON Lines) 모두 허용
+ * - 객체의 스칼라 필드만 읽고, 중첩 객체/배열 필드는 건너뜀
+ */
+class JsonRecordReader implements ImportRecordReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    JsonRecordReader(InputStream in) throws IOException {
+        this.parser = JSON_FACTORY.createParser(in);
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_OBJECT) {
+            // JSON Lines: 첫 객체를 다음 호출에서 읽도록 현재 위치 유지
+            return;
+        }
+        if (first != JsonToken.START_ARRAY && first != null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "JSON은 객체 배열 또는 줄 단위 객체여야 합니다.");
+        }
+        parser.nextToken();
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        Map<String, String> record = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+            } else if (value != JsonToken.VALUE_NULL) {
+                String text = parser.getText();
+                record.put(name, text.isEmpty() ? null : text);
+            }
+        }
+        // 다음 객체(또는 배열 끝/입력 끝)로 이동
+        parser.nextToken();
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
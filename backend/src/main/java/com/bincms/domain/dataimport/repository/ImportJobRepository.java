@@ -0,0 +1,56 @@
+package com.bincms.domain.dataimport.repository;
+
+import com.bincms.domain.dataimport.entity.ImportJob;
+import com.bincms.domain.dataimport.entity.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 가져오기 작업 Repository
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    List<ImportJob> findTop50ByOrderByIdDesc();
+
+    /**
+     * 실행 임대 획득 (대기/실패 작업, 또는 체크포인트가 staleBefore 이전에 멈춘 실행 중 작업)
+     * - 다른 노드가 먼저 가져간 경우 0건
+     * - 새 임대 토큰을 기록 → 이전 실행이 아직 살아 있어도 이후 체크포인트/종료 처리는 0건이 됨
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = com.bincms.domain.dataimport.entity.ImportJobStatus.RUNNING, " +
+           "j.claimToken = :token, j.startedAt = :now, j.finishedAt = NULL, j.lastError = NULL, j.modDt = :now " +
+           "WHERE j.id = :id AND (j.status IN (com.bincms.domain.dataimport.entity.ImportJobStatus.PENDING, " +
+           "com.bincms.domain.dataimport.entity.ImportJobStatus.FAILED) " +
+           "OR (j.status = com.bincms.domain.dataimport.entity.ImportJobStatus.RUNNING AND j.modDt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 체크포인트 갱신 (청크 저장과 같은 트랜잭션, 임대 토큰이 그대로일 때만 - 0건이면 청크를 롤백)
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.processedRows = :processed, j.insertedRows = :inserted, " +
+           "j.skippedRows = :skipped, j.lastError = :lastError, j.modDt = :now " +
+           "WHERE j.id = :id AND j.claimToken = :token")
+    int checkpoint(@Param("id") Long id, @Param("token") String token,
+                   @Param("processed") long processed, @Param("inserted") long inserted,
+                   @Param("skipped") long skipped, @Param("lastError") String lastError,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 종료 처리 (완료/실패, 임대 토큰이 그대로일 때만)
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.lastError = COALESCE(:lastError, j.lastError), " +
+           "j.claimToken = NULL, j.finishedAt = :now, j.modDt = :now WHERE j.id = :id AND j.claimToken = :token")
+    int finish(@Param("id") Long id, @Param("token") String token, @Param("status") ImportJobStatus status,
+               @Param("lastError") String lastError, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,326 @@
+package com.bincms.domain.dataimport.service;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.domain.dataimport.dto.ImportJobResponse;
+import com.bincms.domain.dataimport.entity.ImportFormat;
+import com.bincms.domain.dataimport.entity.ImportJob;
+import com.bincms.domain.dataimport.entity.ImportJobStatus;
+import com.bincms.domain.dataimport.entity.ImportType;
+import com.bincms.domain.dataimport.reader.ImportRecordReader;
+import com.bincms.domain.dataimport.repository.ImportJobRepository;
+import com.bincms.domain.dataimport.target.ImportTarget;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 가져오기 (이전 CMS 데이터 이관용)
+ * - 업로드 본문을 작업 디렉터리에 그대로 복사한 뒤 전용 스레드에서 처리 (요청은 작업 등록까지만)
+ * - 파일을 한 행씩 읽어 chunk-size 단위로 모으고, 청크마다 대상별 변환(검증/중복 제외/비밀번호 해싱, 트랜잭션 밖) 후
+ *   한 트랜잭션에서 JDBC 배치 INSERT + 체크포인트 갱신 → 커밋된 청크와 체크포인트가 항상 일치
+ * - 실패하거나 노드가 중단되면 POST /{id}/resume 으로 체크포인트 이후 행부터 이어서 처리
+ *   (실행 중 상태인데 stale-after 동안 체크포인트가 없으면 중단된 것으로 보고 재개 허용)
+ * - 등록자(REG_NO/MOD_NO)는 작업 등록 시점에 한 번만 조회한 값을 모든 행에 사용
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private final ImportJobRepository importJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<ImportType, ImportTarget> targets = new EnumMap<>(ImportType.class);
+    private final Path workDir;
+    private final int chunkSize;
+    private final long maxFileSize;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            List<ImportTarget> importTargets,
+                            @Value("${app.import.work-dir:imports}") String workDir,
+                            @Value("${app.import.chunk-size:1000}") int chunkSize,
+                            @Value("${app.import.max-file-size:1GB}") DataSize maxFileSize,
+                            @Value("${app.import.stale-after:5m}") Duration staleAfter,
+                            @Value("${app.import.max-concurrent:1}") int maxConcurrent,
+                            @Value("${app.import.queue-capacity:20}") int queueCapacity) {
+        this.importJobRepository = importJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        importTargets.forEach(target -> targets.put(target.getType(), target));
+        this.workDir = Paths.get(workDir);
+        this.chunkSize = chunkSize;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.staleAfter = staleAfter;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "data-import-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 가져오기 작업 등록 (본문을 작업 파일로 복사 후 실행 대기열에 추가)
+     */
+    public ImportJobResponse upload(ImportType type, ImportFormat format, String fileName, InputStream body) {
+        Path file = workDir.resolve(UUID.randomUUID() + "." + format.name().toLowerCase());
+        long size;
+        try {
+            Files.createDirectories(workDir);
+            size = copy(body, file);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            log.error("가져오기 파일 저장 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "가져오기 파일 저장에 실패했습니다.");
+        }
+        if (size == 0) {
+            // application/x-www-form-urlencoded 로 보내면 본문이 폼 파라미터로 소비되어 비어 있음
+            deleteQuietly(file);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "가져오기 파일이 비어 있습니다. (Content-Type: text/csv 또는 application/json 으로 전송)");
+        }
+
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .type(type)
+                .format(format)
+                .fileName(fileName != null && !fileName.isBlank() ? fileName : file.getFileName().toString())
+                .filePath(file.toString())
+                .fileSize(size)
+                .build());
+        log.info("가져오기 작업 등록: id={}, type={}, file={} ({} bytes)", job.getId(), type, job.getFileName(), size);
+        submit(job.getId());
+        return ImportJobResponse.from(job);
+    }
+
+    /**
+     * 실패/중단된 작업을 마지막 체크포인트부터 재개
+     * - 대기열 초과로 실행되지 못한 PENDING 작업도 다시 제출 (이미 대기열에 있으면 실행 임대에서 걸러짐)
+     */
+    public ImportJobResponse resume(Long id) {
+        ImportJob job = findJob(id);
+        boolean stale = job.getStatus() == ImportJobStatus.RUNNING
+                && job.getModDt().isBefore(LocalDateTime.now().minus(staleAfter));
+        if (job.getStatus() != ImportJobStatus.FAILED && job.getStatus() != ImportJobStatus.PENDING && !stale) {
+            throw new BusinessException(ErrorCode.IMPORT_NOT_RESUMABLE,
+                    "재개할 수 없는 가져오기 작업입니다. (상태: " + job.getStatus() + ")");
+        }
+        if (!Files.exists(Paths.get(job.getFilePath()))) {
+            throw new BusinessException(ErrorCode.IMPORT_NOT_RESUMABLE, "가져오기 작업 파일이 없습니다.");
+        }
+        log.info("가져오기 작업 재개: id={}, 체크포인트 {}행", id, job.getProcessedRows());
+        submit(id);
+        return ImportJobResponse.from(job);
+    }
+
+    public ImportJobResponse getJob(Long id) {
+        return ImportJobResponse.from(findJob(id));
+    }
+
+    public List<ImportJobResponse> getRecentJobs() {
+        return importJobRepository.findTop50ByOrderByIdDesc().stream()
+                .map(ImportJobResponse::from)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ImportJob findJob(Long id) {
+        return importJobRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+    }
+
+    private void submit(Long id) {
+        try {
+            executor.execute(() -> run(id));
+        } catch (RejectedExecutionException e) {
+            log.warn("가져오기 실행 대기열 초과: id={}", id);
+            throw new BusinessException(ErrorCode.SERVER_BUSY, "대기 중인 가져오기 작업이 많습니다. 완료 후 재개해주세요.");
+        }
+    }
+
+    /**
+     * 작업 실행 (실행 임대를 얻은 노드에서만, 체크포인트 이후 행부터)
+     */
+    private void run(Long id) {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                importJobRepository.claim(id, token, now, now.minus(staleAfter)));
+        if (claimed == null || claimed == 0) {
+            log.info("가져오기 작업을 실행하지 않음 (이미 실행 중이거나 완료): id={}", id);
+            return;
+        }
+        ImportJob job = findJob(id);
+        ImportTarget target = targets.get(job.getType());
+        Progress progress = new Progress(job);
+        long startNanos = System.nanoTime();
+        long resumedFrom = progress.processed;
+
+        try (InputStream in = Files.newInputStream(Paths.get(job.getFilePath()));
+             ImportRecordReader reader = ImportRecordReader.open(job.getFormat(), in)) {
+            for (long skipped = 0; skipped < resumedFrom; skipped++) {
+                if (reader.next() == null) {
+                    break;
+                }
+            }
+            List<Map<String, String>> chunk = new ArrayList<>(chunkSize);
+            Map<String, String> record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(job, token, target, chunk, progress);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, token, target, chunk, progress);
+            }
+        } catch (ClaimLostException e) {
+            log.warn("가져오기 작업 임대 상실, 실행 중단 (다른 실행이 체크포인트 {}행부터 이어서 처리): id={}",
+                    progress.processed, id);
+            return;
+        } catch (Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.error("가져오기 작업 실패: id={}, 체크포인트 {}행", id, progress.processed, e);
+            finish(id, token, ImportJobStatus.FAILED, truncate("행 " + (progress.processed + 1) + " 부근 실패: " + message));
+            return;
+        }
+
+        if (!finish(id, token, ImportJobStatus.COMPLETED, null)) {
+            log.warn("가져오기 작업 임대 상실, 완료 처리 생략: id={}", id);
+            return;
+        }
+        deleteQuietly(Paths.get(job.getFilePath()));
+        long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        long rows = progress.processed - resumedFrom;
+        log.info("가져오기 작업 완료: id={}, type={}, {}행 (저장 {}, 건너뜀 {}) - {}ms, {}행/초",
+                id, job.getType(), progress.processed, progress.inserted, progress.skipped, millis, rows * 1000 / millis);
+    }
+
+    /**
+     * 청크 변환(트랜잭션 밖) → 배치 INSERT + 체크포인트 (한 트랜잭션)
+     */
+    private void writeChunk(ImportJob job, String token, ImportTarget target,
+                            List<Map<String, String>> chunk, Progress progress) {
+        ImportTarget.PreparedChunk prepared = target.prepare(chunk, progress.processed + 1, job.getRegNo());
+        long processed = progress.processed + chunk.size();
+        long inserted = progress.inserted + prepared.rows().size();
+        long skipped = progress.skipped + prepared.skipped();
+        String lastError = prepared.skipReason() != null ? truncate(prepared.skipReason()) : progress.lastError;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!prepared.rows().isEmpty()) {
+                jdbcTemplate.batchUpdate(target.getInsertSql(), prepared.rows());
+            }
+            if (importJobRepository.checkpoint(job.getId(), token, processed, inserted, skipped, lastError,
+                    LocalDateTime.now()) == 0) {
+                // stale-after 경과로 다른 실행이 임대를 가져감 → 이 청크의 INSERT까지 롤백
+                throw new ClaimLostException();
+            }
+        });
+        progress.processed = processed;
+        progress.inserted = inserted;
+        progress.skipped = skipped;
+        progress.lastError = lastError;
+    }
+
+    private boolean finish(Long id, String token, ImportJobStatus status, String error) {
+        Integer updated = transactionTemplate.execute(tx ->
+                importJobRepository.finish(id, token, status, error, LocalDateTime.now()));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 크기 상한을 지키며 복사 (상한 초과 시 중단)
+     */
+    private long copy(InputStream body, Path file) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxFileSize) {
+                    out.close();
+                    deleteQuietly(file);
+                    throw new BusinessException(ErrorCode.IMPORT_FILE_TOO_LARGE,
+                            "가져오기 파일은 최대 " + DataSize.ofBytes(maxFileSize).toMegabytes() + "MB까지 가능합니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("가져오기 작업 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * 실행 임대 상실 (스택 트레이스 불필요)
+     */
+    private static final class ClaimLostException extends RuntimeException {
+        ClaimLostException() {
+            super("가져오기 작업 임대 상실", null, false, false);
+        }
+    }
+
+    /**
+     * 실행 중 누적 값 (작업 스레드 전용)
+     */
+    private static final class Progress {
+        long processed;
+        long inserted;
+        long skipped;
+        String lastError;
+
+        Progress(ImportJob job) {
+            this.processed = job.getProcessedRows();
+            this.inserted = job.getInsertedRows();
+            this.skipped = job.getSkippedRows();
+            this.lastError = job.getLastError();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bincms.domain.dataimport.target;
+
+import com.bincms.domain.dataimport.entity.ImportType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨텐츠 가져오기
+ * - 필드: contentKey(필수), title(필수), content, category, description, useYn, sortOrder, viewCount, regDt
+ * - 이미 있는 contentKey(또는 같은 청크 안의 중복)는 건너뜀 → 같은 파일을 다시 가져와도 중복 저장 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentImportTarget implements ImportTarget {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_contents (CONTENT_KEY, TITLE, CONTENT, CATEGORY, DESCRIPTION, VIEW_COUNT, USE_YN, SORT_ORDER,
+                                     REG_DT, MOD_DT, REG_NO, MOD_NO)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public ImportType getType() {
+        return ImportType.CONTENTS;
+    }
+
+    @Override
+    public String getInsertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    public PreparedChunk prepare(List<Map<String, String>> records, long firstRow, String auditor) {
+        Set<String> keys = new HashSet<>();
+        for (Map<String, String> record : records) {
+            String key = record.get("contentKey");
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        Set<String> seen = keys.isEmpty() ? new HashSet<>() : new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT CONTENT_KEY FROM tb_contents WHERE CONTENT_KEY IN (:keys)", Map.of("keys", keys), String.class));
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(records.size());
+        String skipReason = null;
+        for (int i = 0; i < records.size(); i++) {
+            Map<String, String> record = records.get(i);
+            try {
+                String contentKey = ImportRows.text(record, "contentKey", 100, true);
+                if (!seen.add(contentKey)) {
+                    throw new ImportRows.InvalidRowException("contentKey " + contentKey + "이(가) 이미 있습니다.");
+                }
+                Timestamp regDt = ImportRows.timestamp(record, "regDt", now);
+                Long sortOrder = ImportRows.number(record, "sortOrder", null);
+                rows.add(new Object[]{
+                        contentKey,
+                        ImportRows.text(record, "title", 200, true),
+                        ImportRows.text(record, "content", Integer.MAX_VALUE, false),
+                        ImportRows.text(record, "category", 50, false),
+                        ImportRows.text(record, "description", 500, false),
+                        ImportRows.number(record, "viewCount", 0L),
+                        ImportRows.yn(record, "useYn", "Y"),
+                        sortOrder != null ? sortOrder.intValue() : null,
+                        regDt, regDt, auditor, auditor});
+            } catch (ImportRows.InvalidRowException e) {
+                skipReason = "행 " + (firstRow + i) + ": " + e.getMessage();
+            }
+        }
+        return new PreparedChunk(rows, records.size() - rows.size(), skipReason);
+    }
+}
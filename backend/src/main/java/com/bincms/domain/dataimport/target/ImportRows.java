@@ -0,0 +1,94 @@
+package com.bincms.domain.dataimport.target;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * 가져오기 행 값 변환 (대상별 공통)
+ * - 변환할 수 없는 값이면 InvalidRowException → 해당 행만 건너뜀
+ */
+final class ImportRows {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private ImportRows() {
+    }
+
+    static String text(Map<String, String> record, String field, int maxLength, boolean required) {
+        String value = record.get(field);
+        if (value == null || value.isBlank()) {
+            if (required) {
+                throw new InvalidRowException(field + " 값이 없습니다.");
+            }
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw new InvalidRowException(field + " 값이 " + maxLength + "자를 넘습니다.");
+        }
+        return value;
+    }
+
+    static String yn(Map<String, String> record, String field, String defaultValue) {
+        String value = record.get(field);
+        if (value == null) {
+            return defaultValue;
+        }
+        return switch (value.trim().toUpperCase()) {
+            case "Y", "TRUE", "1" -> "Y";
+            case "N", "FALSE", "0" -> "N";
+            default -> throw new InvalidRowException(field + " 값은 Y/N이어야 합니다.");
+        };
+    }
+
+    static boolean bool(Map<String, String> record, String field, boolean defaultValue) {
+        String value = record.get(field);
+        return value == null ? defaultValue : "Y".equals(yn(record, field, null));
+    }
+
+    static Long number(Map<String, String> record, String field, Long defaultValue) {
+        String value = record.get(field);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRowException(field + " 값이 숫자가 아닙니다.");
+        }
+    }
+
+    /**
+     * 일시 (yyyy-MM-dd HH:mm:ss, ISO-8601, yyyy-MM-dd), 없으면 defaultValue
+     */
+    static Timestamp timestamp(Map<String, String> record, String field, Timestamp defaultValue) {
+        String value = record.get(field);
+        if (value == null) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        try {
+            if (trimmed.length() == 10) {
+                return Timestamp.valueOf(LocalDate.parse(trimmed).atStartOfDay());
+            }
+            if (trimmed.indexOf('T') > 0) {
+                return Timestamp.valueOf(LocalDateTime.parse(trimmed));
+            }
+            return Timestamp.valueOf(LocalDateTime.parse(trimmed, DATE_TIME));
+        } catch (DateTimeParseException e) {
+            throw new InvalidRowException(field + " 값이 일시 형식이 아닙니다.");
+        }
+    }
+
+    /**
+     * 행 단위 검증 실패 (스택 트레이스 없음)
+     */
+    static final class InvalidRowException extends RuntimeException {
+        InvalidRowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
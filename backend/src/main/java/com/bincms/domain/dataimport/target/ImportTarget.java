@@ -0,0 +1,41 @@
+package com.bincms.domain.dataimport.target;
+
+import com.bincms.domain.dataimport.entity.ImportType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 대상별 행 변환
+ * - 검증/중복 확인/비밀번호 해싱까지 트랜잭션 밖에서 끝내고 INSERT 파라미터만 돌려줌
+ * - 저장은 ImportJobService가 엔티티/영속성 컨텍스트 없이 JDBC 배치 INSERT로 수행
+ *   (IDENTITY 키라 Hibernate 배치가 꺼지는 문제 회피, 체크포인트 갱신과 같은 트랜잭션)
+ */
+public interface ImportTarget {
+
+    ImportType getType();
+
+    /**
+     * 배치 INSERT SQL (prepare가 돌려주는 행의 파라미터 순서와 일치)
+     */
+    String getInsertSql();
+
+    /**
+     * 청크 변환
+     *
+     * @param records  파일에서 읽은 행 (필드명 → 값)
+     * @param firstRow 청크 첫 행의 파일 내 순번 (1부터, 건너뛴 사유 표시용)
+     * @param auditor  등록자 (작업 등록 관리자 PK, 행에 regNo가 없을 때 사용)
+     */
+    PreparedChunk prepare(List<Map<String, String>> records, long firstRow, String auditor);
+
+    /**
+     * 청크 변환 결과
+     *
+     * @param rows       INSERT 파라미터
+     * @param skipped    건너뛴 행 수 (중복, 필수값 누락 등)
+     * @param skipReason 마지막으로 건너뛴 사유 (없으면 null)
+     */
+    record PreparedChunk(List<Object[]> rows, int skipped, String skipReason) {
+    }
+}
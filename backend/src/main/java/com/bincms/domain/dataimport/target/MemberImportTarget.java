@@ -0,0 +1,127 @@
+package com.bincms.domain.dataimport.target;
+
+import com.bincms.common.security.PasswordHashingService;
+import com.bincms.domain.dataimport.entity.ImportType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 회원 가져오기 (USER 역할)
+ * - 필드: loginId(필수), name(필수), email, phoneNumber, provider(기본 LOCAL), providerId, emailVerified, active, regDt,
+ *   password(평문) 또는 passwordHash(BCrypt)
+ * - passwordHash가 BCrypt면 그대로 저장, password만 있으면 청크 단위로 모아 해싱 풀에서 병렬 해싱,
+ *   둘 다 없거나 BCrypt가 아닌 해시면 로그인 불가 비밀번호 (비밀번호 재설정 필요)
+ * - 이미 있는 loginId(또는 같은 청크 안의 중복)는 건너뜀
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberImportTarget implements ImportTarget {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_members (LGN_ID, EMAIL, PASSWORD, NAME, PHONE_NUMBER, PROVIDER, PROVIDER_ID, EMAIL_VERIFIED,
+                                    ROLE_ID, ACTIVE, REG_DT, MOD_DT, REG_NO, MOD_NO)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int PASSWORD_COLUMN = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PasswordHashingService passwordHashingService;
+
+    @Override
+    public ImportType getType() {
+        return ImportType.MEMBERS;
+    }
+
+    @Override
+    public String getInsertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    public PreparedChunk prepare(List<Map<String, String>> records, long firstRow, String auditor) {
+        Long userRoleId = jdbcTemplate.queryForObject("SELECT id FROM tb_roles WHERE ROLE_CODE = 'USER'", Long.class);
+        Set<String> loginIds = new HashSet<>();
+        for (Map<String, String> record : records) {
+            String loginId = record.get("loginId");
+            if (loginId != null) {
+                loginIds.add(loginId);
+            }
+        }
+        Set<String> seen = loginIds.isEmpty() ? new HashSet<>() : new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT LGN_ID FROM tb_members WHERE LGN_ID IN (:loginIds)", Map.of("loginIds", loginIds), String.class));
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(records.size());
+        List<Object[]> needsHashing = new ArrayList<>();
+        List<String> rawPasswords = new ArrayList<>();
+        String skipReason = null;
+        for (int i = 0; i < records.size(); i++) {
+            Map<String, String> record = records.get(i);
+            try {
+                String loginId = ImportRows.text(record, "loginId", 50, true);
+                if (!seen.add(loginId)) {
+                    throw new ImportRows.InvalidRowException("loginId " + loginId + "이(가) 이미 있습니다.");
+                }
+                Timestamp regDt = ImportRows.timestamp(record, "regDt", now);
+                String provider = ImportRows.text(record, "provider", 20, false);
+                Object[] row = new Object[]{
+                        loginId,
+                        ImportRows.text(record, "email", 100, false),
+                        null,
+                        ImportRows.text(record, "name", 50, true),
+                        ImportRows.text(record, "phoneNumber", 20, false),
+                        provider != null ? provider.toUpperCase() : "LOCAL",
+                        ImportRows.text(record, "providerId", 255, false),
+                        ImportRows.bool(record, "emailVerified", false),
+                        userRoleId,
+                        ImportRows.bool(record, "active", true),
+                        regDt, regDt, auditor, auditor};
+                String hash = bcryptHash(record.get("passwordHash"));
+                String raw = record.get("password");
+                if (hash != null) {
+                    row[PASSWORD_COLUMN] = hash;
+                } else if (raw != null) {
+                    needsHashing.add(row);
+                    rawPasswords.add(raw);
+                } else {
+                    row[PASSWORD_COLUMN] = passwordHashingService.unusablePassword();
+                }
+                rows.add(row);
+            } catch (ImportRows.InvalidRowException e) {
+                skipReason = "행 " + (firstRow + i) + ": " + e.getMessage();
+            }
+        }
+
+        if (!rawPasswords.isEmpty()) {
+            List<String> hashes = passwordHashingService.encodeAll(rawPasswords);
+            for (int i = 0; i < needsHashing.size(); i++) {
+                needsHashing.get(i)[PASSWORD_COLUMN] = hashes.get(i);
+            }
+        }
+        return new PreparedChunk(rows, records.size() - rows.size(), skipReason);
+    }
+
+    /**
+     * BCrypt 해시면 그대로 사용 ({bcrypt} 접두어 제거), 아니면 null
+     */
+    private static String bcryptHash(String passwordHash) {
+        if (passwordHash == null) {
+            return null;
+        }
+        String hash = passwordHash.startsWith("{bcrypt}") ? passwordHash.substring("{bcrypt}".length()) : passwordHash;
+        boolean bcrypt = hash.length() == 60
+                && (hash.startsWith("$2a$") || hash.startsWith("$2b$") || hash.startsWith("$2y$"));
+        return bcrypt ? hash : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bincms.domain.dataimport.target;
+
+import com.bincms.domain.dataimport.entity.ImportType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 가져오기
+ * - 필드: boardCode 또는 boardId(필수), title(필수), content(필수), noticeYn, useYn, viewCount, regDt, regNo
+ * - regDt가 있으면 원래 작성일시를 유지, regNo(작성자 회원 PK)가 없으면 작업 등록자
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImportTarget implements ImportTarget {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_posts (BOARD_ID, TITLE, CONTENT, VIEW_COUNT, NOTICE_YN, USE_YN, REG_DT, MOD_DT, REG_NO, MOD_NO)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ImportType getType() {
+        return ImportType.POSTS;
+    }
+
+    @Override
+    public String getInsertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    public PreparedChunk prepare(List<Map<String, String>> records, long firstRow, String auditor) {
+        Map<String, Long> boardIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, BOARD_CODE FROM tb_boards", rs -> {
+            boardIds.put(rs.getString(2), rs.getLong(1));
+        });
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(records.size());
+        String skipReason = null;
+        for (int i = 0; i < records.size(); i++) {
+            Map<String, String> record = records.get(i);
+            try {
+                Long boardId = boardId(record, boardIds);
+                Timestamp regDt = ImportRows.timestamp(record, "regDt", now);
+                String regNo = ImportRows.text(record, "regNo", 100, false);
+                rows.add(new Object[]{
+                        boardId,
+                        ImportRows.text(record, "title", 200, true),
+                        ImportRows.text(record, "content", Integer.MAX_VALUE, true),
+                        ImportRows.number(record, "viewCount", 0L),
+                        ImportRows.yn(record, "noticeYn", "N"),
+                        ImportRows.yn(record, "useYn", "Y"),
+                        regDt, regDt,
+                        regNo != null ? regNo : auditor, auditor});
+            } catch (ImportRows.InvalidRowException e) {
+                skipReason = "행 " + (firstRow + i) + ": " + e.getMessage();
+            }
+        }
+        return new PreparedChunk(rows, records.size() - rows.size(), skipReason);
+    }
+
+    private static Long boardId(Map<String, String> record, Map<String, Long> boardIds) {
+        String boardCode = record.get("boardCode");
+        if (boardCode != null) {
+            Long boardId = boardIds.get(boardCode);
+            if (boardId == null) {
+                throw new ImportRows.InvalidRowException("게시판 코드 " + boardCode + "이(가) 없습니다.");
+            }
+            return boardId;
+        }
+        Long boardId = ImportRows.number(record, "boardId", null);
+        if (boardId == null || !boardIds.containsValue(boardId)) {
+            throw new ImportRows.InvalidRowException("boardCode 또는 boardId 값이 올바르지 않습니다.");
+        }
+        return boardId;
+    }
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "TB_EMAIL_VERIFICATIONS", indexes = {
         @Index(name = "idx_email_verifications_email", columnList = "EMAIL"),
-        @Index(name = "idx_email_verifications_email_code", columnList = "EMAIL, VERIFICATION_CODE")
+        @Index(name = "idx_email_verifications_email_code", columnList = "EMAIL, VERIFICATION_CODE"),
+        @Index(name = "idx_email_verifications_expires_at", columnList = "EXPIRES_AT")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
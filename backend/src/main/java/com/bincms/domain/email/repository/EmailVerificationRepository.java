@@ -1,10 +1,14 @@
 package com.bincms.domain.email.repository;
 
 import com.bincms.domain.email.entity.EmailVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,12 +28,8 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
     Optional<EmailVerification> findTopByEmailAndVerifiedTrueOrderByVerifiedAtDesc(String email);
 
     /**
-     * 이메일로 최근 N분 이내 발송 건수 조회 (악용 방지)
+     * 기준 시각 이전에 만료된 인증 건 ID 조회 (배치 삭제용)
      */
-    long countByEmailAndRegDtAfter(String email, LocalDateTime after);
-
-    /**
-     * 만료된 인증 건 삭제
-     */
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
+    @Query("SELECT v.id FROM EmailVerification v WHERE v.expiresAt < :cutoff ORDER BY v.id")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
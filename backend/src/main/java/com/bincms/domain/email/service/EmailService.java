@@ -2,19 +2,19 @@ package com.bincms.domain.email.service;
 
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
-import com.bincms.domain.email.entity.EmailVerification;
-import com.bincms.domain.email.repository.EmailVerificationRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.bincms.common.ratelimit.RateLimiter;
+import com.bincms.domain.email.store.VerificationCodeStore;
+import com.bincms.domain.email.store.VerificationResult;
+import com.bincms.domain.mail.service.MailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
@@ -26,88 +26,68 @@ import java.time.LocalDateTime;
 @Transactional(readOnly = true)
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-    private final EmailVerificationRepository emailVerificationRepository;
-
-    @Value("${app.mail.from}")
-    private String fromEmail;
-
-    @Value("${app.mail.from-name}")
-    private String fromName;
+    private final VerificationCodeStore verificationCodeStore;
+    private final MailOutboxService mailOutboxService;
+    private final RateLimiter emailSendRateLimiter;
 
     @Value("${app.mail.verification-code-expiry:300}")
     private int verificationCodeExpiry; // 초 단위
 
+    @Value("${app.mail.verified-retention:30m}")
+    private Duration verifiedRetention;
+
     private static final int CODE_LENGTH = 6;
-    private static final int MAX_SEND_PER_HOUR = 5; // 시간당 최대 발송 횟수
 
     /**
      * 인증 코드 발송
+     * - 코드 저장은 VerificationCodeStore (기본: 메모리)
+     * - 메일은 같은 트랜잭션에서 발송 대기열(TB_MAIL_OUTBOX)에 적재만 하고 커밋 즉시 반환 (SMTP 전송은 MailOutboxDispatcher)
      */
     @Transactional
     public void sendVerificationCode(String email) {
-        // 1시간 이내 발송 횟수 체크 (악용 방지)
-        long recentCount = emailVerificationRepository.countByEmailAndRegDtAfter(
-                email, LocalDateTime.now().minusHours(1));
-        
-        if (recentCount >= MAX_SEND_PER_HOUR) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                    "인증 코드 발송 횟수를 초과했습니다. 1시간 후 다시 시도해주세요.");
+        // 이메일 단위 발송 횟수 제한 (악용 방지, 기본 시간당 5회)
+        if (!emailSendRateLimiter.tryAcquire(email)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS,
+                    "인증 코드 발송 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
         }
 
-        // 6자리 인증 코드 생성
+        // 6자리 인증 코드 생성 및 저장
         String code = generateCode();
+        verificationCodeStore.save(email, code, Duration.ofSeconds(verificationCodeExpiry));
 
-        // DB에 인증 정보 저장
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .verificationCode(code)
-                .expiresAt(LocalDateTime.now().plusSeconds(verificationCodeExpiry))
-                .build();
-
-        emailVerificationRepository.save(verification);
-
-        // 이메일 발송
-        sendEmail(email, code);
+        // 이메일 발송 예약
+        mailOutboxService.enqueue(email, "[BIN INTERIOR] 이메일 인증 코드", buildEmailContent(code));
 
-        log.info("인증 코드 발송 완료: email={}", email);
+        log.info("인증 코드 발송 예약: email={}", email);
     }
 
     /**
      * 인증 코드 검증
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean verifyCode(String email, String code) {
-        EmailVerification verification = emailVerificationRepository
-                .findByEmailAndVerificationCode(email, code)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        "인증 코드가 올바르지 않습니다."));
-
-        if (verification.isExpired()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+        VerificationResult result = verificationCodeStore.verify(email, code);
+        switch (result) {
+            case NOT_FOUND -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "인증 코드가 올바르지 않습니다.");
+            case EXPIRED -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
                     "인증 코드가 만료되었습니다. 다시 발송해주세요.");
-        }
-
-        if (verification.getVerified()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+            case ALREADY_VERIFIED -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
                     "이미 인증이 완료된 코드입니다.");
+            default -> {
+                return true;
+            }
         }
-
-        verification.verify();
-        return true;
     }
 
     /**
      * 이메일 인증 여부 확인 (회원가입 시 사용)
+     * - 인증 후 verified-retention(기본 30분) 이내만 유효 (회원가입 시간 제한)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isEmailVerified(String email) {
-        return emailVerificationRepository
-                .findTopByEmailAndVerifiedTrueOrderByVerifiedAtDesc(email)
-                .map(v -> {
-                    // 인증 후 30분 이내만 유효 (회원가입 시간 제한)
-                    return v.getVerifiedAt() != null &&
-                           v.getVerifiedAt().isAfter(LocalDateTime.now().minusMinutes(30));
-                })
+        return verificationCodeStore.findLastVerifiedAt(email)
+                .map(verifiedAt -> verifiedAt.isAfter(LocalDateTime.now().minus(verifiedRetention)))
                 .orElse(false);
     }
 
@@ -120,27 +100,6 @@ public class EmailService {
         return String.valueOf(code);
     }
 
-    /**
-     * 인증 이메일 발송
-     */
-    private void sendEmail(String to, String code) {
-        try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(to);
-            helper.setSubject("[BIN INTERIOR] 이메일 인증 코드");
-            helper.setText(buildEmailContent(code), true);
-
-            mailSender.send(mimeMessage);
-        } catch (MessagingException | java.io.UnsupportedEncodingException e) {
-            log.error("이메일 발송 실패: to={}, error={}", to, e.getMessage());
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "이메일 발송에 실패했습니다. 잠시 후 다시 시도해주세요.");
-        }
-    }
-
     /**
      * 인증 이메일 HTML 내용 생성
      */
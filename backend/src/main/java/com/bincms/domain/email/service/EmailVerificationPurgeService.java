@@ -0,0 +1,64 @@
+package com.bincms.domain.email.service;
+
+import com.bincms.domain.email.repository.EmailVerificationRepository;
+import com.bincms.domain.email.store.InMemoryVerificationCodeStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 이메일 인증 건 정리
+ * - 메모리 저장소: 1초마다 타이밍 휠을 진행하여 만료 레코드 제거
+ * - DB(TB_EMAIL_VERIFICATIONS): 인증 완료 후 유지 기간(verified-retention)까지 지난 건만 삭제 (회원가입 시 인증 여부 확인에 필요)
+ * - 한 번에 batch-size건씩 ID IN 삭제를 개별 트랜잭션으로 반복하여 긴 잠금/대용량 트랜잭션을 피함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailVerificationPurgeService {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final InMemoryVerificationCodeStore inMemoryVerificationCodeStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.mail.verified-retention:30m}")
+    private Duration verifiedRetention;
+
+    @Value("${app.mail.purge.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelay = 1000)
+    public void expireMemoryStore() {
+        inMemoryVerificationCodeStore.expire();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.purge.interval-ms:600000}", initialDelay = 60000)
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(verifiedRetention);
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = emailVerificationRepository.findExpiredIds(cutoff, PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    emailVerificationRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("만료된 이메일 인증 {}건 삭제 (기준: {})", total, cutoff);
+        }
+    }
+}
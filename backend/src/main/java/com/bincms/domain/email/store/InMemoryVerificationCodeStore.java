@@ -0,0 +1,131 @@
+package com.bincms.domain.email.store;
+
+import com.bincms.common.cache.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 인증 코드 저장소
+ * - 이메일별 레코드(발송 코드 목록 + 인증 완료 시각)를 ConcurrentHashMap.compute로 원자적으로 갱신
+ * - 레코드 만료는 타이밍 휠로 예약: 코드 만료 또는 인증 완료 후 유지 기간(verified-retention) 중 늦은 시각
+ */
+@Component
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final ConcurrentHashMap<String, Record> records = new ConcurrentHashMap<>();
+    private final TimingWheel<String> expiryWheel = new TimingWheel<>(Duration.ofSeconds(1), 4096);
+    private final long verifiedRetentionNanos;
+
+    public InMemoryVerificationCodeStore(@Value("${app.mail.verified-retention:30m}") Duration verifiedRetention) {
+        this.verifiedRetentionNanos = verifiedRetention.toNanos();
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        long now = System.nanoTime();
+        long expiresAt = now + ttl.toNanos();
+        records.compute(email, (key, record) -> {
+            Record updated = record != null ? record : new Record();
+            updated.codes.removeIf(c -> c.expiresAt - now <= 0);
+            updated.codes.add(new Code(code, expiresAt));
+            updated.extendDeadline(expiresAt);
+            return updated;
+        });
+        expiryWheel.schedule(email, expiresAt);
+    }
+
+    @Override
+    public VerificationResult verify(String email, String code) {
+        long now = System.nanoTime();
+        VerificationResult[] result = {VerificationResult.NOT_FOUND};
+        records.computeIfPresent(email, (key, record) -> {
+            for (Code c : record.codes) {
+                if (!c.code.equals(code)) {
+                    continue;
+                }
+                if (c.verified) {
+                    result[0] = VerificationResult.ALREADY_VERIFIED;
+                } else if (c.expiresAt - now <= 0) {
+                    result[0] = VerificationResult.EXPIRED;
+                } else {
+                    c.verified = true;
+                    record.verifiedAt = LocalDateTime.now();
+                    record.extendDeadline(now + verifiedRetentionNanos);
+                    result[0] = VerificationResult.VERIFIED;
+                }
+                break;
+            }
+            return record;
+        });
+        if (result[0] == VerificationResult.VERIFIED) {
+            expiryWheel.schedule(email, now + verifiedRetentionNanos);
+        }
+        return result[0];
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastVerifiedAt(String email) {
+        Record record = records.get(email);
+        return record != null ? Optional.ofNullable(record.verifiedAt) : Optional.empty();
+    }
+
+    /**
+     * 다른 노드에서 인증된 결과를 메모리에 반영 (write-through 모드에서 DB 조회 후 사용)
+     */
+    public void markVerified(String email, LocalDateTime verifiedAt) {
+        long deadline = System.nanoTime() + verifiedRetentionNanos;
+        records.compute(email, (key, record) -> {
+            Record updated = record != null ? record : new Record();
+            if (updated.verifiedAt == null || verifiedAt.isAfter(updated.verifiedAt)) {
+                updated.verifiedAt = verifiedAt;
+            }
+            updated.extendDeadline(deadline);
+            return updated;
+        });
+        expiryWheel.schedule(email, deadline);
+    }
+
+    /**
+     * 만료 시각에 도달한 레코드 제거 (연장된 레코드는 유지, 1초 주기로 호출)
+     */
+    public void expire() {
+        expiryWheel.advance(email -> {
+            long now = System.nanoTime();
+            records.computeIfPresent(email, (key, record) -> record.deadline - now <= 0 ? null : record);
+        });
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    private static final class Record {
+        private final List<Code> codes = new ArrayList<>(2);
+        private LocalDateTime verifiedAt;
+        private long deadline = System.nanoTime();
+
+        void extendDeadline(long candidate) {
+            if (candidate - deadline > 0) {
+                deadline = candidate;
+            }
+        }
+    }
+
+    private static final class Code {
+        private final String code;
+        private final long expiresAt;
+        private boolean verified;
+
+        Code(String code, long expiresAt) {
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
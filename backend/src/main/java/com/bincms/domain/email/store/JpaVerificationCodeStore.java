@@ -0,0 +1,57 @@
+package com.bincms.domain.email.store;
+
+import com.bincms.domain.email.entity.EmailVerification;
+import com.bincms.domain.email.repository.EmailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB(TB_EMAIL_VERIFICATIONS) 인증 코드 저장소
+ * - write-through 모드에서 노드 간 공유용으로 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+
+    @Override
+    @Transactional
+    public void save(String email, String code, Duration ttl) {
+        emailVerificationRepository.save(EmailVerification.builder()
+                .email(email)
+                .verificationCode(code)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public VerificationResult verify(String email, String code) {
+        Optional<EmailVerification> found = emailVerificationRepository.findByEmailAndVerificationCode(email, code);
+        if (found.isEmpty()) {
+            return VerificationResult.NOT_FOUND;
+        }
+        EmailVerification verification = found.get();
+        if (verification.isExpired()) {
+            return VerificationResult.EXPIRED;
+        }
+        if (verification.getVerified()) {
+            return VerificationResult.ALREADY_VERIFIED;
+        }
+        verification.verify();
+        return VerificationResult.VERIFIED;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findLastVerifiedAt(String email) {
+        return emailVerificationRepository.findTopByEmailAndVerifiedTrueOrderByVerifiedAtDesc(email)
+                .map(EmailVerification::getVerifiedAt);
+    }
+}
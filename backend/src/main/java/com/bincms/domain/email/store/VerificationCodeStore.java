@@ -0,0 +1,28 @@
+package com.bincms.domain.email.store;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 이메일 인증 코드 저장소
+ * - memory: 단일 노드용 메모리 저장소 (기본값)
+ * - write-through: 메모리 + DB 동시 기록, 다른 노드에서 발송한 코드도 DB로 검증 가능
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증 코드 저장 (같은 이메일의 이전 코드도 만료 전까지 유효)
+     */
+    void save(String email, String code, Duration ttl);
+
+    /**
+     * 인증 코드 검증 및 인증 완료 처리
+     */
+    VerificationResult verify(String email, String code);
+
+    /**
+     * 가장 최근 인증 완료 시각
+     */
+    Optional<LocalDateTime> findLastVerifiedAt(String email);
+}
@@ -0,0 +1,11 @@
+package com.bincms.domain.email.store;
+
+/**
+ * 인증 코드 검증 결과
+ */
+public enum VerificationResult {
+    VERIFIED,
+    NOT_FOUND,
+    EXPIRED,
+    ALREADY_VERIFIED
+}
@@ -0,0 +1,45 @@
+package com.bincms.domain.email.store;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 메모리 + DB write-through 인증 코드 저장소 (다중 노드용)
+ * - 저장은 양쪽에 기록, 조회는 메모리 우선이며 없으면 DB 확인 (다른 노드에서 발송/인증한 경우)
+ */
+@RequiredArgsConstructor
+public class WriteThroughVerificationCodeStore implements VerificationCodeStore {
+
+    private final InMemoryVerificationCodeStore memory;
+    private final JpaVerificationCodeStore database;
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        database.save(email, code, ttl);
+        memory.save(email, code, ttl);
+    }
+
+    @Override
+    public VerificationResult verify(String email, String code) {
+        // 인증 완료 여부는 노드 간 일관되어야 하므로 DB 결과를 기준으로 판단
+        VerificationResult result = database.verify(email, code);
+        if (result == VerificationResult.VERIFIED) {
+            memory.markVerified(email, LocalDateTime.now());
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastVerifiedAt(String email) {
+        Optional<LocalDateTime> cached = memory.findLastVerifiedAt(email);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<LocalDateTime> stored = database.findLastVerifiedAt(email);
+        stored.ifPresent(verifiedAt -> memory.markVerified(email, verifiedAt));
+        return stored;
+    }
+}
@@ -1,8 +1,11 @@
 package com.bincms.domain.file.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.dto.BulkActionResponse;
+import com.bincms.common.dto.BulkIdsRequest;
 import com.bincms.domain.file.dto.FileResponse;
 import com.bincms.domain.file.service.FileService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -62,4 +65,13 @@ public class FileController {
         fileService.deleteFile(id);
         return ApiResponse.success(null, "파일이 삭제되었습니다");
     }
+    
+    /**
+     * 파일 일괄 삭제 (항목별 처리 결과 반환)
+     */
+    @PostMapping("/bulk-delete")
+    public ApiResponse<BulkActionResponse> deleteFiles(@Valid @RequestBody BulkIdsRequest request) {
+        BulkActionResponse response = fileService.deleteFiles(request.getIds());
+        return ApiResponse.success(response, response.getUpdated() + "개 파일이 삭제되었습니다");
+    }
 }
@@ -2,8 +2,12 @@ package com.bincms.domain.file.repository;
 
 import com.bincms.domain.file.entity.FileInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,4 +19,22 @@ public interface FileRepository extends JpaRepository<FileInfo, Long> {
     List<FileInfo> findByRefTypeAndRefIdAndUseYn(String refType, Long refId, String useYn);
     
     List<FileInfo> findByIdInAndUseYn(List<Long> ids, String useYn);
+    
+    // ==================== 관리자 일괄 처리 ====================
+    
+    @Query("SELECT f.id FROM FileInfo f WHERE f.id IN :ids AND f.useYn = 'Y'")
+    List<Long> findActiveIdsByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query("SELECT f.id FROM FileInfo f WHERE f.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") List<Long> ids);
+    
+    /**
+     * 일괄 삭제 (논리 삭제, 엔티티 로딩 없이 단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.useYn = 'N', f.modDt = :modDt, f.modNo = :modNo " +
+           "WHERE f.id IN :ids AND f.useYn = 'Y'")
+    int deactivateAllByIdIn(@Param("ids") List<Long> ids,
+                            @Param("modDt") LocalDateTime modDt,
+                            @Param("modNo") String modNo);
 }
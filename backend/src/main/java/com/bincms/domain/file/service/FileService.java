@@ -1,14 +1,20 @@
 package com.bincms.domain.file.service;
 
+import com.bincms.common.db.BulkUpdateExecutor;
+import com.bincms.common.dto.BulkActionResponse;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
 import com.bincms.domain.file.dto.FileResponse;
 import com.bincms.domain.file.entity.FileInfo;
 import com.bincms.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,6 +46,8 @@ import java.util.UUID;
 public class FileService {
     
     private final FileRepository fileRepository;
+    private final MeterRegistry meterRegistry;
+    private final BulkUpdateExecutor bulkUpdateExecutor;
     
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
@@ -82,8 +90,15 @@ public class FileService {
             // 썸네일 생성 (이미지인 경우)
             String thumbnailPath = null;
             if (isImage(ext)) {
+                Timer.Sample sample = Timer.start(meterRegistry);
                 thumbnailPath = generateThumbnail(targetPath, datePath, storedName, ext);
+                sample.stop(meterRegistry.timer("bincms.upload.thumbnail", "result", thumbnailPath != null ? "created" : "failed"));
             }
+            DistributionSummary.builder("bincms.upload.size")
+                    .baseUnit("bytes")
+                    .tag("kind", isImage(ext) ? "image" : "file")
+                    .register(meterRegistry)
+                    .record(file.getSize());
             
             // DB 저장
             FileInfo fileInfo = FileInfo.builder()
@@ -136,6 +151,17 @@ public class FileService {
         fileInfo.deactivate();
     }
     
+    /**
+     * 파일 일괄 삭제 (논리 삭제, 청크 단위 집합 UPDATE)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkActionResponse deleteFiles(List<Long> ids) {
+        return bulkUpdateExecutor.execute(ids, new BulkUpdateExecutor.BulkUpdate(
+                fileRepository::findActiveIdsByIdIn,
+                fileRepository::findIdsByIdIn,
+                fileRepository::deactivateAllByIdIn));
+    }
+    
     // ── Private 메서드 ──
     
     private void validateFile(MultipartFile file) {
@@ -160,8 +186,8 @@ public class FileService {
     /**
      * 썸네일 생성 (가로 400px 비율 유지, JPG 품질 0.7)
      */
-    private String generateThumbnail(Path originalPath, String datePath,
-                                      String storedName, String ext) {
+    String generateThumbnail(Path originalPath, String datePath,
+                             String storedName, String ext) {
         try {
             BufferedImage originalImage = ImageIO.read(originalPath.toFile());
             if (originalImage == null) {
@@ -2,12 +2,19 @@ package com.bincms.domain.inquiry.controller;
 
 import com.bincms.common.dto.ApiResponse;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.export.CsvExporter;
+import com.bincms.domain.inquiry.dto.InquiryDashboardResponse;
 import com.bincms.domain.inquiry.dto.InquiryResponse;
 import com.bincms.domain.inquiry.service.InquiryService;
+import com.bincms.domain.inquiry.service.InquiryStatsBackfillService;
+import com.bincms.domain.inquiry.service.InquiryStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @RestController
@@ -16,6 +23,9 @@ import java.util.Map;
 public class InquiryController {
 
     private final InquiryService inquiryService;
+    private final InquiryStatsService inquiryStatsService;
+    private final InquiryStatsBackfillService inquiryStatsBackfillService;
+    private final CsvExporter csvExporter;
 
     /**
      * 견적문의 목록 조회 (관리자)
@@ -34,6 +44,36 @@ public class InquiryController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 견적문의 CSV 내보내기 (관리자, 스트리밍, 접수일 from~to 포함)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInquiries(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return csvExporter.stream(inquiryService.inquiryExport(status, from, to));
+    }
+
+    /**
+     * 견적문의 대시보드 집계 조회 (관리자, 기본: 최근 30일)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<InquiryDashboardResponse>> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(inquiryStatsService.getDashboard(from, to)));
+    }
+
+    /**
+     * 견적문의 집계 전체 재계산 (관리자)
+     */
+    @PostMapping("/stats/backfill")
+    public ResponseEntity<ApiResponse<Integer>> backfillStats() {
+        int months = inquiryStatsBackfillService.backfill();
+        return ResponseEntity.ok(ApiResponse.success(months, "견적문의 집계를 재계산했습니다."));
+    }
+
     /**
      * 견적문의 상세 조회 (관리자)
      */
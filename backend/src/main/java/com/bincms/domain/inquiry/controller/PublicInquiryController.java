@@ -2,10 +2,11 @@ package com.bincms.domain.inquiry.controller;
 
 import com.bincms.common.dto.ApiResponse;
 import com.bincms.domain.inquiry.dto.InquiryCreateRequest;
-import com.bincms.domain.inquiry.dto.InquiryResponse;
-import com.bincms.domain.inquiry.service.InquiryService;
+import com.bincms.domain.inquiry.dto.InquiryReceiptResponse;
+import com.bincms.domain.inquiry.service.InquiryIntakeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,15 +15,17 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PublicInquiryController {
 
-    private final InquiryService inquiryService;
+    private final InquiryIntakeService inquiryIntakeService;
 
     /**
      * 견적문의 등록 (비로그인 사용자 가능)
+     * - 접수 대기열에 넣은 뒤 바로 응답하고 저장은 비동기로 처리 (202 Accepted)
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<InquiryResponse>> createInquiry(
+    public ResponseEntity<ApiResponse<InquiryReceiptResponse>> createInquiry(
             @Valid @RequestBody InquiryCreateRequest request) {
-        InquiryResponse response = inquiryService.createInquiry(request);
-        return ResponseEntity.ok(ApiResponse.success(response, "견적문의가 접수되었습니다."));
+        InquiryReceiptResponse response = inquiryIntakeService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "견적문의가 접수되었습니다."));
     }
 }
@@ -0,0 +1,9 @@
+package com.bincms.domain.inquiry.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 견적문의 일자별 접수 건수
+ */
+public record InquiryDailyCount(LocalDate date, Long count) {
+}
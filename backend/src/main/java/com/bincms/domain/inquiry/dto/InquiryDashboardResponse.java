@@ -0,0 +1,29 @@
+package com.bincms.domain.inquiry.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 견적문의 대시보드 응답
+ * - totalByStatus: 전체 기간 상태별 건수
+ * - 나머지: 조회 기간(from ~ to, 접수일 기준) 건수
+ */
+@Getter
+@Builder
+public class InquiryDashboardResponse {
+
+    private long total;
+    private Map<String, Long> totalByStatus;
+
+    private LocalDate from;
+    private LocalDate to;
+    private long periodTotal;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byType;
+    private Map<String, Long> byBudget;
+    private List<InquiryDailyCount> daily;
+}
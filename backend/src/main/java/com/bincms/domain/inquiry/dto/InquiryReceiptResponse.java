@@ -0,0 +1,22 @@
+package com.bincms.domain.inquiry.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 견적문의 접수 응답 (저장은 비동기로 처리되므로 ID 없이 접수 시각만 반환)
+ */
+@Getter
+@Builder
+public class InquiryReceiptResponse {
+
+    private LocalDateTime receivedAt;
+
+    public static InquiryReceiptResponse of(LocalDateTime receivedAt) {
+        return InquiryReceiptResponse.builder()
+                .receivedAt(receivedAt)
+                .build();
+    }
+}
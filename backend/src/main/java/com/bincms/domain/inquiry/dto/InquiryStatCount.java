@@ -0,0 +1,7 @@
+package com.bincms.domain.inquiry.dto;
+
+/**
+ * 견적문의 집계 항목별 건수 (상태/시공 유형/예산 구간)
+ */
+public record InquiryStatCount(String key, Long count) {
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import org.hibernate.annotations.Comment;
 
 @Entity
-@Table(name = "tb_inquiries")
+@Table(name = "tb_inquiries", indexes = {
+        @Index(name = "idx_inquiries_status_id", columnList = "STATUS, id"),
+        @Index(name = "idx_inquiries_reg_dt", columnList = "REG_DT")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
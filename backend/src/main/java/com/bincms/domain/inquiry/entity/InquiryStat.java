@@ -0,0 +1,56 @@
+package com.bincms.domain.inquiry.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+
+/**
+ * 견적문의 집계 엔티티 (증분 롤업)
+ * - 접수일 기준 기간(일/월) × 상태 × 시공 유형 × 예산 구간별 건수
+ * - 저장/상태 변경 시 InquiryRollupWriter가 증감 반영, 이력은 InquiryStatsBackfillService로 재계산
+ */
+@Entity
+@Table(name = "tb_inquiry_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_inquiry_stats_key",
+                columnNames = {"PERIOD_TYPE", "PERIOD_START", "STATUS", "INQUIRY_TYPE", "BUDGET_BAND"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Comment("견적문의 집계")
+public class InquiryStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "STAT_ID")
+    @Comment("집계 ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "PERIOD_TYPE", nullable = false, length = 10)
+    @Comment("집계 단위 (DAY, MONTH)")
+    private InquiryStatPeriod periodType;
+
+    @Column(name = "PERIOD_START", nullable = false)
+    @Comment("기간 시작일 (월별은 1일)")
+    private LocalDate periodStart;
+
+    @Column(name = "STATUS", nullable = false, length = 20)
+    @Comment("처리 상태")
+    private String status;
+
+    @Column(name = "INQUIRY_TYPE", nullable = false, length = 20)
+    @Comment("시공 유형")
+    private String inquiryType;
+
+    @Column(name = "BUDGET_BAND", nullable = false, length = 20)
+    @Comment("예산 구간")
+    private String budgetBand;
+
+    @Column(name = "INQUIRY_COUNT", nullable = false)
+    @Comment("건수")
+    private Long inquiryCount;
+}
@@ -0,0 +1,9 @@
+package com.bincms.domain.inquiry.entity;
+
+/**
+ * 견적문의 집계 단위
+ */
+public enum InquiryStatPeriod {
+    DAY,    // 일별 (기간 조회, 일자별 추이)
+    MONTH   // 월별 (전체 기간 합계)
+}
@@ -0,0 +1,115 @@
+package com.bincms.domain.inquiry.intake;
+
+import com.bincms.common.cache.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 중복 견적문의 감지 (메모리)
+ * - 같은 연락처 + 같은 내용(공백/대소문자 정규화 후 SHA-256)이 window 안에 다시 들어오면 중복으로 판단
+ * - 판정과 등록을 ConcurrentHashMap.compute 한 번으로 처리하여 동시에 들어온 같은 요청 중 하나만 통과
+ * - 만료는 타이밍 휠로 예약, 키 수가 max-keys를 넘으면 감지를 건너뜀 (중복 허용 쪽으로 실패)
+ */
+@Component
+public class DuplicateInquiryDetector {
+
+    private final ConcurrentHashMap<String, Long> seen = new ConcurrentHashMap<>();
+    private final TimingWheel<String> expiryWheel = new TimingWheel<>(Duration.ofSeconds(1), 1024);
+    private final long windowNanos;
+    private final int maxKeys;
+
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+
+    public DuplicateInquiryDetector(@Value("${app.inquiry.duplicate.window:10m}") Duration window,
+                                    @Value("${app.inquiry.duplicate.max-keys:100000}") int maxKeys) {
+        this.windowNanos = window.toNanos();
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 처음 보는 제출이면 등록 후 true, window 안의 중복이면 false
+     */
+    public boolean register(String phone, String content) {
+        if (seen.size() >= maxKeys) {
+            overflows.increment();
+            return true;
+        }
+        String key = key(phone, content);
+        long now = System.nanoTime();
+        long deadline = now + windowNanos;
+        boolean[] first = {false};
+        seen.compute(key, (k, existing) -> {
+            if (existing != null && existing - now > 0) {
+                return existing;
+            }
+            first[0] = true;
+            return deadline;
+        });
+        if (!first[0]) {
+            duplicates.increment();
+            return false;
+        }
+        expiryWheel.schedule(key, deadline);
+        return true;
+    }
+
+    /**
+     * 저장에 실패한 제출은 다시 접수할 수 있도록 등록 해제
+     */
+    public void forget(String phone, String content) {
+        seen.remove(key(phone, content));
+    }
+
+    /**
+     * 만료된 키 제거 (1초 주기로 호출)
+     */
+    public void expire() {
+        expiryWheel.advance(key -> {
+            long now = System.nanoTime();
+            seen.computeIfPresent(key, (k, deadline) -> deadline - now <= 0 ? null : deadline);
+        });
+    }
+
+    public int size() {
+        return seen.size();
+    }
+
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+    /**
+     * 로그용 식별값 (연락처/내용 대신 중복 감지 키의 해시 앞 12자 - 같은 제출이면 같은 값)
+     */
+    public static String fingerprint(String phone, String content) {
+        return sha256(key(phone, content)).substring(0, 12);
+    }
+
+    private static String key(String phone, String content) {
+        String normalizedPhone = phone.replaceAll("[^0-9]", "");
+        String normalizedContent = content.strip().replaceAll("\\s+", " ").toLowerCase();
+        return normalizedPhone + ":" + sha256(normalizedContent);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.bincms.domain.inquiry.intake;
+
+import com.bincms.domain.inquiry.service.InquiryNotificationService;
+import com.bincms.domain.inquiry.stats.InquiryRollupWriter;
+import com.bincms.domain.inquiry.stats.InquiryStatKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 견적문의 배치 저장
+ * - IDENTITY 키 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC batchUpdate로 한 번에 저장
+ * - 저장, 집계(tb_inquiry_stats) 증가, 관리자 알림 메일 적재(TB_MAIL_OUTBOX)를 한 트랜잭션으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class InquiryBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_inquiries
+                (NAME, PHONE, EMAIL, INQUIRY_TYPE, BUDGET, ADDRESS, CONTENT, STATUS, REG_DT, MOD_DT)
+            VALUES
+                (:name, :phone, :email, :inquiryType, :budget, :address, :content, 'PENDING', :submittedAt, :submittedAt)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InquiryRollupWriter inquiryRollupWriter;
+    private final InquiryNotificationService inquiryNotificationService;
+
+    /**
+     * 배치 저장 후 생성된 ID 반환 (입력 순서와 동일)
+     */
+    public List<Long> write(List<InquirySubmission> submissions) {
+        return transactionTemplate.execute(status -> {
+            SqlParameterSource[] params = submissions.stream()
+                    .map(InquiryBatchWriter::toParams)
+                    .toArray(SqlParameterSource[]::new);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+            List<Long> ids = new ArrayList<>(submissions.size());
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                Object key = keys.values().iterator().next();
+                ids.add(((Number) key).longValue());
+            }
+            Map<InquiryStatKey, Long> deltas = new HashMap<>();
+            for (InquirySubmission submission : submissions) {
+                InquiryStatKey key = InquiryStatKey.of(submission.submittedAt().toLocalDate(), "PENDING",
+                        submission.inquiryType(), submission.budget());
+                deltas.merge(key, 1L, Long::sum);
+            }
+            inquiryRollupWriter.apply(deltas);
+
+            inquiryNotificationService.notifyReceived(submissions, ids);
+            return ids;
+        });
+    }
+
+    private static SqlParameterSource toParams(InquirySubmission submission) {
+        return new MapSqlParameterSource()
+                .addValue("name", submission.name())
+                .addValue("phone", submission.phone())
+                .addValue("email", submission.email())
+                .addValue("inquiryType", submission.inquiryType())
+                .addValue("budget", submission.budget())
+                .addValue("address", submission.address())
+                .addValue("content", submission.content())
+                .addValue("submittedAt", submission.submittedAt());
+    }
+}
@@ -0,0 +1,25 @@
+package com.bincms.domain.inquiry.intake;
+
+import com.bincms.domain.inquiry.dto.InquiryCreateRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접수 대기열에 들어가는 견적문의 (검증 완료, 저장 전)
+ */
+public record InquirySubmission(
+        String name,
+        String phone,
+        String email,
+        String inquiryType,
+        String budget,
+        String address,
+        String content,
+        LocalDateTime submittedAt
+) {
+
+    public static InquirySubmission of(InquiryCreateRequest request, LocalDateTime submittedAt) {
+        return new InquirySubmission(request.getName(), request.getPhone(), request.getEmail(),
+                request.getType(), request.getBudget(), request.getAddress(), request.getContent(), submittedAt);
+    }
+}
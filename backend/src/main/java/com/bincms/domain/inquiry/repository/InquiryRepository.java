@@ -1,15 +1,28 @@
 package com.bincms.domain.inquiry.repository;
 
 import com.bincms.domain.inquiry.entity.Inquiry;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
 
     Page<Inquiry> findAllByOrderByIdDesc(Pageable pageable);
 
     Page<Inquiry> findByStatusOrderByIdDesc(String status, Pageable pageable);
+
+    /**
+     * 상태 변경용 조회 (행 잠금, 동시 변경 시 집계 증감이 중복되지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inquiry i WHERE i.id = :id")
+    Optional<Inquiry> findByIdForUpdate(@Param("id") Long id);
 }
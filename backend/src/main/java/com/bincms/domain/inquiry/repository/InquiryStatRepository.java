@@ -0,0 +1,53 @@
+package com.bincms.domain.inquiry.repository;
+
+import com.bincms.domain.inquiry.dto.InquiryDailyCount;
+import com.bincms.domain.inquiry.dto.InquiryStatCount;
+import com.bincms.domain.inquiry.entity.InquiryStat;
+import com.bincms.domain.inquiry.entity.InquiryStatPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 견적문의 집계 Repository
+ * - 모든 조회는 (PERIOD_TYPE, PERIOD_START) 고유 인덱스 범위로 집계 행만 읽음
+ */
+@Repository
+public interface InquiryStatRepository extends JpaRepository<InquiryStat, Long> {
+
+    /**
+     * 전체 기간 상태별 건수 (월별 행)
+     */
+    @Query("SELECT new com.bincms.domain.inquiry.dto.InquiryStatCount(s.status, SUM(s.inquiryCount)) " +
+           "FROM InquiryStat s WHERE s.periodType = com.bincms.domain.inquiry.entity.InquiryStatPeriod.MONTH " +
+           "GROUP BY s.status")
+    List<InquiryStatCount> sumAllByStatus();
+
+    @Query("SELECT new com.bincms.domain.inquiry.dto.InquiryStatCount(s.status, SUM(s.inquiryCount)) " +
+           "FROM InquiryStat s WHERE s.periodType = :period AND s.periodStart BETWEEN :from AND :to " +
+           "GROUP BY s.status")
+    List<InquiryStatCount> sumByStatus(@Param("period") InquiryStatPeriod period,
+                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.bincms.domain.inquiry.dto.InquiryStatCount(s.inquiryType, SUM(s.inquiryCount)) " +
+           "FROM InquiryStat s WHERE s.periodType = :period AND s.periodStart BETWEEN :from AND :to " +
+           "GROUP BY s.inquiryType")
+    List<InquiryStatCount> sumByInquiryType(@Param("period") InquiryStatPeriod period,
+                                            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.bincms.domain.inquiry.dto.InquiryStatCount(s.budgetBand, SUM(s.inquiryCount)) " +
+           "FROM InquiryStat s WHERE s.periodType = :period AND s.periodStart BETWEEN :from AND :to " +
+           "GROUP BY s.budgetBand")
+    List<InquiryStatCount> sumByBudgetBand(@Param("period") InquiryStatPeriod period,
+                                           @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.bincms.domain.inquiry.dto.InquiryDailyCount(s.periodStart, SUM(s.inquiryCount)) " +
+           "FROM InquiryStat s WHERE s.periodType = com.bincms.domain.inquiry.entity.InquiryStatPeriod.DAY " +
+           "AND s.periodStart BETWEEN :from AND :to " +
+           "GROUP BY s.periodStart ORDER BY s.periodStart")
+    List<InquiryDailyCount> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
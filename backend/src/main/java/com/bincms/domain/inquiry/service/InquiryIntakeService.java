@@ -0,0 +1,246 @@
+package com.bincms.domain.inquiry.service;
+
+import com.bincms.common.http.LatencyHistogram;
+import com.bincms.domain.inquiry.dto.InquiryCreateRequest;
+import com.bincms.domain.inquiry.dto.InquiryReceiptResponse;
+import com.bincms.domain.inquiry.intake.DuplicateInquiryDetector;
+import com.bincms.domain.inquiry.intake.InquiryBatchWriter;
+import com.bincms.domain.inquiry.intake.InquirySubmission;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 견적문의 접수 파이프라인
+ * - 요청 스레드는 검증/중복 확인 후 메모리 대기열(bounded)에 넣고 바로 응답 (DB 저장을 기다리지 않음)
+ * - 전용 writer 스레드 하나가 대기열을 batch-size건씩 꺼내 JDBC 배치 INSERT + 관리자 알림 적재
+ * - 대기열이 가득 차면 요청 스레드에서 직접 저장 (유실 대신 해당 요청만 느려짐)
+ * - 종료 시 대기열에 남은 건을 모두 저장한 뒤 DataSource가 닫히도록 SmartLifecycle로 먼저 정지
+ *   (저장 전 프로세스가 강제 종료되면 대기열의 건은 유실되므로 queue-capacity를 과도하게 키우지 않음)
+ */
+@Slf4j
+@Service
+public class InquiryIntakeService implements SmartLifecycle {
+
+    private final InquiryBatchWriter inquiryBatchWriter;
+    private final DuplicateInquiryDetector duplicateInquiryDetector;
+    private final BlockingQueue<InquirySubmission> queue;
+    @Getter
+    private final int queueCapacity;
+    @Getter
+    private final int batchSize;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    private volatile boolean running;
+    /** running 확인과 대기열 적재를 한 번에 (stop 이후에는 대기열에 새로 넣지 않음 → 마지막 drainTo 뒤 유실 방지) */
+    private final ReentrantLock intakeLock = new ReentrantLock();
+    private Thread writerThread;
+
+    @Getter
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder directWrites = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public InquiryIntakeService(InquiryBatchWriter inquiryBatchWriter,
+                                DuplicateInquiryDetector duplicateInquiryDetector,
+                                @Value("${app.inquiry.intake.queue-capacity:1000}") int queueCapacity,
+                                @Value("${app.inquiry.intake.batch-size:100}") int batchSize,
+                                @Value("${app.inquiry.intake.max-retries:3}") int maxRetries,
+                                @Value("${app.inquiry.intake.retry-backoff:1s}") Duration retryBackoff) {
+        this.inquiryBatchWriter = inquiryBatchWriter;
+        this.duplicateInquiryDetector = duplicateInquiryDetector;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * 견적문의 접수 (공개 API)
+     * - 같은 연락처/내용의 중복 제출은 저장하지 않고 동일하게 접수 응답 (재전송 버튼 연타, 새로고침)
+     */
+    public InquiryReceiptResponse submit(InquiryCreateRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!duplicateInquiryDetector.register(request.getPhone(), request.getContent())) {
+            log.info("중복 견적문의 무시 - 지문: {}",
+                    DuplicateInquiryDetector.fingerprint(request.getPhone(), request.getContent()));
+            return InquiryReceiptResponse.of(now);
+        }
+
+        InquirySubmission submission = InquirySubmission.of(request, now);
+        accepted.increment();
+        if (!enqueue(submission)) {
+            // 대기열 포화(또는 종료 중): 요청 스레드에서 직접 저장
+            directWrites.increment();
+            try {
+                writeBatch(List.of(submission));
+            } catch (RuntimeException e) {
+                duplicateInquiryDetector.forget(submission.phone(), submission.content());
+                throw e;
+            }
+        }
+        return InquiryReceiptResponse.of(now);
+    }
+
+    /**
+     * 중복 감지 키 만료 처리
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void expireDuplicateKeys() {
+        duplicateInquiryDetector.expire();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "inquiry-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        intakeLock.lock();
+        try {
+            running = false;
+        } finally {
+            intakeLock.unlock();
+        }
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // writer가 시간 내 끝나지 않았거나 종료 직전에 들어온 건은 호출 스레드에서 저장
+        List<InquirySubmission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            try {
+                writeWithRetry(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                remaining.forEach(this::logLost);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getDirectWrites() {
+        return directWrites.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 실행 중일 때만 대기열에 적재
+     *
+     * @return 적재 여부 (false면 호출 스레드에서 직접 저장)
+     */
+    private boolean enqueue(InquirySubmission submission) {
+        intakeLock.lock();
+        try {
+            return running && queue.offer(submission);
+        } finally {
+            intakeLock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<InquirySubmission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                InquirySubmission first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 일시적인 DB 오류는 간격을 늘려 가며 재시도, 끝내 실패하면 내용을 오류 로그로 남김
+     */
+    private void writeWithRetry(List<InquirySubmission> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeBatch(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > maxRetries) {
+                    log.error("견적문의 {}건 저장 실패 (재시도 {}회 초과)", batch.size(), maxRetries, e);
+                    batch.forEach(this::logLost);
+                    return;
+                }
+                log.warn("견적문의 {}건 저장 실패, 재시도 {}/{}: {}", batch.size(), attempt, maxRetries, e.getMessage());
+                Thread.sleep(retryBackoff.toMillis() << (attempt - 1));
+            }
+        }
+    }
+
+    private void writeBatch(List<InquirySubmission> batch) {
+        long startedAt = System.nanoTime();
+        List<Long> ids = inquiryBatchWriter.write(batch);
+        batchLatency.record(System.nanoTime() - startedAt);
+        batches.increment();
+        written.add(ids.size());
+        log.info("견적문의 {}건 저장 - ID: {}", ids.size(), ids);
+    }
+
+    private void logLost(InquirySubmission submission) {
+        failed.increment();
+        duplicateInquiryDetector.forget(submission.phone(), submission.content());
+        log.error("저장되지 않은 견적문의 - 접수: {}, 유형: {}, 지문: {}", submission.submittedAt(), submission.inquiryType(),
+                DuplicateInquiryDetector.fingerprint(submission.phone(), submission.content()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.bincms.domain.inquiry.service;
+
+import com.bincms.domain.inquiry.intake.InquirySubmission;
+import com.bincms.domain.mail.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 견적문의 관리자 알림
+ * - 저장 배치 단위로 한 통의 요약 메일을 만들어 메일 발송 대기열에 적재 (폭주 시 건당 메일 폭탄 방지)
+ * - 수신자(app.inquiry.notify.recipients)가 비어 있으면 알림 생략
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InquiryNotificationService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int CONTENT_PREVIEW_LENGTH = 200;
+
+    private final MailOutboxService mailOutboxService;
+
+    @Value("${app.inquiry.notify.recipients:}")
+    private List<String> recipients;
+
+    @Value("${app.inquiry.notify.admin-url:}")
+    private String adminUrl;
+
+    /**
+     * 새 견적문의 알림 적재 (호출한 저장 트랜잭션에 참여)
+     */
+    public void notifyReceived(List<InquirySubmission> submissions, List<Long> ids) {
+        if (recipients.isEmpty() || submissions.isEmpty()) {
+            return;
+        }
+        String subject = submissions.size() == 1
+                ? "[BIN INTERIOR] 새 견적문의: " + submissions.get(0).name()
+                : "[BIN INTERIOR] 새 견적문의 " + submissions.size() + "건";
+        String body = buildContent(submissions, ids);
+        for (String recipient : recipients) {
+            if (!recipient.isBlank()) {
+                mailOutboxService.enqueue(recipient.strip(), subject, body);
+            }
+        }
+        log.debug("견적문의 알림 적재: {}건, 수신자 {}명", submissions.size(), recipients.size());
+    }
+
+    private String buildContent(List<InquirySubmission> submissions, List<Long> ids) {
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < submissions.size(); i++) {
+            InquirySubmission s = submissions.get(i);
+            Long id = i < ids.size() ? ids.get(i) : null;
+            rows.append("""
+                    <tr>
+                        <td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td>
+                    </tr>
+                    <tr><td colspan="6" class="content">%s</td></tr>
+                    """.formatted(
+                    id != null ? id : "-",
+                    TIME_FORMAT.format(s.submittedAt()),
+                    escape(s.name()),
+                    escape(s.phone()),
+                    escape(s.inquiryType()),
+                    escape(s.budget()),
+                    escape(preview(s.content()))));
+        }
+        String link = adminUrl.isBlank() ? ""
+                : "<p><a href=\"%s\">관리자 화면에서 확인하기</a></p>".formatted(escape(adminUrl));
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                    <meta charset="UTF-8">
+                    <style>
+                        body { font-family: 'Apple SD Gothic Neo', 'Malgun Gothic', sans-serif; color: #333; }
+                        table { border-collapse: collapse; width: 100%%; font-size: 13px; }
+                        th, td { border: 1px solid #ddd; padding: 6px 8px; text-align: left; }
+                        th { background: #f8f4ee; }
+                        td.content { color: #666; white-space: pre-wrap; }
+                    </style>
+                </head>
+                <body>
+                    <p>새 견적문의 %d건이 접수되었습니다.</p>
+                    <table>
+                        <tr><th>ID</th><th>접수 시각</th><th>이름</th><th>연락처</th><th>시공 유형</th><th>예산</th></tr>
+                        %s
+                    </table>
+                    %s
+                </body>
+                </html>
+                """.formatted(submissions.size(), rows, link);
+    }
+
+    private static String preview(String content) {
+        return content.length() <= CONTENT_PREVIEW_LENGTH ? content
+                : content.substring(0, CONTENT_PREVIEW_LENGTH) + "…";
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : HtmlUtils.htmlEscape(value);
+    }
+}
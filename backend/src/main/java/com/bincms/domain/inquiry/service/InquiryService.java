@@ -1,10 +1,14 @@
 package com.bincms.domain.inquiry.service;
 
 import com.bincms.common.dto.PageResponse;
-import com.bincms.domain.inquiry.dto.InquiryCreateRequest;
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.export.CsvExport;
 import com.bincms.domain.inquiry.dto.InquiryResponse;
 import com.bincms.domain.inquiry.entity.Inquiry;
 import com.bincms.domain.inquiry.repository.InquiryRepository;
+import com.bincms.domain.inquiry.stats.InquiryRollupWriter;
+import com.bincms.domain.inquiry.stats.InquiryStatKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,33 +16,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class InquiryService {
 
     private final InquiryRepository inquiryRepository;
-
-    /**
-     * 견적문의 등록 (공개 API)
-     */
-    @Transactional
-    public InquiryResponse createInquiry(InquiryCreateRequest request) {
-        Inquiry inquiry = Inquiry.builder()
-                .name(request.getName())
-                .phone(request.getPhone())
-                .email(request.getEmail())
-                .inquiryType(request.getType())
-                .budget(request.getBudget())
-                .address(request.getAddress())
-                .content(request.getContent())
-                .status("PENDING")
-                .build();
-
-        Inquiry saved = inquiryRepository.save(inquiry);
-        log.info("새 견적문의 등록 - ID: {}, 이름: {}, 연락처: {}", saved.getId(), saved.getName(), saved.getPhone());
-        return InquiryResponse.from(saved);
-    }
+    private final InquiryRollupWriter inquiryRollupWriter;
 
     /**
      * 견적문의 목록 조회 (관리자)
@@ -62,24 +51,54 @@ public class InquiryService {
         return PageResponse.of(result);
     }
 
+    /**
+     * 견적문의 CSV 내보내기 정의 (상태/접수일 기간 필터, 접수 순)
+     *
+     * @param to 포함 (해당 일자 끝까지)
+     */
+    public CsvExport inquiryExport(String status, LocalDate from, LocalDate to) {
+        StringBuilder where = new StringBuilder("1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (status != null && !status.isBlank()) {
+            where.append(" AND STATUS = ?");
+            args.add(status);
+        }
+        if (from != null) {
+            where.append(" AND REG_DT >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            where.append(" AND REG_DT < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        return CsvExport.of("inquiries",
+                List.of("문의ID", "이름", "연락처", "이메일", "문의유형", "예산", "주소", "내용", "상태", "관리자메모", "접수일시"),
+                "id, NAME, PHONE, EMAIL, INQUIRY_TYPE, BUDGET, ADDRESS, CONTENT, STATUS, ADMIN_MEMO, REG_DT",
+                "tb_inquiries", where.toString(), "id", args);
+    }
+
     /**
      * 견적문의 상세 조회 (관리자)
      */
     @Transactional(readOnly = true)
     public InquiryResponse getInquiry(Long id) {
         Inquiry inquiry = inquiryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("견적문의를 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new BusinessException(ErrorCode.INQUIRY_NOT_FOUND));
         return InquiryResponse.from(inquiry);
     }
 
     /**
      * 견적문의 상태 변경 (관리자)
+     * - 집계(tb_inquiry_stats)에서 접수일 기준 이전 상태 -1, 새 상태 +1
      */
     @Transactional
     public InquiryResponse updateStatus(Long id, String status) {
-        Inquiry inquiry = inquiryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("견적문의를 찾을 수 없습니다. ID: " + id));
+        Inquiry inquiry = inquiryRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INQUIRY_NOT_FOUND));
+        InquiryStatKey statKey = InquiryStatKey.of(inquiry.getRegDt().toLocalDate(), inquiry.getStatus(),
+                inquiry.getInquiryType(), inquiry.getBudget());
         inquiry.updateStatus(status);
+        inquiryRollupWriter.move(statKey, status);
         log.info("견적문의 상태 변경 - ID: {}, 상태: {}", id, status);
         return InquiryResponse.from(inquiry);
     }
@@ -90,7 +109,7 @@ public class InquiryService {
     @Transactional
     public InquiryResponse updateMemo(Long id, String memo) {
         Inquiry inquiry = inquiryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("견적문의를 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new BusinessException(ErrorCode.INQUIRY_NOT_FOUND));
         inquiry.updateAdminMemo(memo);
         return InquiryResponse.from(inquiry);
     }
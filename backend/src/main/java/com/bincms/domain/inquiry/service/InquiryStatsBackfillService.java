@@ -0,0 +1,114 @@
+package com.bincms.domain.inquiry.service;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.domain.inquiry.stats.InquiryRollupWriter;
+import com.bincms.domain.inquiry.stats.InquiryStatKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 견적문의 집계 재계산 (backfill)
+ * - 원본(tb_inquiries)을 월 단위로 GROUP BY 하여 해당 월의 집계 행을 지우고 다시 채움 (월마다 개별 트랜잭션)
+ * - 집계 행 삭제 후 원본을 읽으므로, 재계산 중 들어온 저장/상태 변경은 삭제한 행의 잠금을 기다렸다가 결과 위에 반영됨
+ * - 기동 시 집계 테이블이 비어 있고 원본이 있으면 자동 실행 (롤업 도입 이전 이력)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InquiryStatsBackfillService {
+
+    private static final String DELETE_MONTH = """
+            DELETE FROM tb_inquiry_stats WHERE PERIOD_START >= ? AND PERIOD_START < ?
+            """;
+
+    private static final String AGGREGATE_MONTH = """
+            SELECT CAST(REG_DT AS DATE) AS REG_DATE, STATUS, INQUIRY_TYPE, BUDGET, COUNT(*) AS CNT
+            FROM tb_inquiries
+            WHERE REG_DT >= ? AND REG_DT < ?
+            GROUP BY CAST(REG_DT AS DATE), STATUS, INQUIRY_TYPE, BUDGET
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InquiryRollupWriter inquiryRollupWriter;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 기동 시 집계가 비어 있으면 재계산
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        boolean statsEmpty = jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN EXISTS (SELECT 1 FROM tb_inquiry_stats) THEN 0 ELSE 1 END", Integer.class) == 1;
+        boolean hasInquiries = jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN EXISTS (SELECT 1 FROM tb_inquiries) THEN 1 ELSE 0 END", Integer.class) == 1;
+        if (statsEmpty && hasInquiries) {
+            log.info("견적문의 집계가 비어 있어 재계산을 시작합니다.");
+            backfill();
+        }
+    }
+
+    /**
+     * 전체 기간 재계산
+     *
+     * @return 재계산한 월 수
+     */
+    public int backfill() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "견적문의 집계 재계산이 이미 진행 중입니다.");
+        }
+        try {
+            Timestamp first = jdbcTemplate.queryForObject("SELECT MIN(REG_DT) FROM tb_inquiries", Timestamp.class);
+            if (first == null) {
+                return 0;
+            }
+            YearMonth from = YearMonth.from(first.toLocalDateTime());
+            YearMonth to = YearMonth.now();
+            int months = 0;
+            long total = 0;
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                total += backfillMonth(month);
+                months++;
+            }
+            log.info("견적문의 집계 재계산 완료: {} ~ {}, {}개월, {}건", from, to, months, total);
+            return months;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long backfillMonth(YearMonth month) {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.plusMonths(1).atDay(1);
+        Long count = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(DELETE_MONTH, Date.valueOf(start), Date.valueOf(end));
+
+            Map<InquiryStatKey, Long> deltas = new HashMap<>();
+            jdbcTemplate.query(AGGREGATE_MONTH, rs -> {
+                InquiryStatKey key = InquiryStatKey.of(rs.getDate("REG_DATE").toLocalDate(),
+                        rs.getString("STATUS"), rs.getString("INQUIRY_TYPE"), rs.getString("BUDGET"));
+                deltas.merge(key, rs.getLong("CNT"), Long::sum);
+            }, Timestamp.valueOf(start.atStartOfDay()), Timestamp.valueOf(end.atStartOfDay()));
+            inquiryRollupWriter.apply(deltas);
+            return deltas.values().stream().mapToLong(Long::longValue).sum();
+        });
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bincms.domain.inquiry.service;
+
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.domain.inquiry.dto.InquiryDashboardResponse;
+import com.bincms.domain.inquiry.dto.InquiryStatCount;
+import com.bincms.domain.inquiry.entity.InquiryStatPeriod;
+import com.bincms.domain.inquiry.repository.InquiryStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 견적문의 대시보드 서비스
+ * - 원본(tb_inquiries) 대신 집계(tb_inquiry_stats)만 조회
+ * - 전체 기간 합계는 월별 행, 기간 조회는 일별 행 사용 (최대 max-days일)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InquiryStatsService {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+
+    private final InquiryStatRepository inquiryStatRepository;
+
+    /**
+     * 대시보드 집계 조회 (기본: 최근 30일)
+     */
+    public InquiryDashboardResponse getDashboard(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 시작일부터 " + MAX_DAYS + "일 이내여야 합니다.");
+        }
+
+        Map<String, Long> totalByStatus = toMap(inquiryStatRepository.sumAllByStatus());
+        Map<String, Long> byStatus = toMap(inquiryStatRepository.sumByStatus(InquiryStatPeriod.DAY, start, end));
+
+        return InquiryDashboardResponse.builder()
+                .total(sum(totalByStatus))
+                .totalByStatus(totalByStatus)
+                .from(start)
+                .to(end)
+                .periodTotal(sum(byStatus))
+                .byStatus(byStatus)
+                .byType(toMap(inquiryStatRepository.sumByInquiryType(InquiryStatPeriod.DAY, start, end)))
+                .byBudget(toMap(inquiryStatRepository.sumByBudgetBand(InquiryStatPeriod.DAY, start, end)))
+                .daily(inquiryStatRepository.sumByDay(start, end))
+                .build();
+    }
+
+    private static Map<String, Long> toMap(List<InquiryStatCount> counts) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (InquiryStatCount count : counts) {
+            if (count.count() != null && count.count() != 0) {
+                map.put(count.key(), count.count());
+            }
+        }
+        return map;
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,153 @@
+package com.bincms.domain.inquiry.stats;
+
+import com.bincms.domain.inquiry.entity.InquiryStatPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 견적문의 집계 증감 반영 (tb_inquiry_stats)
+ * - 호출한 트랜잭션에 참여하므로 원본 변경과 집계 변경이 함께 커밋/롤백됨
+ * - 키마다 일별(DAY)/월별(MONTH) 두 행을 갱신
+ * - DB별 upsert 한 문장으로 처리 (MySQL: ON DUPLICATE KEY, PostgreSQL: ON CONFLICT, 그 외: UPDATE 후 없으면 INSERT)
+ * - UPDATE 후 INSERT 방식은 같은 새 키를 동시에 INSERT하면 한쪽이 유일 키 위반으로 실패하므로,
+ *   그때는 먼저 들어간 행이 있다는 뜻이니 UPDATE를 한 번 더 실행
+ * - 키를 정렬된 순서로 갱신하여 동시에 실행되는 트랜잭션끼리 교착 상태가 생기지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InquiryRollupWriter {
+
+    private static final String MYSQL_UPSERT = """
+            INSERT INTO tb_inquiry_stats (PERIOD_TYPE, PERIOD_START, STATUS, INQUIRY_TYPE, BUDGET_BAND, INQUIRY_COUNT)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE INQUIRY_COUNT = INQUIRY_COUNT + VALUES(INQUIRY_COUNT)
+            """;
+
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO tb_inquiry_stats (PERIOD_TYPE, PERIOD_START, STATUS, INQUIRY_TYPE, BUDGET_BAND, INQUIRY_COUNT)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (PERIOD_TYPE, PERIOD_START, STATUS, INQUIRY_TYPE, BUDGET_BAND)
+            DO UPDATE SET INQUIRY_COUNT = tb_inquiry_stats.INQUIRY_COUNT + EXCLUDED.INQUIRY_COUNT
+            """;
+
+    private static final String UPDATE = """
+            UPDATE tb_inquiry_stats SET INQUIRY_COUNT = INQUIRY_COUNT + ?
+            WHERE PERIOD_TYPE = ? AND PERIOD_START = ? AND STATUS = ? AND INQUIRY_TYPE = ? AND BUDGET_BAND = ?
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO tb_inquiry_stats (PERIOD_TYPE, PERIOD_START, STATUS, INQUIRY_TYPE, BUDGET_BAND, INQUIRY_COUNT)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+    private volatile boolean upsertResolved;
+
+    /**
+     * 단건 증감
+     */
+    public void increment(InquiryStatKey key, long delta) {
+        apply(Map.of(key, delta));
+    }
+
+    /**
+     * 상태 변경 반영 (이전 상태 -1, 새 상태 +1)
+     */
+    public void move(InquiryStatKey from, String newStatus) {
+        if (from.status().equals(newStatus)) {
+            return;
+        }
+        apply(Map.of(from, -1L, from.withStatus(newStatus), 1L));
+    }
+
+    /**
+     * 여러 키의 증감을 한 번에 반영
+     */
+    public void apply(Map<InquiryStatKey, Long> deltas) {
+        // 일별/월별 행으로 펼친 뒤 정렬 (같은 월의 여러 일자는 월별 행 하나로 합산)
+        TreeMap<Row, Long> rows = new TreeMap<>();
+        deltas.forEach((key, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            rows.merge(Row.of(InquiryStatPeriod.DAY, key.date(), key), delta, Long::sum);
+            rows.merge(Row.of(InquiryStatPeriod.MONTH, key.date().withDayOfMonth(1), key), delta, Long::sum);
+        });
+        rows.values().removeIf(delta -> delta == 0);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        String sql = resolveUpsertSql();
+        if (sql != null) {
+            List<Object[]> args = new ArrayList<>(rows.size());
+            rows.forEach((row, delta) -> args.add(new Object[]{
+                    row.period.name(), Date.valueOf(row.periodStart), row.key.status(), row.key.inquiryType(),
+                    row.key.budgetBand(), delta}));
+            jdbcTemplate.batchUpdate(sql, args);
+            return;
+        }
+
+        rows.forEach((row, delta) -> {
+            int updated = jdbcTemplate.update(UPDATE, delta, row.period.name(), Date.valueOf(row.periodStart),
+                    row.key.status(), row.key.inquiryType(), row.key.budgetBand());
+            if (updated == 0) {
+                insertOrUpdate(row, delta);
+            }
+        });
+    }
+
+    private void insertOrUpdate(Row row, long delta) {
+        try {
+            jdbcTemplate.update(INSERT, row.period.name(), Date.valueOf(row.periodStart),
+                    row.key.status(), row.key.inquiryType(), row.key.budgetBand(), delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE, delta, row.period.name(), Date.valueOf(row.periodStart),
+                    row.key.status(), row.key.inquiryType(), row.key.budgetBand());
+        }
+    }
+
+    private String resolveUpsertSql() {
+        if (!upsertResolved) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (product != null && (product.contains("MySQL") || product.contains("MariaDB"))) {
+                upsertSql = MYSQL_UPSERT;
+            } else if (product != null && product.contains("PostgreSQL")) {
+                upsertSql = POSTGRES_UPSERT;
+            }
+            upsertResolved = true;
+            log.debug("견적문의 집계 upsert 방식: product={}, upsert={}", product, upsertSql != null);
+        }
+        return upsertSql;
+    }
+
+    private record Row(InquiryStatPeriod period, LocalDate periodStart, InquiryStatKey key) implements Comparable<Row> {
+
+        static Row of(InquiryStatPeriod period, LocalDate periodStart, InquiryStatKey key) {
+            // 월별 행은 일자 구분이 없으므로 키의 날짜도 기간 시작일로 맞춤
+            return new Row(period, periodStart, new InquiryStatKey(periodStart, key.status(), key.inquiryType(),
+                    key.budgetBand()));
+        }
+
+        @Override
+        public int compareTo(Row other) {
+            int byPeriod = period.compareTo(other.period);
+            return byPeriod != 0 ? byPeriod : key.compareTo(other.key);
+        }
+    }
+}
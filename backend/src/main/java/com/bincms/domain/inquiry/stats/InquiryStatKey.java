@@ -0,0 +1,47 @@
+package com.bincms.domain.inquiry.stats;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * 견적문의 집계 키 (접수일 × 상태 × 시공 유형 × 예산 구간)
+ * - 예산은 사용자 화면의 선택지 코드만 그대로 쓰고, 비어 있으면 none, 그 외 값은 other로 묶음
+ */
+public record InquiryStatKey(LocalDate date, String status, String inquiryType, String budgetBand)
+        implements Comparable<InquiryStatKey> {
+
+    public static final String BUDGET_NONE = "none";
+    public static final String BUDGET_OTHER = "other";
+
+    private static final Set<String> BUDGET_BANDS = Set.of("under1000", "1000-3000", "3000-5000", "over5000", "consult");
+
+    private static final Comparator<InquiryStatKey> ORDER = Comparator
+            .comparing(InquiryStatKey::date)
+            .thenComparing(InquiryStatKey::status)
+            .thenComparing(InquiryStatKey::inquiryType)
+            .thenComparing(InquiryStatKey::budgetBand);
+
+    public static InquiryStatKey of(LocalDate date, String status, String inquiryType, String budget) {
+        return new InquiryStatKey(date, status, inquiryType, budgetBand(budget));
+    }
+
+    public static String budgetBand(String budget) {
+        if (budget == null || budget.isBlank()) {
+            return BUDGET_NONE;
+        }
+        return BUDGET_BANDS.contains(budget) ? budget : BUDGET_OTHER;
+    }
+
+    /**
+     * 같은 건을 다른 상태로 옮긴 키
+     */
+    public InquiryStatKey withStatus(String newStatus) {
+        return new InquiryStatKey(date, newStatus, inquiryType, budgetBand);
+    }
+
+    @Override
+    public int compareTo(InquiryStatKey other) {
+        return ORDER.compare(this, other);
+    }
+}
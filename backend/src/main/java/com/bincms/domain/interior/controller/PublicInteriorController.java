@@ -2,6 +2,8 @@ package com.bincms.domain.interior.controller;
 
 import com.bincms.common.dto.ApiResponse;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.web.HttpCaching;
+import com.bincms.common.web.SerializedResponseCache;
 import com.bincms.domain.interior.dto.InteriorResponse;
 import com.bincms.domain.interior.entity.InteriorCategory;
 import com.bincms.domain.interior.service.InteriorService;
@@ -10,10 +12,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
 
 /**
  * 사용자 화면용 인테리어 Public API
  * - 인증 불필요
+ * - 목록은 ETag(MOD_DT, 조회수 합계 기반) 조건부 GET 지원
  */
 @RestController
 @RequestMapping("/api/v1/public/interiors")
@@ -21,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class PublicInteriorController {
 
     private final InteriorService interiorService;
+    private final SerializedResponseCache serializedResponseCache;
 
     /**
      * 카테고리별 인테리어 목록 조회
@@ -29,19 +36,43 @@ public class PublicInteriorController {
     public ResponseEntity<ApiResponse<PageResponse<InteriorResponse>>> getByCategory(
             @PathVariable InteriorCategory category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            ServletWebRequest webRequest) {
+
+        String eTag = HttpCaching.eTag("interiors", interiorService.getCategoryVersion(category));
+        if (HttpCaching.checkNotModified(webRequest, eTag, HttpCaching.REVALIDATE)) {
+            return null;
+        }
 
         Pageable pageable = PageRequest.of(page, size);
         PageResponse<InteriorResponse> result = interiorService.getByCategory(category, pageable);
-        return ResponseEntity.ok(ApiResponse.success(result));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.REVALIDATE)
+                .body(ApiResponse.success(result));
     }
 
     /**
      * 인테리어 상세 조회 (조회수 증가)
+     * - 조회수가 요청마다 바뀌므로 조건부 GET(304) 없이 항상 현재 조회수로 응답
+     * - 버전(MOD_DT)이 같으면 캐시된 직렬화(gzip) 본문에 현재 조회수만 넣어 응답
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<InteriorResponse>> getById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getById(@PathVariable Long id,
+                                          ServletWebRequest webRequest) {
+        LocalDateTime version = interiorService.getInteriorVersion(id);
+        if (version != null) {
+            ResponseEntity<byte[]> cached = serializedResponseCache.cached(webRequest, "interior:" + id,
+                    HttpCaching.eTag("interior", version), HttpCaching.REVALIDATE,
+                    () -> interiorService.increaseViewCount(id));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         InteriorResponse interior = interiorService.getById(id);
-        return ResponseEntity.ok(ApiResponse.success(interior));
+        return serializedResponseCache.serialize(webRequest, "interior:" + id,
+                HttpCaching.eTag("interior", interior.getModDt()), HttpCaching.REVALIDATE, interior.getViewCount(),
+                viewCount -> ApiResponse.success(interior.toBuilder().viewCount(viewCount).build()));
     }
 }
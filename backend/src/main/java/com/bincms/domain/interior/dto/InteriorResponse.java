@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  * 인테리어 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class InteriorResponse {
     
     private Long id;
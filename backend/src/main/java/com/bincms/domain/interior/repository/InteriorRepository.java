@@ -1,13 +1,19 @@
 package com.bincms.domain.interior.repository;
 
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.domain.interior.entity.Interior;
 import com.bincms.domain.interior.entity.InteriorCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * 인테리어 Repository
@@ -36,4 +42,19 @@ public interface InteriorRepository extends JpaRepository<Interior, Long> {
             @Param("useYn") String useYn,
             @Param("keyword") String keyword,
             Pageable pageable);
+    
+    /**
+     * 조회수 1 증가 (엔티티 로딩 없이 단일 UPDATE, MOD_DT 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Interior i SET i.viewCount = i.viewCount + :delta WHERE i.id = :id")
+    int addViewCount(@Param("id") Long id, @Param("delta") long delta);
+    
+    @Query("SELECT i.modDt FROM Interior i WHERE i.id = :id")
+    Optional<LocalDateTime> findModDtById(@Param("id") Long id);
+    
+    @Query("SELECT new com.bincms.common.dto.VersionStamp(MAX(i.modDt), COUNT(i), SUM(i.id), SUM(i.viewCount)) " +
+           "FROM Interior i WHERE i.category = :category")
+    VersionStamp findVersionStampByCategory(@Param("category") InteriorCategory category);
 }
@@ -1,6 +1,8 @@
 package com.bincms.domain.interior.service;
 
+import com.bincms.common.cache.ViewCountBuffer;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
 import com.bincms.domain.interior.dto.InteriorCreateRequest;
@@ -9,12 +11,17 @@ import com.bincms.domain.interior.dto.InteriorUpdateRequest;
 import com.bincms.domain.interior.entity.Interior;
 import com.bincms.domain.interior.entity.InteriorCategory;
 import com.bincms.domain.interior.repository.InteriorRepository;
+import com.bincms.domain.trending.entity.TrendingItemType;
+import com.bincms.domain.trending.service.TrendingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 /**
  * 인테리어 서비스
  */
@@ -24,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class InteriorService {
     
     private final InteriorRepository interiorRepository;
+    private final TrendingService trendingService;
+    private final ViewCountBuffer<Long> interiorViewCounts;
     
     @Transactional
     public InteriorResponse create(InteriorCreateRequest request) {
@@ -60,12 +69,51 @@ public class InteriorService {
         return PageResponse.of(page.map(InteriorResponse::from));
     }
     
-    @Transactional
+    /**
+     * 상세 조회
+     * - 조회수는 interiorViewCounts에 기록 (DB 반영은 ViewCountFlusher, MOD_DT 유지)
+     * - 로딩한 DB 값으로 기준값을 맞춘 뒤 기록하므로 응답의 조회수에는 이번 조회가 포함됨
+     */
     public InteriorResponse getById(Long id) {
         Interior interior = interiorRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INTERIOR_NOT_FOUND));
-        interior.increaseViewCount();
-        return InteriorResponse.from(interior);
+        interiorViewCounts.seed(id, interior.getViewCount());
+        Long viewCount = interiorViewCounts.increment(id);
+        if ("Y".equals(interior.getUseYn())) {
+            trendingService.recordView(TrendingService.INTERIOR_SCOPE, TrendingItemType.INTERIOR, id,
+                    interior.getTitle());
+        }
+        return InteriorResponse.from(interior).toBuilder().viewCount(viewCount).build();
+    }
+    
+    /**
+     * 상세 버전 (ETag 검증용), 없으면 null
+     */
+    public LocalDateTime getInteriorVersion(Long id) {
+        return interiorRepository.findModDtById(id).orElse(null);
+    }
+    
+    /**
+     * 카테고리 목록 버전 (ETag 검증용)
+     */
+    public VersionStamp getCategoryVersion(InteriorCategory category) {
+        return interiorRepository.findVersionStampByCategory(category);
+    }
+    
+    /**
+     * 조회수만 증가 (캐시된 직렬화 본문 응답 시), 현재 조회수 반환
+     * - 기준값이 없으면 DB 값으로 맞춤
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long increaseViewCount(Long id) {
+        Long viewCount = interiorViewCounts.increment(id);
+        trendingService.recordViewIfTracked(TrendingItemType.INTERIOR, id);
+        if (viewCount != null) {
+            return viewCount;
+        }
+        return interiorRepository.findById(id)
+                .map(interior -> interiorViewCounts.seed(id, interior.getViewCount()))
+                .orElse(null);
     }
     
     @Transactional
@@ -74,6 +122,7 @@ public class InteriorService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.INTERIOR_NOT_FOUND));
         interior.update(request.getTitle(), request.getContent(),
                 request.getThumbnailUrl(), request.getSortOrder());
+        trendingService.rename(TrendingItemType.INTERIOR, id, interior.getTitle());
         return InteriorResponse.from(interior);
     }
     
@@ -82,5 +131,6 @@ public class InteriorService {
         Interior interior = interiorRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INTERIOR_NOT_FOUND));
         interior.deactivate();
+        trendingService.remove(TrendingItemType.INTERIOR, id);
     }
 }
@@ -0,0 +1,87 @@
+package com.bincms.domain.mail.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열(outbox) 엔티티
+ * - 업무 트랜잭션 안에서 함께 저장되고, 커밋 후 MailOutboxDispatcher가 비동기로 발송
+ * - 발송 시도 중인 건은 NEXT_ATTEMPT_AT을 임대 만료 시각으로 미뤄 두어 다른 노드/다음 주기가 중복 발송하지 않음
+ */
+@Entity
+@Table(name = "TB_MAIL_OUTBOX", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "STATUS, NEXT_ATTEMPT_AT"),
+        @Index(name = "idx_mail_outbox_claim_token", columnList = "CLAIM_TOKEN"),
+        @Index(name = "idx_mail_outbox_reg_dt", columnList = "REG_DT")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "MAIL_ID")
+    @Comment("메일 ID")
+    private Long id;
+
+    @Column(name = "RECIPIENT", nullable = false, length = 100)
+    @Comment("수신자 이메일")
+    private String recipient;
+
+    @Column(name = "SUBJECT", nullable = false, length = 200)
+    @Comment("제목")
+    private String subject;
+
+    @Column(name = "BODY", nullable = false, columnDefinition = "TEXT")
+    @Comment("본문 (HTML)")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 20)
+    @Comment("상태 (PENDING, SENT, FAILED)")
+    private MailOutboxStatus status;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    @Comment("발송 시도 횟수")
+    private Integer attempts;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    @Comment("다음 발송 가능 시각 (발송 중에는 임대 만료 시각)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "CLAIM_TOKEN", length = 36)
+    @Comment("발송 임대 토큰")
+    private String claimToken;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    @Comment("마지막 발송 오류")
+    private String lastError;
+
+    @Column(name = "SENT_AT")
+    @Comment("발송 완료 시각")
+    private LocalDateTime sentAt;
+
+    @CreatedDate
+    @Column(name = "REG_DT", nullable = false, updatable = false)
+    @Comment("등록일시")
+    private LocalDateTime regDt;
+
+    @Builder
+    public MailOutbox(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.bincms.domain.mail.entity;
+
+/**
+ * 메일 발송 대기열 상태
+ */
+public enum MailOutboxStatus {
+    PENDING,  // 발송 대기 (재시도 대기 포함)
+    SENT,     // 발송 완료
+    FAILED    // 최대 재시도 초과로 발송 포기
+}
@@ -0,0 +1,77 @@
+package com.bincms.domain.mail.repository;
+
+import com.bincms.domain.mail.entity.MailOutbox;
+import com.bincms.domain.mail.entity.MailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메일 발송 대기열 Repository
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 지금 발송 가능한 대기 건 ID 조회 (오래된 순)
+     */
+    @Query("SELECT m.id FROM MailOutbox m " +
+           "WHERE m.status = com.bincms.domain.mail.entity.MailOutboxStatus.PENDING AND m.nextAttemptAt <= :now " +
+           "ORDER BY m.nextAttemptAt, m.id")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송 임대 획득
+     * - 조회 이후 다른 노드가 먼저 가져간 건은 조건(NEXT_ATTEMPT_AT <= now)에서 제외되어 갱신되지 않음
+     * - 임대 만료 시각까지 NEXT_ATTEMPT_AT을 미뤄 두므로, 발송 도중 종료되어도 만료 후 다시 발송됨
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.claimToken = :token, m.nextAttemptAt = :leaseUntil, m.attempts = m.attempts + 1 " +
+           "WHERE m.id IN :ids AND m.status = com.bincms.domain.mail.entity.MailOutboxStatus.PENDING " +
+           "AND m.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 임대 토큰으로 획득한 건 조회
+     */
+    List<MailOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    /**
+     * 발송 완료 처리 (임대 토큰이 그대로인 건만 - 임대 만료 후 다른 노드가 다시 가져간 건은 갱신하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.bincms.domain.mail.entity.MailOutboxStatus.SENT, " +
+           "m.sentAt = :sentAt, m.claimToken = NULL, m.lastError = NULL " +
+           "WHERE m.id IN :ids AND m.claimToken = :claimToken")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발송 실패 처리 (재시도 예약 또는 포기, 임대 토큰이 그대로인 건만)
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.nextAttemptAt = :nextAttemptAt, " +
+           "m.claimToken = NULL, m.lastError = :lastError WHERE m.id = :id AND m.claimToken = :claimToken")
+    int markFailed(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("status") MailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    /**
+     * 상태별 건수
+     */
+    long countByStatus(MailOutboxStatus status);
+
+    /**
+     * 기준 시각 이전에 처리가 끝난(발송 완료/포기) 건 ID 조회 (배치 삭제용)
+     */
+    @Query("SELECT m.id FROM MailOutbox m " +
+           "WHERE m.status <> com.bincms.domain.mail.entity.MailOutboxStatus.PENDING AND m.regDt < :cutoff ORDER BY m.id")
+    List<Long> findFinishedIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
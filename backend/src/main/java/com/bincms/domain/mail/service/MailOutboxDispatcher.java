@@ -0,0 +1,325 @@
+package com.bincms.domain.mail.service;
+
+import com.bincms.common.http.LatencyHistogram;
+import com.bincms.domain.mail.entity.MailOutbox;
+import com.bincms.domain.mail.entity.MailOutboxStatus;
+import com.bincms.domain.mail.repository.MailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 발송 대기열(TB_MAIL_OUTBOX) 발송기
+ * - 업무 트랜잭션 커밋 직후(wakeUp) 또는 주기적 폴링으로 깨어나 대기 건을 batch-size건씩 발송
+ * - 한 배치는 SMTP 연결 하나로 전송 (JavaMailSender.send(MimeMessage...)가 배치 동안 Transport를 재사용)
+ * - 실패 건은 지수 백오프(initial-backoff × 2^(시도-1), 최대 max-backoff)로 재시도, max-attempts 초과 시 FAILED
+ * - 발송은 메일 전용 플랫폼 스레드 풀(mailSendExecutor)에서 한 번에 하나의 드레인 루프만 실행
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor mailSendExecutor;
+
+    private final String fromEmail;
+    private final String fromName;
+    @Getter
+    private final int batchSize;
+    @Getter
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    @Getter
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender mailSender,
+                                TransactionTemplate transactionTemplate,
+                                ThreadPoolTaskExecutor mailSendExecutor,
+                                @Value("${app.mail.from}") String fromEmail,
+                                @Value("${app.mail.from-name}") String fromName,
+                                @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                                @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+                                @Value("${app.mail.outbox.initial-backoff:10s}") Duration initialBackoff,
+                                @Value("${app.mail.outbox.max-backoff:30m}") Duration maxBackoff,
+                                @Value("${app.mail.outbox.lease:5m}") Duration lease,
+                                @Value("${app.mail.outbox.retention:1d}") Duration retention) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.mailSendExecutor = mailSendExecutor;
+        this.fromEmail = fromEmail;
+        this.fromName = fromName;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+    }
+
+    /**
+     * 발송 요청 (커밋 후 호출)
+     * - 이미 드레인 중이면 한 번 더 돌도록 표시만 하고 반환
+     * - 스레드 풀이 가득 차 거절되면 다음 폴링 주기에 발송
+     */
+    public void wakeUp() {
+        wakeRequested.set(true);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            mailSendExecutor.execute(this::drainLoop);
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("메일 발송 스레드 풀 포화, 다음 폴링 주기에 발송");
+        }
+    }
+
+    /**
+     * 주기적 폴링 (재시도 예약 건, 커밋 후 깨우기에 실패한 건, 다른 노드에서 적재한 건)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:10000}", initialDelay = 10000)
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 처리가 끝난(발송 완료/포기) 건을 보존 기간 이후 배치 삭제 (본문에 인증 코드 등이 남지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-interval-ms:3600000}", initialDelay = 60000)
+    public void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = mailOutboxRepository.findFinishedIds(cutoff, PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    mailOutboxRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("처리 완료된 메일 대기열 {}건 삭제 (기준: {})", total, cutoff);
+        }
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getRetried() {
+        return retried.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public long countByStatus(MailOutboxStatus status) {
+        return mailOutboxRepository.countByStatus(status);
+    }
+
+    private void drainLoop() {
+        try {
+            do {
+                wakeRequested.set(false);
+                while (dispatchBatch() == batchSize) {
+                    // 가득 찬 배치면 남은 건이 더 있을 수 있으므로 계속
+                }
+            } while (wakeRequested.get());
+        } catch (RuntimeException e) {
+            log.error("메일 대기열 발송 중 오류", e);
+        } finally {
+            running.set(false);
+        }
+        // 루프 종료와 running 해제 사이에 들어온 요청 처리
+        if (wakeRequested.get()) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 한 배치 발송
+     * - 임대 획득(짧은 트랜잭션) → SMTP 전송(트랜잭션 없음) → 결과 반영(짧은 트랜잭션)
+     *
+     * @return 임대를 획득한 건수
+     */
+    private int dispatchBatch() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = mailOutboxRepository.findDispatchableIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            mailOutboxRepository.claim(ids, token, now, now.plus(lease));
+            return mailOutboxRepository.findByClaimTokenOrderByIdAsc(token);
+        });
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<MailOutbox, Exception> failures = send(claimed);
+        batchLatency.record(System.nanoTime() - startedAt);
+        batches.increment();
+
+        List<Long> sentIds = new ArrayList<>(claimed.size());
+        for (MailOutbox mail : claimed) {
+            if (!failures.containsKey(mail)) {
+                sentIds.add(mail.getId());
+            }
+        }
+        LocalDateTime completedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                int marked = mailOutboxRepository.markSent(sentIds, token, completedAt);
+                if (marked < sentIds.size()) {
+                    // 발송 도중 임대가 만료되어 다른 노드가 다시 가져간 건 - 그쪽 결과를 덮어쓰지 않음
+                    log.warn("메일 발송 임대 만료: 발송 완료 {}건 중 {}건은 다른 발송기가 다시 가져감",
+                            sentIds.size(), sentIds.size() - marked);
+                }
+            }
+            failures.forEach((mail, e) -> markFailed(mail, token, e, completedAt));
+        });
+        sent.add(sentIds.size());
+        return claimed.size();
+    }
+
+    /**
+     * SMTP 전송 (연결 하나로 배치 전체 전송)
+     *
+     * @return 실패한 건과 원인
+     */
+    private Map<MailOutbox, Exception> send(List<MailOutbox> mails) {
+        Map<MailOutbox, Exception> failures = new LinkedHashMap<>();
+        Map<MimeMessage, MailOutbox> messages = new LinkedHashMap<>();
+        for (MailOutbox mail : mails) {
+            try {
+                messages.put(toMimeMessage(mail), mail);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                failures.put(mail, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // 연결 실패 시에는 모든 메시지가, 개별 전송 실패 시에는 해당 메시지만 담겨 있음
+            e.getFailedMessages().forEach((message, cause) -> {
+                MailOutbox mail = messages.get(message);
+                if (mail != null) {
+                    failures.put(mail, cause);
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(mail -> failures.put(mail, e));
+            }
+        } catch (MailException e) {
+            messages.values().forEach(mail -> failures.put(mail, e));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setFrom(fromEmail, fromName);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), true);
+        return mimeMessage;
+    }
+
+    private void markFailed(MailOutbox mail, String token, Exception e, LocalDateTime now) {
+        String error = abbreviate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        // attempts는 임대 획득 시 이미 증가된 값
+        if (mail.getAttempts() >= maxAttempts) {
+            if (mailOutboxRepository.markFailed(mail.getId(), token, MailOutboxStatus.FAILED, now, error) == 0) {
+                log.warn("메일 발송 임대 만료, 실패 처리 생략: id={}", mail.getId());
+                return;
+            }
+            failed.increment();
+            log.error("메일 발송 포기: id={}, to={}, attempts={}, error={}",
+                    mail.getId(), mail.getRecipient(), mail.getAttempts(), error);
+            return;
+        }
+        LocalDateTime nextAttemptAt = now.plus(backoff(mail.getAttempts()));
+        if (mailOutboxRepository.markFailed(mail.getId(), token, MailOutboxStatus.PENDING, nextAttemptAt, error) == 0) {
+            log.warn("메일 발송 임대 만료, 재시도 예약 생략: id={}", mail.getId());
+            return;
+        }
+        retried.increment();
+        log.warn("메일 발송 실패, 재시도 예약: id={}, to={}, attempts={}, next={}, error={}",
+                mail.getId(), mail.getRecipient(), mail.getAttempts(), nextAttemptAt, error);
+    }
+
+    /**
+     * 지수 백오프 + 최대 20% 지터 (SMTP 장애 복구 직후 재시도가 한꺼번에 몰리지 않도록)
+     */
+    private Duration backoff(int attempts) {
+        long baseMillis = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long delayMillis = Math.min(baseMillis, maxBackoff.toMillis());
+        return Duration.ofMillis(delayMillis + ThreadLocalRandom.current().nextLong(delayMillis / 5 + 1));
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
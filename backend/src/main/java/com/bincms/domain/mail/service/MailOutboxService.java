@@ -0,0 +1,47 @@
+package com.bincms.domain.mail.service;
+
+import com.bincms.domain.mail.entity.MailOutbox;
+import com.bincms.domain.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메일 발송 대기열 적재 서비스
+ * - 호출한 업무 트랜잭션 안에서 TB_MAIL_OUTBOX에 저장하고, 커밋된 뒤에만 발송기를 깨움
+ * - 업무 트랜잭션이 롤백되면 메일도 발송되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    /**
+     * 메일 발송 예약
+     */
+    @Transactional
+    public Long enqueue(String recipient, String subject, String body) {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailOutboxDispatcher.wakeUp();
+                }
+            });
+        } else {
+            mailOutboxDispatcher.wakeUp();
+        }
+        return mail.getId();
+    }
+}
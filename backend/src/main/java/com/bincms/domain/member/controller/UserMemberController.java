@@ -1,7 +1,10 @@
 package com.bincms.domain.member.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.dto.BulkActionResponse;
+import com.bincms.common.dto.BulkIdsRequest;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.export.CsvExporter;
 import com.bincms.domain.member.dto.*;
 import com.bincms.domain.member.service.MemberService;
 import jakarta.validation.Valid;
@@ -9,7 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 사용자 회원 관리 컨트롤러 (관리자용)
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserMemberController {
     
     private final MemberService memberService;
+    private final CsvExporter csvExporter;
     
     /**
      * 사용자 회원 목록 조회
@@ -37,6 +43,17 @@ public class UserMemberController {
         return ApiResponse.success(PageResponse.of(result));
     }
     
+    /**
+     * 사용자 회원 CSV 내보내기 (목록과 같은 검색/필터, 스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUserMembers(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String provider,
+            @RequestParam(required = false) Boolean active) {
+        return csvExporter.stream(memberService.userMemberExport(keyword, provider, active));
+    }
+    
     /**
      * 사용자 회원 상세 조회
      */
@@ -77,6 +94,15 @@ public class UserMemberController {
         return ApiResponse.success(null, "사용자가 차단되었습니다.");
     }
     
+    /**
+     * 사용자 일괄 차단 (항목별 처리 결과 반환)
+     */
+    @PatchMapping("/bulk-deactivate")
+    public ApiResponse<BulkActionResponse> deactivateUsers(@Valid @RequestBody BulkIdsRequest request) {
+        BulkActionResponse response = memberService.deactivateUserMembers(request.getIds());
+        return ApiResponse.success(response, response.getUpdated() + "명의 사용자가 차단되었습니다.");
+    }
+    
     /**
      * 사용자 차단해제
      */
@@ -4,10 +4,12 @@ import com.bincms.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -76,4 +78,25 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
                                  @Param("provider") String provider,
                                  @Param("active") Boolean active,
                                  Pageable pageable);
+    
+    // ==================== 관리자 일괄 처리 ====================
+    
+    /**
+     * 일괄 비활성화 대상 (활성 상태인 USER 역할 회원만, 관리자 계정은 제외)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids AND m.active = true AND m.role.roleCode = 'USER'")
+    List<Long> findActiveUserIdsByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") List<Long> ids);
+    
+    /**
+     * 일괄 비활성화 (엔티티 로딩 없이 단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.active = false, m.modDt = :modDt, m.modNo = :modNo " +
+           "WHERE m.id IN :ids AND m.active = true")
+    int deactivateAllByIdIn(@Param("ids") List<Long> ids,
+                            @Param("modDt") LocalDateTime modDt,
+                            @Param("modNo") String modNo);
 }
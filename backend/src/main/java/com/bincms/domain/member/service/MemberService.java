@@ -1,21 +1,28 @@
 package com.bincms.domain.member.service;
 
+import com.bincms.common.db.BulkUpdateExecutor;
+import com.bincms.common.dto.BulkActionResponse;
 import com.bincms.common.exception.BusinessException;
+import com.bincms.common.export.CsvExport;
 import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.ratelimit.RateLimiter;
 import com.bincms.common.security.JwtTokenProvider;
+import com.bincms.common.security.PasswordHashingService;
 import com.bincms.domain.email.service.EmailService;
 import com.bincms.domain.member.dto.*;
 import com.bincms.domain.member.entity.Member;
 import com.bincms.domain.member.repository.MemberRepository;
 import com.bincms.domain.role.entity.Role;
 import com.bincms.domain.role.service.RoleService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,10 +34,13 @@ import java.util.List;
 public class MemberService {
     
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final RateLimiter loginIdRateLimiter;
     private final JwtTokenProvider jwtTokenProvider;
     private final RoleService roleService;
     private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+    private final BulkUpdateExecutor bulkUpdateExecutor;
     
     /**
      * 회원가입 (이메일 인증 기반)
@@ -61,7 +71,7 @@ public class MemberService {
         Member member = Member.builder()
                 .loginId(request.getLoginId())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .name(request.getName())
                 .phoneNumber(request.getPhoneNumber())
                 .role(userRole)
@@ -111,7 +121,7 @@ public class MemberService {
                     member = Member.builder()
                             .loginId(loginId)
                             .email(email)
-                            .password(passwordEncoder.encode(java.util.UUID.randomUUID().toString()))
+                            .password(passwordHashingService.unusablePassword())
                             .name(name != null ? name : "사용자")
                             .role(userRole)
                             .provider(provider)
@@ -144,6 +154,27 @@ public class MemberService {
      */
     @Transactional
     public LoginResponse login(LoginRequest request) {
+        try {
+            LoginResponse response = authenticate(request);
+            countLogin("success", "none");
+            return response;
+        } catch (BusinessException e) {
+            countLogin("failure", e.getErrorCode().name().toLowerCase());
+            throw e;
+        }
+    }
+    
+    /**
+     * 로그인 시도 메트릭 (bincms.auth.logins{result, reason}, reason은 ErrorCode로 한정)
+     */
+    private void countLogin(String result, String reason) {
+        meterRegistry.counter("bincms.auth.logins", "result", result, "reason", reason).increment();
+    }
+    
+    private LoginResponse authenticate(LoginRequest request) {
+        // 로그인 ID 단위 시도 횟수 제한 (IP 단위 제한은 RateLimitFilter)
+        loginIdRateLimiter.check(request.getLoginId());
+        
         // 회원 조회 (차단 여부 무관하게 먼저 조회)
         Member member = memberRepository.findByLoginId(request.getLoginId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, 
@@ -155,11 +186,16 @@ public class MemberService {
         }
         
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), member.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, 
                     "로그인 ID 또는 비밀번호가 올바르지 않습니다");
         }
         
+        // cost factor가 상향된 경우 재해싱 (변경 감지로 저장)
+        if (passwordHashingService.upgradeEncoding(member.getPassword())) {
+            member.changePassword(passwordHashingService.rehash(request.getPassword()));
+        }
+        
         // JWT 토큰 생성 (역할 코드 사용)
         String token = jwtTokenProvider.generateToken(member.getLoginId(), member.getRole().getRoleCode());
         
@@ -214,7 +250,7 @@ public class MemberService {
         Member member = Member.builder()
                 .loginId(request.getLoginId())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .name(request.getName())
                 .phoneNumber(request.getPhoneNumber())
                 .role(role)
@@ -248,7 +284,7 @@ public class MemberService {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         
-        member.changePassword(passwordEncoder.encode(request.getNewPassword()));
+        member.changePassword(passwordHashingService.encode(request.getNewPassword()));
     }
     
     /**
@@ -281,6 +317,34 @@ public class MemberService {
         return members.map(MemberResponse::from);
     }
     
+    /**
+     * 사용자 회원 CSV 내보내기 정의 (목록 조회와 같은 검색/필터, 가입 순)
+     */
+    public CsvExport userMemberExport(String keyword, String provider, Boolean active) {
+        StringBuilder where = new StringBuilder("r.ROLE_CODE = 'USER'");
+        List<Object> args = new ArrayList<>();
+        if (keyword != null && !keyword.isBlank()) {
+            where.append(" AND (m.NAME LIKE ? OR m.LGN_ID LIKE ? OR m.EMAIL LIKE ?)");
+            String pattern = "%" + keyword + "%";
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        if (provider != null && !provider.isBlank()) {
+            where.append(" AND m.PROVIDER = ?");
+            args.add(provider);
+        }
+        if (active != null) {
+            where.append(" AND m.ACTIVE = ?");
+            args.add(active);
+        }
+        return CsvExport.of("members",
+                List.of("회원ID", "로그인ID", "이름", "이메일", "전화번호", "가입경로", "이메일인증", "활성", "가입일시"),
+                "m.id, m.LGN_ID, m.NAME, m.EMAIL, m.PHONE_NUMBER, m.PROVIDER, m.EMAIL_VERIFIED, m.ACTIVE, m.REG_DT",
+                "tb_members m JOIN tb_roles r ON r.id = m.ROLE_ID",
+                where.toString(), "m.id", args);
+    }
+    
     /**
      * 사용자 회원 상세 조회
      */
@@ -318,7 +382,7 @@ public class MemberService {
     public void resetUserPassword(Long id, AdminPasswordResetRequest request) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        member.changePassword(passwordEncoder.encode(request.getNewPassword()));
+        member.changePassword(passwordHashingService.encode(request.getNewPassword()));
     }
     
     /**
@@ -331,6 +395,17 @@ public class MemberService {
         member.deactivate();
     }
     
+    /**
+     * 사용자 일괄 비활성화 (USER 역할만, 관리자 계정은 SKIPPED)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkActionResponse deactivateUserMembers(List<Long> ids) {
+        return bulkUpdateExecutor.execute(ids, new BulkUpdateExecutor.BulkUpdate(
+                memberRepository::findActiveUserIdsByIdIn,
+                memberRepository::findIdsByIdIn,
+                memberRepository::deactivateAllByIdIn));
+    }
+    
     /**
      * 사용자 활성화
      */
@@ -357,7 +432,7 @@ public class MemberService {
             if (request.getPassword() == null || request.getPassword().isBlank()) {
                 throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호를 입력해주세요");
             }
-            if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+            if (!passwordHashingService.matches(request.getPassword(), member.getPassword())) {
                 throw new BusinessException(ErrorCode.INVALID_PASSWORD, "비밀번호가 올바르지 않습니다");
             }
         }
@@ -1,6 +1,7 @@
 package com.bincms.domain.menu.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.web.HttpCaching;
 import com.bincms.domain.menu.dto.MenuCreateRequest;
 import com.bincms.domain.menu.dto.MenuResponse;
 import com.bincms.domain.menu.dto.MenuUpdateRequest;
@@ -8,7 +9,10 @@ import com.bincms.domain.menu.entity.MenuType;
 import com.bincms.domain.menu.service.MenuService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -32,11 +36,22 @@ public class MenuController {
      * 메뉴 타입별 계층 구조 조회
      */
     @GetMapping("/type/{menuType}")
-    public ApiResponse<List<MenuResponse>> getMenusByType(
+    public ResponseEntity<ApiResponse<List<MenuResponse>>> getMenusByType(
             @PathVariable MenuType menuType,
-            @RequestParam(defaultValue = "false") boolean includeInactive) {
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            ServletWebRequest webRequest) {
+        // 관리자 화면(비활성 포함)은 변경 직후 바로 반영되도록 항상 재검증
+        CacheControl cacheControl = includeInactive ? HttpCaching.REVALIDATE : HttpCaching.SHORT_LIVED;
+        String eTag = HttpCaching.eTag("menus", menuService.getMenusVersion(menuType));
+        if (HttpCaching.checkNotModified(webRequest, eTag, cacheControl)) {
+            return null;
+        }
+        
         List<MenuResponse> menus = menuService.getMenusByType(menuType, includeInactive);
-        return ApiResponse.success(menus);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(menus));
     }
     
     /**
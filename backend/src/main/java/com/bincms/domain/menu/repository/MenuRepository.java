@@ -1,8 +1,11 @@
 package com.bincms.domain.menu.repository;
 
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.domain.menu.entity.Menu;
 import com.bincms.domain.menu.entity.MenuType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -29,4 +32,11 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      * 부모 메뉴 ID로 전체 자식 메뉴 조회
      */
     List<Menu> findByParentIdOrderBySortOrderAscIdAsc(Long parentId);
+    
+    /**
+     * 메뉴 타입별 버전 (ETag 검증용, 비활성 메뉴 포함)
+     */
+    @Query("SELECT new com.bincms.common.dto.VersionStamp(MAX(m.modDt), COUNT(m), SUM(m.id)) " +
+           "FROM Menu m WHERE m.menuType = :menuType")
+    VersionStamp findVersionStampByMenuType(@Param("menuType") MenuType menuType);
 }
@@ -1,5 +1,6 @@
 package com.bincms.domain.menu.service;
 
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
 import com.bincms.domain.menu.dto.MenuCreateRequest;
@@ -73,6 +74,13 @@ public class MenuService {
         return buildMenuTree(menus);
     }
     
+    /**
+     * 메뉴 타입별 버전 (ETag 검증용)
+     */
+    public VersionStamp getMenusVersion(MenuType menuType) {
+        return menuRepository.findVersionStampByMenuType(menuType);
+    }
+    
     /**
      * 전체 메뉴 조회 (플랫 리스트)
      */
@@ -140,7 +148,7 @@ public class MenuService {
     /**
      * 메뉴 트리 구조 생성
      */
-    private List<MenuResponse> buildMenuTree(List<Menu> menus) {
+    static List<MenuResponse> buildMenuTree(List<Menu> menus) {
         Map<Long, MenuResponse> menuMap = new HashMap<>();
         List<MenuResponse> rootMenus = new ArrayList<>();
         
@@ -175,7 +183,7 @@ public class MenuService {
     /**
      * 메뉴 트리를 sortOrder 기준으로 재귀 정렬
      */
-    private void sortMenuTree(List<MenuResponse> menus) {
+    static void sortMenuTree(List<MenuResponse> menus) {
         menus.sort((a, b) -> {
             int cmp = Integer.compare(a.getSortOrder(), b.getSortOrder());
             return cmp != 0 ? cmp : Long.compare(a.getId(), b.getId());
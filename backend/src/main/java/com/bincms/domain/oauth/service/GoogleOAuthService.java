@@ -2,6 +2,7 @@ package com.bincms.domain.oauth.service;
 
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.http.OutboundHttpClient;
 import com.bincms.domain.member.dto.LoginResponse;
 import com.bincms.domain.member.service.MemberService;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.ResourceAccessException;
 
 /**
  * 구글 OAuth 서비스
@@ -26,6 +27,7 @@ public class GoogleOAuthService {
 
     private final MemberService memberService;
     private final ObjectMapper objectMapper;
+    private final OutboundHttpClient googleHttpClient;
 
     @Value("${app.oauth.google.client-id}")
     private String clientId;
@@ -42,8 +44,6 @@ public class GoogleOAuthService {
     @Value("${app.oauth.google.user-info-url}")
     private String userInfoUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
     /**
      * 구글 인가 코드로 로그인 처리
      */
@@ -83,7 +83,7 @@ public class GoogleOAuthService {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(tokenUrl, request, String.class);
+            ResponseEntity<String> response = googleHttpClient.postForEntity(tokenUrl, request, String.class);
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
             if (jsonNode.has("error")) {
@@ -97,6 +97,9 @@ public class GoogleOAuthService {
         } catch (HttpClientErrorException e) {
             log.error("구글 토큰 요청 HTTP 에러 - status: {}, body: {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "구글 인증에 실패했습니다: " + e.getResponseBodyAsString());
+        } catch (ResourceAccessException e) {
+            log.error("구글 토큰 요청 연결 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error("구글 토큰 요청 중 오류 - class: {}, message: {}", e.getClass().getName(), e.getMessage(), e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "구글 인증 처리 중 오류가 발생했습니다.");
@@ -113,7 +116,7 @@ public class GoogleOAuthService {
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = googleHttpClient.exchange(
                     userInfoUrl, HttpMethod.GET, request, String.class);
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
@@ -133,6 +136,11 @@ public class GoogleOAuthService {
             }
 
             return new GoogleUserInfo(id, name, email);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (ResourceAccessException e) {
+            log.error("구글 사용자 정보 요청 연결 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error("구글 사용자 정보 요청 중 오류: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "구글 사용자 정보를 가져올 수 없습니다.");
@@ -2,6 +2,7 @@ package com.bincms.domain.oauth.service;
 
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.http.OutboundHttpClient;
 import com.bincms.domain.member.dto.LoginResponse;
 import com.bincms.domain.member.service.MemberService;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.ResourceAccessException;
 
 /**
  * 카카오 OAuth 서비스
@@ -26,6 +27,7 @@ public class KakaoOAuthService {
 
     private final MemberService memberService;
     private final ObjectMapper objectMapper;
+    private final OutboundHttpClient kakaoHttpClient;
 
     @Value("${app.oauth.kakao.client-id}")
     private String clientId;
@@ -42,8 +44,6 @@ public class KakaoOAuthService {
     @Value("${app.oauth.kakao.client-secret:}")
     private String clientSecret;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
     /**
      * 카카오 인가 코드로 로그인 처리
      */
@@ -87,7 +87,7 @@ public class KakaoOAuthService {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(tokenUrl, request, String.class);
+            ResponseEntity<String> response = kakaoHttpClient.postForEntity(tokenUrl, request, String.class);
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
             if (jsonNode.has("error")) {
@@ -101,6 +101,9 @@ public class KakaoOAuthService {
         } catch (HttpClientErrorException e) {
             log.error("카카오 토큰 요청 HTTP 에러 - status: {}, body: {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "카카오 인증에 실패했습니다: " + e.getResponseBodyAsString());
+        } catch (ResourceAccessException e) {
+            log.error("카카오 토큰 요청 연결 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error("카카오 토큰 요청 중 오류 - class: {}, message: {}", e.getClass().getName(), e.getMessage(), e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "카카오 인증 처리 중 오류가 발생했습니다.");
@@ -118,7 +121,7 @@ public class KakaoOAuthService {
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = kakaoHttpClient.exchange(
                     userInfoUrl, HttpMethod.GET, request, String.class);
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
@@ -139,6 +142,11 @@ public class KakaoOAuthService {
             }
 
             return new KakaoUserInfo(id, nickname, email);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (ResourceAccessException e) {
+            log.error("카카오 사용자 정보 요청 연결 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
         } catch (Exception e) {
             log.error("카카오 사용자 정보 요청 중 오류: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "카카오 사용자 정보를 가져올 수 없습니다.");
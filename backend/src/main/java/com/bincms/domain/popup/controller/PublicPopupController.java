@@ -1,12 +1,15 @@
 package com.bincms.domain.popup.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.web.HttpCaching;
 import com.bincms.domain.popup.dto.PopupResponse;
 import com.bincms.domain.popup.service.PopupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -19,9 +22,17 @@ public class PublicPopupController {
 
     /**
      * 현재 노출 대상인 활성 팝업 목록 조회 (인증 불필요)
+     * - 노출 대상 집합의 버전으로 ETag 생성, 1분간 클라이언트 캐시 허용
      */
     @GetMapping("/active")
-    public ApiResponse<List<PopupResponse>> getActivePopups() {
-        return ApiResponse.success(popupService.getActivePopups());
+    public ResponseEntity<ApiResponse<List<PopupResponse>>> getActivePopups(ServletWebRequest webRequest) {
+        String eTag = HttpCaching.eTag("popups", popupService.getActivePopupsVersion());
+        if (HttpCaching.checkNotModified(webRequest, eTag, HttpCaching.SHORT_LIVED)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.SHORT_LIVED)
+                .body(ApiResponse.success(popupService.getActivePopups()));
     }
 }
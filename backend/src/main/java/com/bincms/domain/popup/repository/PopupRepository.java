@@ -1,5 +1,6 @@
 package com.bincms.domain.popup.repository;
 
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.domain.popup.entity.Popup;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,4 +30,11 @@ public interface PopupRepository extends JpaRepository<Popup, Long> {
            "AND (p.endDt IS NULL OR p.endDt >= :now) " +
            "ORDER BY p.sortOrder ASC, p.id DESC")
     List<Popup> findActivePopups(@Param("now") LocalDateTime now);
+
+    /** 현재 노출 대상 팝업 목록 버전 (ETag 검증용) */
+    @Query("SELECT new com.bincms.common.dto.VersionStamp(MAX(p.modDt), COUNT(p), SUM(p.id)) " +
+           "FROM Popup p WHERE p.useYn = 'Y' " +
+           "AND (p.startDt IS NULL OR p.startDt <= :now) " +
+           "AND (p.endDt IS NULL OR p.endDt >= :now)")
+    VersionStamp findActiveVersionStamp(@Param("now") LocalDateTime now);
 }
@@ -1,6 +1,7 @@
 package com.bincms.domain.popup.service;
 
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
 import com.bincms.domain.popup.dto.PopupCreateRequest;
@@ -68,6 +69,11 @@ public class PopupService {
                 .collect(Collectors.toList());
     }
 
+    /** 현재 노출 대상 팝업 목록 버전 (ETag 검증용) */
+    public VersionStamp getActivePopupsVersion() {
+        return popupRepository.findActiveVersionStamp(LocalDateTime.now());
+    }
+
     @Transactional
     public PopupResponse updatePopup(Long id, PopupUpdateRequest request) {
         Popup popup = popupRepository.findById(id)
@@ -1,7 +1,10 @@
 package com.bincms.domain.post.controller;
 
 import com.bincms.common.dto.ApiResponse;
+import com.bincms.common.dto.BulkActionResponse;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.export.CsvExporter;
+import com.bincms.domain.post.dto.PostBulkDeleteRequest;
 import com.bincms.domain.post.dto.PostCreateRequest;
 import com.bincms.domain.post.dto.PostResponse;
 import com.bincms.domain.post.dto.PostUpdateRequest;
@@ -12,7 +15,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 게시글 API 컨트롤러
@@ -23,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
     
     private final PostService postService;
+    private final CsvExporter csvExporter;
     
     /**
      * 게시글 생성
@@ -55,6 +61,14 @@ public class PostController {
         return ApiResponse.success(posts);
     }
     
+    /**
+     * 게시글 CSV 내보내기 (스트리밍, boardId 생략 시 전체 게시판)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(required = false) Long boardId) {
+        return csvExporter.stream(postService.postExport(boardId));
+    }
+    
     /**
      * 게시글 검색
      */
@@ -95,4 +109,13 @@ public class PostController {
         postService.deletePost(id);
         return ApiResponse.success(null, "게시글이 삭제되었습니다");
     }
+    
+    /**
+     * 게시글 일괄 삭제 (ID 목록 또는 필터, 항목별 처리 결과 반환)
+     */
+    @PostMapping("/bulk-delete")
+    public ApiResponse<BulkActionResponse> deletePosts(@RequestBody PostBulkDeleteRequest request) {
+        BulkActionResponse response = postService.deletePosts(request);
+        return ApiResponse.success(response, response.getUpdated() + "개 게시글이 삭제되었습니다");
+    }
 }
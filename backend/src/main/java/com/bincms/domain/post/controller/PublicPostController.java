@@ -2,6 +2,10 @@ package com.bincms.domain.post.controller;
 
 import com.bincms.common.dto.ApiResponse;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.exception.BusinessException;
+import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.web.HttpCaching;
+import com.bincms.common.web.SerializedResponseCache;
 import com.bincms.domain.board.entity.Board;
 import com.bincms.domain.board.repository.BoardRepository;
 import com.bincms.domain.post.dto.PostResponse;
@@ -11,11 +15,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
 
 /**
  * 사용자 화면용 게시글 Public API
  * - 인증 불필요
  * - boardCode 기반 조회
+ * - ETag(MOD_DT 기반) 조건부 GET 지원: 변경이 없으면 서비스 실행 없이 304
  */
 @RestController
 @RequestMapping("/api/v1/public/posts")
@@ -23,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class PublicPostController {
 
     private final PostService postService;
+    private final SerializedResponseCache serializedResponseCache;
     private final BoardRepository boardRepository;
 
     /**
@@ -32,22 +41,46 @@ public class PublicPostController {
     public ResponseEntity<ApiResponse<PageResponse<PostResponse>>> getPostsByBoardCode(
             @PathVariable String boardCode,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest webRequest) {
 
         Board board = boardRepository.findByBoardCode(boardCode)
-                .orElseThrow(() -> new RuntimeException("게시판을 찾을 수 없습니다: " + boardCode));
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+
+        String eTag = HttpCaching.eTag("posts", board.getModDt(), postService.getBoardPostsVersion(board.getId()));
+        if (HttpCaching.checkNotModified(webRequest, eTag, HttpCaching.REVALIDATE)) {
+            return null;
+        }
 
         Pageable pageable = PageRequest.of(page, size);
         PageResponse<PostResponse> result = postService.getPostsByBoard(board.getId(), pageable);
-        return ResponseEntity.ok(ApiResponse.success(result));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.REVALIDATE)
+                .body(ApiResponse.success(result));
     }
 
     /**
      * 게시글 상세 조회 (조회수 증가)
+     * - 조회수가 요청마다 바뀌므로 조건부 GET(304) 없이 항상 현재 조회수로 응답
+     * - 버전(MOD_DT)이 같으면 캐시된 직렬화(gzip) 본문에 현재 조회수만 넣어 응답
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<PostResponse>> getPostById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getPostById(@PathVariable Long id,
+                                              ServletWebRequest webRequest) {
+        LocalDateTime version = postService.getPostVersion(id);
+        if (version != null) {
+            String eTag = HttpCaching.eTag("post", version);
+            ResponseEntity<byte[]> cached = serializedResponseCache.cached(webRequest, "post:" + id, eTag,
+                    HttpCaching.REVALIDATE, () -> postService.increaseViewCount(id));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         PostResponse post = postService.getPostById(id);
-        return ResponseEntity.ok(ApiResponse.success(post));
+        return serializedResponseCache.serialize(webRequest, "post:" + id,
+                HttpCaching.eTag("post", post.getModDt()), HttpCaching.REVALIDATE, post.getViewCount(),
+                viewCount -> ApiResponse.success(post.toBuilder().viewCount(viewCount).build()));
     }
 }
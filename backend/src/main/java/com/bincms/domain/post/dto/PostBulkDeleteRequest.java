@@ -0,0 +1,39 @@
+package com.bincms.domain.post.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 일괄 삭제 요청 DTO
+ * - ids가 있으면 ID 목록으로, 없으면 필터(지정한 조건만 적용, 최소 1개)로 대상 지정
+ */
+@Getter
+@NoArgsConstructor
+public class PostBulkDeleteRequest {
+    
+    private List<Long> ids;
+    
+    private Long boardId;
+    
+    /** 작성자 회원 PK (REG_NO) */
+    private Long authorId;
+    
+    /** 제목 키워드 */
+    private String keyword;
+    
+    private LocalDateTime regDtFrom;
+    
+    private LocalDateTime regDtTo;
+    
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+    
+    public boolean hasFilter() {
+        return boardId != null || authorId != null || (keyword != null && !keyword.isBlank())
+                || regDtFrom != null || regDtTo != null;
+    }
+}
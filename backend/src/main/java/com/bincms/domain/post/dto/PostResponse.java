@@ -11,11 +11,12 @@ import java.time.LocalDateTime;
  * 게시글 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
     
     private Long id;
     private Long boardId;
+    private String boardCode;
     private String boardName;
     private String title;
     private String content;
@@ -41,6 +42,7 @@ public class PostResponse {
         return PostResponse.builder()
                 .id(post.getId())
                 .boardId(post.getBoard().getId())
+                .boardCode(post.getBoard().getBoardCode())
                 .boardName(post.getBoard().getBoardName())
                 .title(post.getTitle())
                 .content(post.getContent())
@@ -60,6 +62,7 @@ public class PostResponse {
         PostResponseBuilder builder = PostResponse.builder()
                 .id(post.getId())
                 .boardId(post.getBoard().getId())
+                .boardCode(post.getBoard().getBoardCode())
                 .boardName(post.getBoard().getBoardName())
                 .title(post.getTitle())
                 .content(post.getContent())
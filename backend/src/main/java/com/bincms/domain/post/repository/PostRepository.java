@@ -1,14 +1,19 @@
 package com.bincms.domain.post.repository;
 
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글 Repository
@@ -41,4 +46,61 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                          @Param("useYn") String useYn,
                                          @Param("keyword") String keyword, 
                                          Pageable pageable);
+    
+    /**
+     * 조회수 증가분 반영 (엔티티 로딩 없이 단일 UPDATE, ViewCountBuffer에서 모은 증가분)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id = :id")
+    int addViewCount(@Param("id") Long id, @Param("delta") long delta);
+    
+    /**
+     * 게시글 수정일시만 조회 (ETag 검증용)
+     */
+    @Query("SELECT p.modDt FROM Post p WHERE p.id = :id")
+    Optional<LocalDateTime> findModDtById(@Param("id") Long id);
+    
+    /**
+     * 게시판 게시글 목록 버전 (ETag 검증용)
+     */
+    @Query("SELECT new com.bincms.common.dto.VersionStamp(MAX(p.modDt), COUNT(p), SUM(p.id), SUM(p.viewCount), " +
+           "(SELECT MAX(m.modDt) FROM Member m)) " +
+           "FROM Post p WHERE p.board.id = :boardId")
+    VersionStamp findVersionStampByBoardId(@Param("boardId") Long boardId);
+    
+    // ==================== 관리자 일괄 처리 ====================
+    
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.useYn = 'Y'")
+    List<Long> findActiveIdsByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") List<Long> ids);
+    
+    /**
+     * 일괄 삭제 대상 조회 (게시판, 작성자 REG_NO, 제목 키워드, 등록일시 범위 - 지정한 조건만 적용)
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.useYn = 'Y' " +
+           "AND (:boardId IS NULL OR p.board.id = :boardId) " +
+           "AND (:regNo IS NULL OR p.regNo = :regNo) " +
+           "AND (:keyword IS NULL OR :keyword = '' OR p.title LIKE %:keyword%) " +
+           "AND (:regDtFrom IS NULL OR p.regDt >= :regDtFrom) " +
+           "AND (:regDtTo IS NULL OR p.regDt < :regDtTo) " +
+           "ORDER BY p.id")
+    List<Long> findActiveIdsByFilter(@Param("boardId") Long boardId,
+                                     @Param("regNo") String regNo,
+                                     @Param("keyword") String keyword,
+                                     @Param("regDtFrom") LocalDateTime regDtFrom,
+                                     @Param("regDtTo") LocalDateTime regDtTo,
+                                     Pageable pageable);
+    
+    /**
+     * 일괄 삭제 (비활성화, 엔티티 로딩 없이 단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.useYn = 'N', p.modDt = :modDt, p.modNo = :modNo " +
+           "WHERE p.id IN :ids AND p.useYn = 'Y'")
+    int deactivateAllByIdIn(@Param("ids") List<Long> ids,
+                            @Param("modDt") LocalDateTime modDt,
+                            @Param("modNo") String modNo);
 }
@@ -1,23 +1,43 @@
 package com.bincms.domain.post.service;
 
+import com.bincms.common.cache.LocalCache;
+import com.bincms.common.cache.ViewCountBuffer;
+import com.bincms.common.db.BulkUpdateExecutor;
+import com.bincms.common.dto.BulkActionResponse;
 import com.bincms.common.dto.PageResponse;
+import com.bincms.common.dto.VersionStamp;
 import com.bincms.common.exception.BusinessException;
 import com.bincms.common.exception.ErrorCode;
+import com.bincms.common.export.CsvExport;
 import com.bincms.domain.board.entity.Board;
 import com.bincms.domain.board.repository.BoardRepository;
 import com.bincms.domain.member.entity.Member;
 import com.bincms.domain.member.repository.MemberRepository;
+import com.bincms.domain.post.dto.PostBulkDeleteRequest;
 import com.bincms.domain.post.dto.PostCreateRequest;
 import com.bincms.domain.post.dto.PostResponse;
 import com.bincms.domain.post.dto.PostUpdateRequest;
 import com.bincms.domain.post.dto.UserPostCreateRequest;
 import com.bincms.domain.post.entity.Post;
 import com.bincms.domain.post.repository.PostRepository;
+import com.bincms.domain.trending.entity.TrendingItemType;
+import com.bincms.domain.trending.service.TrendingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 게시글 서비스
@@ -30,17 +50,29 @@ public class PostService {
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
+    private final LocalCache<Long, PostResponse> postDetailCache;
+    private final ViewCountBuffer<Long> postViewCounts;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TrendingService trendingService;
+    private final BulkUpdateExecutor bulkUpdateExecutor;
     
     /**
      * REG_NO(회원PK 문자열)로 Member를 조회하여 반환. 없으면 null.
      */
     private Member findMemberByRegNo(String regNo) {
+        Long memberId = parseMemberId(regNo);
+        return memberId != null ? memberRepository.findById(memberId).orElse(null) : null;
+    }
+    
+    /**
+     * REG_NO → 회원 PK (회원이 아닌 작성자면 null)
+     */
+    private static Long parseMemberId(String regNo) {
         if (regNo == null || regNo.isBlank()) {
             return null;
         }
         try {
-            Long memberId = Long.parseLong(regNo);
-            return memberRepository.findById(memberId).orElse(null);
+            return Long.parseLong(regNo);
         } catch (NumberFormatException e) {
             return null;
         }
@@ -54,6 +86,24 @@ public class PostService {
         return PostResponse.from(post, author);
     }
     
+    /**
+     * 목록 변환 - 페이지의 작성자를 한 번의 IN 조회로 가져옴 (게시글마다 회원을 조회하는 N+1 방지)
+     */
+    private PageResponse<PostResponse> toPageResponse(Page<Post> posts) {
+        Set<Long> memberIds = new HashSet<>();
+        for (Post post : posts.getContent()) {
+            Long memberId = parseMemberId(post.getRegNo());
+            if (memberId != null) {
+                memberIds.add(memberId);
+            }
+        }
+        Map<Long, Member> authors = new HashMap<>();
+        if (!memberIds.isEmpty()) {
+            memberRepository.findAllById(memberIds).forEach(member -> authors.put(member.getId(), member));
+        }
+        return PageResponse.of(posts.map(post -> PostResponse.from(post, authors.get(parseMemberId(post.getRegNo())))));
+    }
+    
     /**
      * 게시글 생성
      */
@@ -80,7 +130,7 @@ public class PostService {
         Page<Post> posts = postRepository.findByBoardIdAndUseYnOrderByNoticeYnDescIdDesc(
                 boardId, "Y", pageable);
         
-        return PageResponse.of(posts.map(this::toResponse));
+        return toPageResponse(posts);
     }
     
     /**
@@ -88,7 +138,24 @@ public class PostService {
      */
     public PageResponse<PostResponse> getAllPosts(Pageable pageable) {
         Page<Post> posts = postRepository.findByUseYnOrderByIdDesc("Y", pageable);
-        return PageResponse.of(posts.map(this::toResponse));
+        return toPageResponse(posts);
+    }
+    
+    /**
+     * 게시글 CSV 내보내기 정의 (사용 중인 게시글, 게시판 지정 시 해당 게시판만, 본문 제외)
+     */
+    public CsvExport postExport(Long boardId) {
+        String where = "p.USE_YN = 'Y'";
+        List<Object> args = new ArrayList<>();
+        if (boardId != null) {
+            where += " AND p.BOARD_ID = ?";
+            args.add(boardId);
+        }
+        return CsvExport.of("posts",
+                List.of("게시글ID", "게시판코드", "게시판명", "제목", "공지", "조회수", "작성자", "등록일시", "수정일시"),
+                "p.id, b.BOARD_CODE, b.BOARD_NAME, p.TITLE, p.NOTICE_YN, p.VIEW_COUNT, p.REG_NO, p.REG_DT, p.MOD_DT",
+                "tb_posts p JOIN tb_boards b ON b.id = p.BOARD_ID",
+                where, "p.id", args);
     }
     
     /**
@@ -98,19 +165,82 @@ public class PostService {
         Page<Post> posts = postRepository.searchByBoardIdAndKeyword(
                 boardId, "Y", keyword, pageable);
         
-        return PageResponse.of(posts.map(this::toResponse));
+        return toPageResponse(posts);
     }
     
     /**
      * 게시글 상세 조회
+     * - 상세 응답은 postDetailCache에서 공유 (동시 캐시 미스는 한 번의 DB 로딩으로 병합)
+     * - 조회수는 캐시 적중 여부와 무관하게 요청마다 postViewCounts에 기록 (DB 반영은 ViewCountFlusher)
+     * - 캐시된 응답의 조회수는 로딩 시점 값이므로 postViewCounts의 현재 조회수로 덮어씀
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPostById(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "게시글을 찾을 수 없습니다"));
-        
-        post.increaseViewCount();
-        return toResponse(post);
+        PostResponse response = getCachedPost(id);
+        Long viewCount = postViewCounts.increment(id);
+        recordTrendingView(id, response);
+        return viewCount != null ? response.toBuilder().viewCount(viewCount).build() : response;
+    }
+    
+    /**
+     * 게시글 상세 버전 (ETag 검증용)
+     * - 캐시에 있으면 DB 조회 없이 캐시된 MOD_DT 사용, 없으면 MOD_DT 컬럼만 조회
+     * - 게시글이 없으면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LocalDateTime getPostVersion(Long id) {
+        PostResponse cached = postDetailCache.peek(id);
+        if (cached != null) {
+            return cached.getModDt();
+        }
+        return postRepository.findModDtById(id).orElse(null);
+    }
+    
+    /**
+     * 게시판 게시글 목록 버전 (ETag 검증용)
+     */
+    public VersionStamp getBoardPostsVersion(Long boardId) {
+        return postRepository.findVersionStampByBoardId(boardId);
+    }
+    
+    /**
+     * 조회수만 증가 (캐시된 직렬화 본문 응답 시), 현재 조회수 반환
+     * - 기준값이 없으면(상세 캐시가 만료된 뒤) 상세를 다시 로딩해 기준값을 맞춤
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long increaseViewCount(Long id) {
+        Long viewCount = postViewCounts.increment(id);
+        if (viewCount == null) {
+            PostResponse response = getCachedPost(id);
+            recordTrendingView(id, response);
+            return postViewCounts.current(id);
+        }
+        recordTrendingView(id, postDetailCache.peek(id));
+        return viewCount;
+    }
+
+    /**
+     * 상세 응답 (postDetailCache), 로딩 시 postViewCounts 기준값 설정
+     */
+    private PostResponse getCachedPost(Long id) {
+        return postDetailCache.get(id, () -> readOnlyTransactionTemplate.execute(status -> {
+            Post post = postRepository.findById(id)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "게시글을 찾을 수 없습니다"));
+            postViewCounts.seed(id, post.getViewCount());
+            return toResponse(post);
+        }));
+    }
+    
+    /**
+     * 인기글 순위 조회 이벤트 (상세 캐시가 없으면 이미 순위에 있는 경우만 반영)
+     */
+    private void recordTrendingView(Long id, PostResponse response) {
+        if (response == null) {
+            trendingService.recordViewIfTracked(TrendingItemType.POST, id);
+        } else if ("Y".equals(response.getUseYn())) {
+            trendingService.recordView(TrendingService.boardScope(response.getBoardCode()),
+                    TrendingItemType.POST, id, response.getTitle());
+        }
     }
     
     /**
@@ -122,6 +252,8 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "게시글을 찾을 수 없습니다"));
         
         post.update(request.getTitle(), request.getContent(), request.getNoticeYn());
+        postDetailCache.evict(id);
+        trendingService.rename(TrendingItemType.POST, id, post.getTitle());
         return toResponse(post);
     }
     
@@ -134,6 +266,41 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "게시글을 찾을 수 없습니다"));
         
         post.deactivate();
+        postDetailCache.evict(id);
+        trendingService.remove(TrendingItemType.POST, id);
+    }
+    
+    /**
+     * 게시글 일괄 삭제 (비활성화)
+     * - ID 목록 또는 필터로 대상 지정, 청크 단위 집합 UPDATE (BulkUpdateExecutor)
+     * - 상세 캐시/인기글 순위 제외는 전체 처리 후 변경된 게시글에 대해 한 번에 수행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkActionResponse deletePosts(PostBulkDeleteRequest request) {
+        List<Long> ids = request.hasIds() ? request.getIds() : findPostIdsByFilter(request);
+        BulkActionResponse response = bulkUpdateExecutor.execute(ids, new BulkUpdateExecutor.BulkUpdate(
+                postRepository::findActiveIdsByIdIn,
+                postRepository::findIdsByIdIn,
+                postRepository::deactivateAllByIdIn));
+        
+        for (Long id : response.updatedIds()) {
+            postDetailCache.evict(id);
+            trendingService.remove(TrendingItemType.POST, id);
+        }
+        return response;
+    }
+    
+    private List<Long> findPostIdsByFilter(PostBulkDeleteRequest request) {
+        if (!request.hasFilter()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "삭제할 게시글 ID 또는 조건을 지정해주세요");
+        }
+        return postRepository.findActiveIdsByFilter(
+                request.getBoardId(),
+                request.getAuthorId() != null ? String.valueOf(request.getAuthorId()) : null,
+                request.getKeyword(),
+                request.getRegDtFrom(),
+                request.getRegDtTo(),
+                PageRequest.of(0, bulkUpdateExecutor.filterLimit()));
     }
     
     // ==================== 사용자용 게시글 CRUD ====================
@@ -180,6 +347,8 @@ public class PostService {
         }
         
         post.update(request.getTitle(), request.getContent(), post.getNoticeYn());
+        postDetailCache.evict(postId);
+        trendingService.rename(TrendingItemType.POST, postId, post.getTitle());
         return PostResponse.from(post, currentMember);
     }
     
@@ -201,5 +370,7 @@ public class PostService {
         }
         
         post.deactivate();
+        postDetailCache.evict(postId);
+        trendingService.remove(TrendingItemType.POST, postId);
     }
 }
@@ -0,0 +1,44 @@
+package com.bincms.domain.trending.controller;
+
+import com.bincms.common.dto.ApiResponse;
+import com.bincms.domain.trending.dto.TrendingItemResponse;
+import com.bincms.domain.trending.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 사용자 화면용 인기글 Public API
+ * - 인증 불필요
+ * - 메모리에 미리 만들어 둔 순위 목록을 반환 (DB 조회 없음)
+ */
+@RestController
+@RequestMapping("/api/v1/public/trending")
+@RequiredArgsConstructor
+public class PublicTrendingController {
+
+    private final TrendingService trendingService;
+
+    /**
+     * 게시판별 인기글
+     */
+    @GetMapping("/boards/{boardCode}")
+    public ResponseEntity<ApiResponse<List<TrendingItemResponse>>> getBoardTrending(
+            @PathVariable String boardCode,
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                trendingService.getTop(TrendingService.boardScope(boardCode), limit)));
+    }
+
+    /**
+     * 인기 시공사례
+     */
+    @GetMapping("/interiors")
+    public ResponseEntity<ApiResponse<List<TrendingItemResponse>>> getInteriorTrending(
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                trendingService.getTop(TrendingService.INTERIOR_SCOPE, limit)));
+    }
+}
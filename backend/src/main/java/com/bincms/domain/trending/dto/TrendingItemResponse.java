@@ -0,0 +1,9 @@
+package com.bincms.domain.trending.dto;
+
+import com.bincms.domain.trending.entity.TrendingItemType;
+
+/**
+ * 인기글 항목 응답 (순위는 목록 순서)
+ */
+public record TrendingItemResponse(TrendingItemType type, Long id, String title, double score) {
+}
@@ -0,0 +1,55 @@
+package com.bincms.domain.trending.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 순위 스냅샷 엔티티
+ * - 메모리 순위(범위별 상위 항목)를 주기적으로 범위 단위로 덮어써 재기동 시 복원하는 용도
+ * - SCORE는 SCORED_AT 시점의 감쇠 점수
+ */
+@Entity
+@Table(name = "tb_trending_items", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trending_items_key", columnNames = {"SCOPE", "ITEM_TYPE", "ITEM_ID"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Comment("인기글 순위")
+public class TrendingItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "TRENDING_ID")
+    @Comment("순위 항목 ID")
+    private Long id;
+
+    @Column(name = "SCOPE", nullable = false, length = 100)
+    @Comment("순위 범위 (BOARD:게시판코드, INTERIOR)")
+    private String scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ITEM_TYPE", nullable = false, length = 20)
+    @Comment("대상 유형")
+    private TrendingItemType itemType;
+
+    @Column(name = "ITEM_ID", nullable = false)
+    @Comment("대상 ID")
+    private Long itemId;
+
+    @Column(name = "TITLE", nullable = false, length = 200)
+    @Comment("제목")
+    private String title;
+
+    @Column(name = "SCORE", nullable = false)
+    @Comment("감쇠 점수")
+    private Double score;
+
+    @Column(name = "SCORED_AT", nullable = false)
+    @Comment("점수 기준 시각")
+    private LocalDateTime scoredAt;
+}
@@ -0,0 +1,9 @@
+package com.bincms.domain.trending.entity;
+
+/**
+ * 인기글 집계 대상 유형
+ */
+public enum TrendingItemType {
+    POST,       // 게시글 (게시판별 범위)
+    INTERIOR    // 시공사례 (단일 범위)
+}
@@ -0,0 +1,281 @@
+package com.bincms.domain.trending.service;
+
+import com.bincms.common.sketch.DecayedTopK;
+import com.bincms.domain.trending.dto.TrendingItemResponse;
+import com.bincms.domain.trending.entity.TrendingItemType;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기글 순위 서비스
+ * - 조회/댓글 이벤트마다 범위(게시판별, 시공사례)의 감쇠 점수를 메모리에서 갱신 (반감기 half-life)
+ * - 범위마다 상위 capacity개만 유지하고, 응답용 상위 목록은 주기적으로 불변 리스트로 만들어 두어 조회는 상수 시간
+ * - 순위 조회는 게시글 테이블을 읽지 않음 (제목은 이벤트 발생 시 함께 보관)
+ * - 주기적으로 tb_trending_items에 범위 단위로 덮어쓰고, 기동 시 복원
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    public static final String INTERIOR_SCOPE = "INTERIOR";
+
+    private static final String BOARD_SCOPE_PREFIX = "BOARD:";
+
+    private static final String INSERT_ITEM = """
+            INSERT INTO tb_trending_items (SCOPE, ITEM_TYPE, ITEM_ID, TITLE, SCORE, SCORED_AT)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    @Getter
+    private final int capacity;
+    @Getter
+    private final int topSize;
+    private final long halfLifeMillis;
+    private final double viewWeight;
+    private final double commentWeight;
+
+    private final Map<String, Scope> scopes = new ConcurrentHashMap<>();
+    /** 순위에 올라 있는 항목 → 범위 (범위를 모르는 이벤트를 반영하기 위한 역색인) */
+    private final Map<ItemRef, String> tracked = new ConcurrentHashMap<>();
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder untrackedEvents = new LongAdder();
+
+    public TrendingService(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.trending.capacity:100}") int capacity,
+                           @Value("${app.trending.top-size:10}") int topSize,
+                           @Value("${app.trending.half-life:2d}") Duration halfLife,
+                           @Value("${app.trending.view-weight:1}") double viewWeight,
+                           @Value("${app.trending.comment-weight:5}") double commentWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.capacity = capacity;
+        this.topSize = topSize;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    public static String boardScope(String boardCode) {
+        return BOARD_SCOPE_PREFIX + boardCode;
+    }
+
+    /**
+     * 조회 이벤트 (범위와 제목을 아는 경우)
+     */
+    public void recordView(String scope, TrendingItemType type, Long id, String title) {
+        record(scope, new ItemRef(type, id), title, viewWeight);
+    }
+
+    /**
+     * 조회 이벤트 (범위/제목을 모르는 경우: 이미 순위에 있는 항목만 반영)
+     */
+    public void recordViewIfTracked(TrendingItemType type, Long id) {
+        ItemRef item = new ItemRef(type, id);
+        String scope = tracked.get(item);
+        events.increment();
+        if (scope == null || !scopes.get(scope).topK.addIfPresent(item, viewWeight, System.currentTimeMillis())) {
+            untrackedEvents.increment();
+            return;
+        }
+        scopes.get(scope).markDirty();
+    }
+
+    /**
+     * 댓글 이벤트
+     */
+    public void recordComment(String scope, TrendingItemType type, Long id, String title) {
+        record(scope, new ItemRef(type, id), title, commentWeight);
+    }
+
+    /**
+     * 제목 변경 반영 (순위에 있는 경우)
+     */
+    public void rename(TrendingItemType type, Long id, String title) {
+        ItemRef item = new ItemRef(type, id);
+        String scope = tracked.get(item);
+        if (scope != null) {
+            Scope board = scopes.get(scope);
+            board.topK.updateValue(item, title);
+            board.markDirty();
+        }
+    }
+
+    /**
+     * 삭제(비활성화)된 항목 제외
+     */
+    public void remove(TrendingItemType type, Long id) {
+        ItemRef item = new ItemRef(type, id);
+        String scope = tracked.remove(item);
+        if (scope != null && scopes.get(scope).topK.remove(item)) {
+            scopes.get(scope).markDirty();
+        }
+    }
+
+    /**
+     * 범위 상위 목록 (미리 만들어 둔 목록을 그대로 반환)
+     */
+    public List<TrendingItemResponse> getTop(String scope, int limit) {
+        Scope board = scopes.get(scope);
+        if (board == null || limit <= 0) {
+            return List.of();
+        }
+        List<TrendingItemResponse> snapshot = board.snapshot;
+        return limit >= snapshot.size() ? snapshot : snapshot.subList(0, limit);
+    }
+
+    /**
+     * 변경된 범위의 응답용 상위 목록 재생성
+     */
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:5000}")
+    public void refreshSnapshots() {
+        long now = System.currentTimeMillis();
+        scopes.values().forEach(board -> {
+            if (board.snapshotDirty.getAndSet(false)) {
+                board.snapshot = board.topK.top(topSize, now).stream()
+                        .map(scored -> new TrendingItemResponse(scored.key().type(), scored.key().id(),
+                                scored.value(), Math.round(scored.score() * 100) / 100.0))
+                        .toList();
+            }
+        });
+    }
+
+    /**
+     * 변경된 범위를 DB에 덮어씀
+     */
+    @Scheduled(fixedDelayString = "${app.trending.persist-interval-ms:60000}")
+    public void persist() {
+        long now = System.currentTimeMillis();
+        Timestamp scoredAt = Timestamp.valueOf(LocalDateTime.now());
+        scopes.forEach((scope, board) -> {
+            if (!board.persistDirty.getAndSet(false)) {
+                return;
+            }
+            List<Object[]> rows = new ArrayList<>();
+            for (DecayedTopK.Scored<ItemRef, String> scored : board.topK.top(capacity, now)) {
+                rows.add(new Object[]{scope, scored.key().type().name(), scored.key().id(), scored.value(),
+                        scored.score(), scoredAt});
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("DELETE FROM tb_trending_items WHERE SCOPE = ?", scope);
+                    if (!rows.isEmpty()) {
+                        jdbcTemplate.batchUpdate(INSERT_ITEM, rows);
+                    }
+                });
+            } catch (RuntimeException e) {
+                board.persistDirty.set(true);
+                log.warn("인기글 순위 저장 실패 ({}), 다음 주기에 재시도: {}", scope, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 기동 시 저장된 순위 복원 (저장 시각부터 지금까지의 감쇠 적용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        int[] restored = {0};
+        jdbcTemplate.query("SELECT SCOPE, ITEM_TYPE, ITEM_ID, TITLE, SCORE, SCORED_AT FROM tb_trending_items", rs -> {
+            Scope board = scope(rs.getString("SCOPE"));
+            ItemRef item = new ItemRef(TrendingItemType.valueOf(rs.getString("ITEM_TYPE")), rs.getLong("ITEM_ID"));
+            long scoredAt = rs.getTimestamp("SCORED_AT").toLocalDateTime().atZone(ZONE).toInstant().toEpochMilli();
+            track(rs.getString("SCOPE"), item, board.topK.add(item, rs.getString("TITLE"), rs.getDouble("SCORE"), scoredAt));
+            board.snapshotDirty.set(true);
+            restored[0]++;
+        });
+        refreshSnapshots();
+        if (restored[0] > 0) {
+            log.info("인기글 순위 복원: {}개 범위, {}건", scopes.size(), restored[0]);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    public int getScopeCount() {
+        return scopes.size();
+    }
+
+    public int getTrackedItems() {
+        return tracked.size();
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+
+    public long getUntrackedEvents() {
+        return untrackedEvents.sum();
+    }
+
+    private void record(String scope, ItemRef item, String title, double weight) {
+        events.increment();
+        Scope board = scope(scope);
+        track(scope, item, board.topK.add(item, title, weight, System.currentTimeMillis()));
+        board.markDirty();
+    }
+
+    private void track(String scope, ItemRef item, ItemRef evicted) {
+        tracked.put(item, scope);
+        if (evicted != null) {
+            tracked.remove(evicted, scope);
+        }
+    }
+
+    private Scope scope(String scope) {
+        return scopes.computeIfAbsent(scope,
+                key -> new Scope(new DecayedTopK<>(capacity, halfLifeMillis, System.currentTimeMillis())));
+    }
+
+    private record ItemRef(TrendingItemType type, Long id) implements Comparable<ItemRef> {
+
+        @Override
+        public int compareTo(ItemRef other) {
+            int byType = type.compareTo(other.type);
+            return byType != 0 ? byType : id.compareTo(other.id);
+        }
+    }
+
+    private static final class Scope {
+        final DecayedTopK<ItemRef, String> topK;
+        final AtomicBoolean snapshotDirty = new AtomicBoolean();
+        final AtomicBoolean persistDirty = new AtomicBoolean();
+        volatile List<TrendingItemResponse> snapshot = List.of();
+
+        Scope(DecayedTopK<ItemRef, String> topK) {
+            this.topK = topK;
+        }
+
+        void markDirty() {
+            snapshotDirty.set(true);
+            persistDirty.set(true);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * 페이지뷰 비콘 (인증 불필요)
+ * - navigator.sendBeacon으로 보내 페이지 렌더링/이동을 막지 않음 (미지원 브라우저는 fetch keepalive)
+ * - 방문자 ID는 localStorage에 보관하는 임의 값 (고유 방문자 집계용, 개인정보 없음)
+ */
+
+export type PageViewTarget = 'POST' | 'CONTENT' | 'INTERIOR' | 'BOARD';
+
+const VISITOR_KEY = 'bincms-visitor-id';
+
+const visitorId = (): string => {
+  try {
+    let id = localStorage.getItem(VISITOR_KEY);
+    if (!id) {
+      id = crypto.randomUUID();
+      localStorage.setItem(VISITOR_KEY, id);
+    }
+    return id;
+  } catch {
+    return '';
+  }
+};
+
+export const trackPageView = (type: PageViewTarget, id: string | number): void => {
+  const baseURL = import.meta.env.VITE_API_BASE_URL || '/api/v1';
+  const params = new URLSearchParams({ type, id: String(id), v: visitorId() });
+  const url = `${baseURL}/public/analytics/views?${params}`;
+  if (navigator.sendBeacon && navigator.sendBeacon(url)) {
+    return;
+  }
+  fetch(url, { method: 'POST', keepalive: true }).catch(() => undefined);
+};
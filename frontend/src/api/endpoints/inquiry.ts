@@ -20,7 +20,30 @@ export interface InquiryResponse {
   modDt: string;
 }
 
+/** 견적문의 대시보드 집계 (서버 롤업 테이블 기준) */
+export interface InquiryDashboardResponse {
+  total: number;
+  totalByStatus: Record<string, number>;
+  from: string;
+  to: string;
+  periodTotal: number;
+  byStatus: Record<string, number>;
+  byType: Record<string, number>;
+  byBudget: Record<string, number>;
+  daily: { date: string; count: number }[];
+}
+
 export const inquiryApi = {
+  /** 대시보드 집계 조회 (기본: 최근 30일) */
+  getStats: async (from?: string, to?: string): Promise<ApiResponse<InquiryDashboardResponse>> => {
+    const params: Record<string, unknown> = {};
+    if (from) params.from = from;
+    if (to) params.to = to;
+    const response = await client.get('/inquiries/stats', { params });
+    return response.data;
+  },
+
+
   /** 견적문의 목록 조회 */
   getAll: async (
     page: number = 0,
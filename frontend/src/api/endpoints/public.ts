@@ -76,9 +76,14 @@ export interface InquiryResponse {
   modDt: string;
 }
 
+/** 견적문의 접수 응답 (저장은 서버에서 비동기 처리) */
+export interface InquiryReceiptResponse {
+  receivedAt: string;
+}
+
 export const publicInquiryApi = {
   /** 견적문의 등록 */
-  create: async (data: InquiryCreateRequest): Promise<ApiResponse<InquiryResponse>> => {
+  create: async (data: InquiryCreateRequest): Promise<ApiResponse<InquiryReceiptResponse>> => {
     const response = await client.post('/public/inquiries', data);
     return response.data;
   },
@@ -92,3 +97,25 @@ export const publicPopupApi = {
     return response.data;
   },
 };
+
+// ── 인기글 Public API ──
+export interface TrendingItemResponse {
+  type: 'POST' | 'INTERIOR';
+  id: number;
+  title: string;
+  score: number;
+}
+
+export const publicTrendingApi = {
+  /** 게시판별 인기글 */
+  getByBoard: async (boardCode: string, limit: number = 5): Promise<ApiResponse<TrendingItemResponse[]>> => {
+    const response = await client.get(`/public/trending/boards/${boardCode}`, { params: { limit } });
+    return response.data;
+  },
+
+  /** 인기 시공사례 */
+  getInteriors: async (limit: number = 5): Promise<ApiResponse<TrendingItemResponse[]>> => {
+    const response = await client.get('/public/trending/interiors', { params: { limit } });
+    return response.data;
+  },
+};
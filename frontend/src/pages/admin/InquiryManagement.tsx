@@ -58,6 +58,12 @@ const InquiryManagement: React.FC = () => {
     queryFn: () => inquiryApi.getAll(currentPage - 1, 10, filterStatus),
   });
 
+  // 상태별 건수 (전체 기간 집계)
+  const { data: statsData } = useQuery({
+    queryKey: ['inquiryStats'],
+    queryFn: () => inquiryApi.getStats(),
+  });
+
   // 상세 조회
   const { data: detailData } = useQuery({
     queryKey: ['inquiry', selectedInquiry?.id],
@@ -73,6 +79,7 @@ const InquiryManagement: React.FC = () => {
       message.success('상태가 변경되었습니다.');
       queryClient.invalidateQueries({ queryKey: ['inquiries'] });
       queryClient.invalidateQueries({ queryKey: ['inquiry'] });
+      queryClient.invalidateQueries({ queryKey: ['inquiryStats'] });
       setStatusModalOpen(false);
     },
     onError: () => message.error('상태 변경에 실패했습니다.'),
@@ -94,11 +101,11 @@ const InquiryManagement: React.FC = () => {
   const inquiries = data?.data?.content || [];
   const totalElements = data?.data?.totalElements || 0;
 
-  // 통계 계산
-  const allInquiries = inquiries;
-  const pendingCount = allInquiries.filter(i => i.status === 'PENDING').length;
-  const inProgressCount = allInquiries.filter(i => i.status === 'IN_PROGRESS').length;
-  const completedCount = allInquiries.filter(i => i.status === 'COMPLETED').length;
+  // 통계 (현재 페이지가 아닌 전체 기간 기준)
+  const totalByStatus = statsData?.data?.totalByStatus || {};
+  const pendingCount = totalByStatus.PENDING || 0;
+  const inProgressCount = totalByStatus.IN_PROGRESS || 0;
+  const completedCount = totalByStatus.COMPLETED || 0;
 
   // 상세보기
   const handleViewDetail = (record: InquiryResponse) => {
@@ -235,7 +242,7 @@ const InquiryManagement: React.FC = () => {
           <Card size="small">
             <Statistic
               title="전체 문의"
-              value={totalElements}
+              value={statsData?.data?.total ?? totalElements}
               valueStyle={{ color: '#1890ff' }}
             />
           </Card>
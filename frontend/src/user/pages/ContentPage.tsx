@@ -1,9 +1,10 @@
-import React from 'react';
+import React, { useEffect } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
 import { useQuery } from '@tanstack/react-query';
 import { Spin, Result, Button, Typography } from 'antd';
 import { ArrowLeftOutlined, HomeOutlined } from '@ant-design/icons';
 import { publicContentApi } from '../../api/endpoints/content';
+import { trackPageView } from '../../api/endpoints/analytics';
 import 'ckeditor5/ckeditor5.css';
 
 const { Title } = Typography;
@@ -21,6 +22,12 @@ const ContentPage: React.FC = () => {
     enabled: !!contentKey,
   });
 
+  useEffect(() => {
+    if (content) {
+      trackPageView('CONTENT', content.contentKey);
+    }
+  }, [content?.contentKey]);
+
   if (isLoading) {
     return (
       <div style={{
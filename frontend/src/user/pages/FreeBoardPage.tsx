@@ -1,4 +1,4 @@
-import React, { useState, useMemo } from 'react';
+import React, { useEffect, useState, useMemo } from 'react';
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { Spin, Empty, Pagination, Tag, Button, Input, message, Popconfirm } from 'antd';
 import { EyeOutlined, CalendarOutlined, CommentOutlined, EditOutlined, DeleteOutlined, PlusOutlined } from '@ant-design/icons';
@@ -13,6 +13,7 @@ import {
 } from 'ckeditor5';
 import { CKEditorUploadAdapterPlugin } from '../../shared/utils/ckEditorUploadAdapter';
 import { publicPostApi } from '../../api/endpoints/public';
+import { trackPageView } from '../../api/endpoints/analytics';
 import { userPostApi, PostResponse } from '../../api/endpoints/post';
 import { publicCommentApi } from '../../api/endpoints/comment';
 import { useAuthStore } from '../../stores/authStore';
@@ -93,6 +94,16 @@ const FreeBoardPage: React.FC<FreeBoardPageProps> = ({ boardCode, title, subtitl
     enabled: !!selectedPost && mode === 'detail',
   });
 
+  useEffect(() => {
+    trackPageView('BOARD', boardCode);
+  }, [boardCode]);
+
+  useEffect(() => {
+    if (selectedPost && mode === 'detail') {
+      trackPageView('POST', selectedPost.id);
+    }
+  }, [selectedPost?.id, mode]);
+
   // 댓글 수 조회 (목록에서 사용)
   const postIds = (data?.content || []).map((p) => p.id);
   const { data: commentCounts } = useQuery({
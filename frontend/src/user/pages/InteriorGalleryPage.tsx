@@ -1,8 +1,9 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { useQuery } from '@tanstack/react-query';
 import { Spin, Empty, Pagination, Modal } from 'antd';
 import { EyeOutlined, CalendarOutlined } from '@ant-design/icons';
 import { publicInteriorApi } from '../../api/endpoints/public';
+import { trackPageView } from '../../api/endpoints/analytics';
 import { InteriorResponse, InteriorCategory } from '../../api/endpoints/interior';
 import 'ckeditor5/ckeditor5.css';
 import './InteriorGalleryPage.css';
@@ -36,6 +37,12 @@ const InteriorGalleryPage: React.FC<InteriorGalleryPageProps> = ({ category, tit
     enabled: !!selectedItem,
   });
 
+  useEffect(() => {
+    if (selectedItem) {
+      trackPageView('INTERIOR', selectedItem.id);
+    }
+  }, [selectedItem?.id]);
+
   const items = data?.content || [];
   const totalElements = data?.totalElements || 0;
 
@@ -1,8 +1,9 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { useQuery } from '@tanstack/react-query';
 import { Spin, Empty, Pagination, Tag } from 'antd';
 import { EyeOutlined, CalendarOutlined } from '@ant-design/icons';
 import { publicPostApi } from '../../api/endpoints/public';
+import { trackPageView } from '../../api/endpoints/analytics';
 import { PostResponse } from '../../api/endpoints/post';
 import 'ckeditor5/ckeditor5.css';
 import './PostListPage.css';
@@ -36,6 +37,16 @@ const PostListPage: React.FC<PostListPageProps> = ({ boardCode, title, subtitle
     enabled: !!selectedPost,
   });
 
+  useEffect(() => {
+    trackPageView('BOARD', boardCode);
+  }, [boardCode]);
+
+  useEffect(() => {
+    if (selectedPost) {
+      trackPageView('POST', selectedPost.id);
+    }
+  }, [selectedPost?.id]);
+
   const posts = data?.content || [];
   const totalElements = data?.totalElements || 0;
 